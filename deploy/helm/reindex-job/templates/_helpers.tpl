@@ -44,3 +44,11 @@ app.kubernetes.io/instance: {{ .Release.Name }}
 {{- define "reindex-job.configMapName" -}}
 {{- default (printf "%s-config" (include "reindex-job.fullname" .)) .Values.configMap.name -}}
 {{- end -}}
+
+{{- define "reindex-job.tuningConfigMapName" -}}
+{{- default (printf "%s-tuning" (include "reindex-job.fullname" .)) .Values.liveTuning.name -}}
+{{- end -}}
+
+{{- define "reindex-job.workQueueConfigMapName" -}}
+{{- printf "%s-work-queue" (include "reindex-job.fullname" .) -}}
+{{- end -}}
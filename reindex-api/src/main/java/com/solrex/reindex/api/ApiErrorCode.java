@@ -4,6 +4,9 @@ enum ApiErrorCode {
     VALIDATION_ERROR("VALIDATION_ERROR"),
     REINDEX_JOB_CONFLICT("REINDEX_JOB_CONFLICT"),
     REINDEX_JOB_CREATE_FAILED("REINDEX_JOB_CREATE_FAILED"),
+    REINDEX_JOB_NOT_FOUND("REINDEX_JOB_NOT_FOUND"),
+    REINDEX_JOB_UPDATE_FAILED("REINDEX_JOB_UPDATE_FAILED"),
+    REINDEX_QUEUE_FULL("REINDEX_QUEUE_FULL"),
     INTERNAL_ERROR("INTERNAL_ERROR");
 
     private final String value;
@@ -7,14 +7,49 @@ public record CreateReindexJobResponse(
     String jobName,
     String jobNamespace,
     String requestConfigMapName,
+    String tuningConfigMapName,
+    int parallelism,
+    int queuePosition,
     OffsetDateTime acceptedAt
 ) {
     public static CreateReindexJobResponse accepted(
         String jobName,
         String jobNamespace,
         String requestConfigMapName,
+        String tuningConfigMapName,
+        int parallelism,
         OffsetDateTime acceptedAt
     ) {
-        return new CreateReindexJobResponse("ACCEPTED", jobName, jobNamespace, requestConfigMapName, acceptedAt);
+        return new CreateReindexJobResponse(
+            "ACCEPTED",
+            jobName,
+            jobNamespace,
+            requestConfigMapName,
+            tuningConfigMapName,
+            parallelism,
+            0,
+            acceptedAt
+        );
+    }
+
+    public static CreateReindexJobResponse queued(
+        String jobName,
+        String jobNamespace,
+        String requestConfigMapName,
+        String tuningConfigMapName,
+        int parallelism,
+        int queuePosition,
+        OffsetDateTime acceptedAt
+    ) {
+        return new CreateReindexJobResponse(
+            "QUEUED",
+            jobName,
+            jobNamespace,
+            requestConfigMapName,
+            tuningConfigMapName,
+            parallelism,
+            queuePosition,
+            acceptedAt
+        );
     }
 }
@@ -0,0 +1,80 @@
+package com.solrex.reindex.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class ReindexAdmission {
+    private final int maxJobsPerCluster;
+    private final int maxWriteConcurrencyPerCluster;
+
+    ReindexAdmission(int maxJobsPerCluster, int maxWriteConcurrencyPerCluster) {
+        this.maxJobsPerCluster = maxJobsPerCluster;
+        this.maxWriteConcurrencyPerCluster = maxWriteConcurrencyPerCluster;
+    }
+
+    static ReindexAdmission from(ReindexApiConfig.Admission config) {
+        return new ReindexAdmission(config.maxJobsPerCluster(), config.maxWriteConcurrencyPerCluster());
+    }
+
+    int maxWriteConcurrencyPerCluster() {
+        return maxWriteConcurrencyPerCluster;
+    }
+
+    boolean fitsAlone(Footprint job) {
+        return job.writeConcurrency() <= maxWriteConcurrencyPerCluster;
+    }
+
+    List<Footprint> admit(List<Footprint> running, List<Footprint> queued) {
+        var usage = new Usage();
+        running.forEach(usage::reserve);
+
+        var blockedClusters = new HashSet<String>();
+        var admitted = new ArrayList<Footprint>();
+        for (var job : queued) {
+            var clusters = job.clusters();
+            if (clusters.stream().noneMatch(blockedClusters::contains) && usage.fits(job)) {
+                usage.reserve(job);
+                admitted.add(job);
+            } else {
+                blockedClusters.addAll(clusters);
+            }
+        }
+        return List.copyOf(admitted);
+    }
+
+    record Footprint(String jobName, String sourceCluster, String targetCluster, int writeConcurrency) {
+        Set<String> clusters() {
+            var clusters = new LinkedHashSet<String>();
+            if (sourceCluster != null) {
+                clusters.add(sourceCluster);
+            }
+            if (targetCluster != null) {
+                clusters.add(targetCluster);
+            }
+            return clusters;
+        }
+    }
+
+    private final class Usage {
+        private final Map<String, Integer> jobs = new HashMap<>();
+        private final Map<String, Integer> writeConcurrency = new HashMap<>();
+
+        private boolean fits(Footprint job) {
+            return job.clusters().stream().allMatch(cluster ->
+                jobs.getOrDefault(cluster, 0) < maxJobsPerCluster
+                    && writeConcurrency.getOrDefault(cluster, 0) + job.writeConcurrency() <= maxWriteConcurrencyPerCluster);
+        }
+
+        private void reserve(Footprint job) {
+            for (var cluster : job.clusters()) {
+                jobs.merge(cluster, 1, Integer::sum);
+                writeConcurrency.merge(cluster, job.writeConcurrency(), Integer::sum);
+            }
+        }
+    }
+}
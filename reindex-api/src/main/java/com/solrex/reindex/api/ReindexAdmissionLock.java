@@ -0,0 +1,158 @@
+package com.solrex.reindex.api;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.jboss.logging.Logger;
+
+final class ReindexAdmissionLock {
+    private static final Logger LOG = Logger.getLogger(ReindexAdmissionLock.class);
+    static final String CONFIG_MAP_NAME = "reindex-admission";
+    static final String HOLDER_KEY = "holder";
+    static final String EXPIRES_AT_KEY = "expiresAt";
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(200);
+
+    private final KubernetesClient kubernetesClient;
+    private final Duration leaseDuration;
+    private final Duration timeout;
+    private final Clock clock;
+    private final String holder;
+    private final Object localLock = new Object();
+
+    ReindexAdmissionLock(KubernetesClient kubernetesClient, ReindexApiConfig.Admission config, Clock clock) {
+        this(
+            kubernetesClient,
+            Objects.requireNonNull(config, "config must not be null").lockLeaseDuration(),
+            config.lockTimeout(),
+            clock,
+            System.getenv().getOrDefault("HOSTNAME", "reindex-api") + "-" + UUID.randomUUID()
+        );
+    }
+
+    ReindexAdmissionLock(
+        KubernetesClient kubernetesClient,
+        Duration leaseDuration,
+        Duration timeout,
+        Clock clock,
+        String holder
+    ) {
+        this.kubernetesClient = Objects.requireNonNull(kubernetesClient, "kubernetesClient must not be null");
+        this.leaseDuration = Objects.requireNonNull(leaseDuration, "leaseDuration must not be null");
+        this.timeout = Objects.requireNonNull(timeout, "timeout must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.holder = Objects.requireNonNull(holder, "holder must not be null");
+    }
+
+    <T> T withLock(String namespace, Supplier<T> action) {
+        Objects.requireNonNull(namespace, "namespace must not be null");
+        Objects.requireNonNull(action, "action must not be null");
+        synchronized (localLock) {
+            var version = acquire(namespace);
+            try {
+                return action.get();
+            } finally {
+                release(namespace, version);
+            }
+        }
+    }
+
+    private String acquire(String namespace) {
+        var deadline = clock.instant().plus(timeout);
+        while (true) {
+            var current = configMaps(namespace).withName(CONFIG_MAP_NAME).get();
+            var now = clock.instant();
+            if (current == null || !heldByOther(current, now)) {
+                var acquired = write(namespace, current, holder, now.plus(leaseDuration).toString());
+                if (acquired != null) {
+                    return acquired;
+                }
+            }
+            if (!now.isBefore(deadline)) {
+                throw new ReindexJobCreationException(
+                    "Timed out waiting for the admission lock in ConfigMap " + CONFIG_MAP_NAME
+                        + " held by " + (current == null ? null : data(current, HOLDER_KEY)) + ".",
+                    null
+                );
+            }
+            sleep();
+        }
+    }
+
+    private void release(String namespace, String version) {
+        var current = configMaps(namespace).withName(CONFIG_MAP_NAME).get();
+        if (current == null || !version.equals(current.getMetadata().getResourceVersion())) {
+            LOG.warnf(
+                "Admission lock was taken over before it was released; its lease may be too short. configMap=%s",
+                CONFIG_MAP_NAME);
+            return;
+        }
+        try {
+            write(namespace, current, "", "");
+        } catch (KubernetesClientException e) {
+            LOG.warnf(e, "Failed to release the admission lock; it expires on its own. configMap=%s", CONFIG_MAP_NAME);
+        }
+    }
+
+    private boolean heldByOther(ConfigMap configMap, Instant now) {
+        var currentHolder = data(configMap, HOLDER_KEY);
+        var expiresAt = data(configMap, EXPIRES_AT_KEY);
+        if (currentHolder == null || currentHolder.isEmpty() || holder.equals(currentHolder)
+            || expiresAt == null || expiresAt.isEmpty()) {
+            return false;
+        }
+        return now.isBefore(Instant.parse(expiresAt));
+    }
+
+    private String write(String namespace, ConfigMap current, String newHolder, String expiresAt) {
+        var builder = current == null
+            ? new ConfigMapBuilder()
+                .withNewMetadata()
+                .withNamespace(namespace)
+                .withName(CONFIG_MAP_NAME)
+                .addToLabels(ReindexJobService.jobSelector())
+                .endMetadata()
+            : new ConfigMapBuilder(current);
+        var configMap = builder
+            .addToData(HOLDER_KEY, newHolder)
+            .addToData(EXPIRES_AT_KEY, expiresAt)
+            .build();
+        try {
+            var written = current == null
+                ? configMaps(namespace).resource(configMap).create()
+                : configMaps(namespace).resource(configMap).update();
+            return written.getMetadata().getResourceVersion();
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == 409) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private NonNamespaceOperation<ConfigMap, ConfigMapList, Resource<ConfigMap>> configMaps(String namespace) {
+        return kubernetesClient.configMaps().inNamespace(namespace);
+    }
+
+    private static String data(ConfigMap configMap, String key) {
+        return configMap.getData() == null ? null : configMap.getData().get(key);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(RETRY_INTERVAL.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReindexJobCreationException("Interrupted while waiting for the admission lock.", e);
+        }
+    }
+}
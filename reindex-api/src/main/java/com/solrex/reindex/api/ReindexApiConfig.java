@@ -2,6 +2,7 @@ package com.solrex.reindex.api;
 
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import java.time.Duration;
 import java.util.Optional;
 
 @ConfigMapping(prefix = "reindex.api")
@@ -10,6 +11,10 @@ public interface ReindexApiConfig {
 
     Job job();
 
+    Admission admission();
+
+    Status status();
+
     interface K8s {
         Optional<String> namespace();
     }
@@ -32,5 +37,74 @@ public interface ReindexApiConfig {
 
         @WithDefault("true")
         boolean kubernetesConfigFailOnMissingConfig();
+
+        @WithDefault("16")
+        int maxParallelism();
+
+        Resources resources();
+    }
+
+    interface Resources {
+        @WithDefault("4096")
+        long averageDocBytes();
+
+        @WithDefault("75")
+        int maxRamPercentage();
+
+        @WithDefault("512Mi")
+        String minMemory();
+
+        @WithDefault("16Gi")
+        String maxMemory();
+
+        @WithDefault("500m")
+        String minCpu();
+
+        @WithDefault("4")
+        String maxCpu();
+
+        @WithDefault("8Gi")
+        String zgcMinHeap();
+
+        Optional<String> memoryRequest();
+
+        Optional<String> memoryLimit();
+
+        Optional<String> cpuRequest();
+
+        Optional<String> cpuLimit();
+
+        Optional<String> javaOptions();
+    }
+
+    interface Status {
+        @WithDefault("PT2S")
+        Duration metricsTimeout();
+
+        @WithDefault("PT5S")
+        Duration metricsCacheTtl();
+
+        @WithDefault("PT1S")
+        Duration eventsInterval();
+    }
+
+    interface Admission {
+        @WithDefault("true")
+        boolean enabled();
+
+        @WithDefault("3")
+        int maxJobsPerCluster();
+
+        @WithDefault("64")
+        int maxWriteConcurrencyPerCluster();
+
+        @WithDefault("100")
+        int maxQueuedJobs();
+
+        @WithDefault("PT30S")
+        Duration lockLeaseDuration();
+
+        @WithDefault("PT30S")
+        Duration lockTimeout();
     }
 }
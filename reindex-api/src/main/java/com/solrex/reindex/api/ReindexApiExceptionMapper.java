@@ -53,6 +53,33 @@ public final class ReindexApiExceptionMapper implements ExceptionMapper<Throwabl
             );
         }
 
+        if (exception instanceof ReindexJobNotFoundException notFoundException) {
+            return error(
+                Response.Status.NOT_FOUND,
+                ApiErrorCode.REINDEX_JOB_NOT_FOUND,
+                notFoundException.getMessage(),
+                List.of()
+            );
+        }
+
+        if (exception instanceof ReindexJobUpdateException updateException) {
+            return error(
+                Response.Status.INTERNAL_SERVER_ERROR,
+                ApiErrorCode.REINDEX_JOB_UPDATE_FAILED,
+                updateException.getMessage(),
+                List.of("Failed to update the job's tuning ConfigMap.")
+            );
+        }
+
+        if (exception instanceof ReindexJobQueueFullException queueFullException) {
+            return error(
+                Response.Status.TOO_MANY_REQUESTS,
+                ApiErrorCode.REINDEX_QUEUE_FULL,
+                queueFullException.getMessage(),
+                List.of("Retry after some queued reindex jobs have started.")
+            );
+        }
+
         return error(
             Response.Status.INTERNAL_SERVER_ERROR,
             ApiErrorCode.INTERNAL_ERROR,
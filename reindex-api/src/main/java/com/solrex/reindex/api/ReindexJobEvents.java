@@ -0,0 +1,82 @@
+package com.solrex.reindex.api;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class ReindexJobEvents {
+    private static final Logger LOG = Logger.getLogger(ReindexJobEvents.class);
+
+    private final ReindexJobStatusService statusService;
+    private final ScheduledExecutorService scheduler;
+    private final Duration interval;
+    private final Map<String, Multi<ReindexJobStatusResponse>> feeds = new ConcurrentHashMap<>();
+
+    @Inject
+    public ReindexJobEvents(ReindexApiConfig config, ReindexJobStatusService statusService) {
+        this(statusService, Infrastructure.getDefaultWorkerPool(), config.status().eventsInterval());
+    }
+
+    ReindexJobEvents(ReindexJobStatusService statusService, ScheduledExecutorService scheduler, Duration interval) {
+        this.statusService = Objects.requireNonNull(statusService, "statusService must not be null");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler must not be null");
+        this.interval = Objects.requireNonNull(interval, "interval must not be null");
+    }
+
+    public Multi<ReindexJobStatusResponse> stream(String jobName, ReindexJobStatusResponse current) {
+        Objects.requireNonNull(current, "current must not be null");
+        if (isTerminal(current)) {
+            return Multi.createFrom().item(current);
+        }
+
+        var feed = feeds.computeIfAbsent(jobName, this::feed);
+        return Multi.createBy().concatenating().streams(Multi.createFrom().item(current), feed)
+            .skip().repetitions()
+            .onOverflow().dropPreviousItems();
+    }
+
+    int activeFeeds() {
+        return feeds.size();
+    }
+
+    private Multi<ReindexJobStatusResponse> feed(String jobName) {
+        return poll(jobName)
+            .onTermination().invoke(() -> feeds.remove(jobName))
+            .broadcast().withCancellationAfterLastSubscriberDeparture().toAllSubscribers();
+    }
+
+    private Multi<ReindexJobStatusResponse> poll(String jobName) {
+        return Multi.createFrom().emitter(emitter -> {
+            var intervalMillis = Math.max(interval.toMillis(), 1);
+            var task = scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    var status = statusService.get(jobName);
+                    emitter.emit(status);
+                    if (isTerminal(status)) {
+                        emitter.complete();
+                    }
+                } catch (ReindexJobNotFoundException e) {
+                    emitter.complete();
+                } catch (RuntimeException e) {
+                    LOG.debugf(e, "Failed to refresh reindex job status. jobName=%s", jobName);
+                }
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+            emitter.onTermination(() -> task.cancel(false));
+        }, BackPressureStrategy.LATEST);
+    }
+
+    private static boolean isTerminal(ReindexJobStatusResponse status) {
+        return ReindexJobStatusService.PHASE_SUCCEEDED.equals(status.phase())
+            || ReindexJobStatusService.PHASE_FAILED.equals(status.phase());
+    }
+}
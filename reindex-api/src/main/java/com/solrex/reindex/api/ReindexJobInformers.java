@@ -0,0 +1,126 @@
+package com.solrex.reindex.api;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.quarkus.runtime.ShutdownEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class ReindexJobInformers {
+    private static final Logger LOG = Logger.getLogger(ReindexJobInformers.class);
+    private static final long RESYNC_PERIOD_MILLIS = 60_000;
+    private static final String POD_JOB_INDEX = "reindex-job";
+
+    private final KubernetesClient kubernetesClient;
+    private final ReindexJobService reindexJobService;
+    private SharedIndexInformer<Job> jobInformer;
+    private SharedIndexInformer<Pod> podInformer;
+    private String namespace;
+
+    public ReindexJobInformers(KubernetesClient kubernetesClient, ReindexJobService reindexJobService) {
+        this.kubernetesClient = Objects.requireNonNull(kubernetesClient, "kubernetesClient must not be null");
+        this.reindexJobService = Objects.requireNonNull(reindexJobService, "reindexJobService must not be null");
+    }
+
+    public List<Job> jobs() {
+        var informer = start();
+        if (informer == null) {
+            return List.of();
+        }
+        return informer.getStore().list().stream()
+            .sorted(Comparator.comparing((Job job) -> Objects.toString(job.getMetadata().getCreationTimestamp(), ""))
+                .reversed()
+                .thenComparing(job -> job.getMetadata().getName()))
+            .toList();
+    }
+
+    public Optional<Job> job(String jobName) {
+        var informer = start();
+        if (informer == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(informer.getStore().getByKey(namespace + "/" + jobName));
+    }
+
+    public List<Pod> pods(String jobName) {
+        start();
+        if (podInformer == null) {
+            return List.of();
+        }
+        return podInformer.getIndexer().byIndex(POD_JOB_INDEX, jobName).stream()
+            .sorted(Comparator.comparing(pod -> pod.getMetadata().getName()))
+            .toList();
+    }
+
+    public void addJobHandler(ResourceEventHandler<Job> handler) {
+        var informer = start();
+        if (informer != null) {
+            informer.addEventHandler(handler);
+        }
+    }
+
+    synchronized SharedIndexInformer<Job> start() {
+        if (jobInformer != null) {
+            return jobInformer;
+        }
+
+        try {
+            namespace = reindexJobService.namespace();
+        } catch (RuntimeException e) {
+            LOG.warn("Cannot resolve the reindex job namespace; job informers are not started", e);
+            return null;
+        }
+        if (namespace == null) {
+            return null;
+        }
+
+        jobInformer = kubernetesClient.batch()
+            .v1()
+            .jobs()
+            .inNamespace(namespace)
+            .withLabels(ReindexJobService.jobSelector())
+            .runnableInformer(RESYNC_PERIOD_MILLIS);
+        podInformer = kubernetesClient.pods()
+            .inNamespace(namespace)
+            .withLabel(ReindexJobService.LABEL_REINDEX_JOB)
+            .runnableInformer(RESYNC_PERIOD_MILLIS);
+        podInformer.addIndexers(Map.of(POD_JOB_INDEX, pod ->
+            List.of(pod.getMetadata().getLabels().get(ReindexJobService.LABEL_REINDEX_JOB))));
+
+        startInformer(jobInformer, "jobs", namespace);
+        startInformer(podInformer, "pods", namespace);
+        return jobInformer;
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        synchronized (this) {
+            if (jobInformer != null) {
+                jobInformer.close();
+            }
+            if (podInformer != null) {
+                podInformer.close();
+            }
+        }
+    }
+
+    private static <T extends HasMetadata> void startInformer(SharedIndexInformer<T> informer, String kind, String namespace) {
+        informer.start().whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                LOG.warnf(failure, "Failed to start reindex %s informer. namespace=%s", kind, namespace);
+            } else {
+                LOG.infof("Caching reindex %s. namespace=%s", kind, namespace);
+            }
+        });
+    }
+}
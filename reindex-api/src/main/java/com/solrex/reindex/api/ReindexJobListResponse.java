@@ -0,0 +1,6 @@
+package com.solrex.reindex.api;
+
+import java.util.List;
+
+public record ReindexJobListResponse(List<ReindexJobStatusResponse> jobs) {
+}
@@ -0,0 +1,146 @@
+package com.solrex.reindex.api;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class ReindexJobMetricsScraper {
+    private static final Logger LOG = Logger.getLogger(ReindexJobMetricsScraper.class);
+    private static final String PROGRESS = "reindex_progress";
+    private static final String THROUGHPUT = "reindex_throughput_documents_per_second";
+    private static final String ETA = "reindex_eta_seconds";
+    private static final String DOCS_PLANNED = "reindex_docs_planned";
+    private static final String DOCS_WRITTEN = "reindex_docs_written_total";
+    private static final Set<String> SCRAPED_METRICS = Set.of(PROGRESS, THROUGHPUT, ETA, DOCS_PLANNED, DOCS_WRITTEN);
+
+    private final ReindexApiConfig config;
+    private final HttpClient httpClient;
+    private final Clock clock;
+    private final Map<String, Scrape> scrapes = new ConcurrentHashMap<>();
+
+    @Inject
+    public ReindexJobMetricsScraper(ReindexApiConfig config) {
+        this(config, HttpClient.newBuilder().connectTimeout(config.status().metricsTimeout()).build(), Clock.systemUTC());
+    }
+
+    ReindexJobMetricsScraper(ReindexApiConfig config, HttpClient httpClient, Clock clock) {
+        this.config = Objects.requireNonNull(config, "config must not be null");
+        this.httpClient = Objects.requireNonNull(httpClient, "httpClient must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    public Map<String, PodMetrics> scrape(List<Pod> pods) {
+        var now = clock.instant();
+        var refreshes = pods.stream()
+            .filter(pod -> isRunning(pod) && isStale(pod, now))
+            .map(pod -> refresh(pod, now))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(refreshes).join();
+
+        var metrics = new HashMap<String, PodMetrics>();
+        for (var pod : pods) {
+            var scrape = scrapes.get(pod.getMetadata().getUid());
+            if (scrape != null) {
+                metrics.put(pod.getMetadata().getName(), scrape.metrics());
+            }
+        }
+        return metrics;
+    }
+
+    public void forget(List<Pod> livePods) {
+        var uids = livePods.stream().map(pod -> pod.getMetadata().getUid()).collect(Collectors.toSet());
+        scrapes.keySet().retainAll(uids);
+    }
+
+    static Optional<PodMetrics> parse(String prometheusText) {
+        var values = new HashMap<String, Double>();
+        for (var line : prometheusText.split("\n")) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            var nameEnd = line.indexOf('{') >= 0 ? line.indexOf('{') : line.indexOf(' ');
+            var valueStart = line.lastIndexOf(' ');
+            if (nameEnd <= 0 || valueStart <= 0) {
+                continue;
+            }
+            var name = line.substring(0, nameEnd);
+            if (!SCRAPED_METRICS.contains(name)) {
+                continue;
+            }
+            double value;
+            try {
+                value = Double.parseDouble(line.substring(valueStart + 1).trim());
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            values.merge(name, value, Double::sum);
+        }
+
+        if (!values.containsKey(PROGRESS)) {
+            return Optional.empty();
+        }
+        var eta = values.getOrDefault(ETA, Double.NaN);
+        return Optional.of(new PodMetrics(
+            values.get(PROGRESS),
+            values.getOrDefault(THROUGHPUT, 0.0),
+            Double.isFinite(eta) ? Math.round(eta) : null,
+            Math.round(values.getOrDefault(DOCS_WRITTEN, 0.0)),
+            Math.round(values.getOrDefault(DOCS_PLANNED, 0.0))
+        ));
+    }
+
+    private CompletableFuture<Void> refresh(Pod pod, Instant now) {
+        var uri = URI.create("http://" + pod.getStatus().getPodIP() + ":" + ReindexJobService.METRICS_PORT
+            + ReindexJobService.METRICS_PATH);
+        var request = HttpRequest.newBuilder(uri).timeout(config.status().metricsTimeout()).GET().build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenAccept(response -> {
+                if (response.statusCode() != 200) {
+                    LOG.debugf("Unexpected metrics response from reindex pod. pod=%s status=%d",
+                        pod.getMetadata().getName(), response.statusCode());
+                    return;
+                }
+                parse(response.body()).ifPresent(metrics ->
+                    scrapes.put(pod.getMetadata().getUid(), new Scrape(metrics, now)));
+            })
+            .exceptionally(failure -> {
+                LOG.debugf(failure, "Failed to scrape reindex pod metrics. pod=%s", pod.getMetadata().getName());
+                return null;
+            });
+    }
+
+    private boolean isStale(Pod pod, Instant now) {
+        var scrape = scrapes.get(pod.getMetadata().getUid());
+        return scrape == null || !scrape.scrapedAt().plus(config.status().metricsCacheTtl()).isAfter(now);
+    }
+
+    private static boolean isRunning(Pod pod) {
+        return pod.getStatus() != null
+            && "Running".equals(pod.getStatus().getPhase())
+            && pod.getStatus().getPodIP() != null;
+    }
+
+    public record PodMetrics(double progress, double docsPerSecond, Long etaSeconds, long docsWritten, long docsPlanned) {
+    }
+
+    private record Scrape(PodMetrics metrics, Instant scrapedAt) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.solrex.reindex.api;
+
+public final class ReindexJobNotFoundException extends RuntimeException {
+    public ReindexJobNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.solrex.reindex.api;
+
+public record ReindexJobProgress(
+    long docsIndexed,
+    long docsPlanned,
+    double percent,
+    double docsPerSecond,
+    Long etaSeconds
+) {
+    public static final ReindexJobProgress UNKNOWN = new ReindexJobProgress(0, 0, 0.0, 0.0, null);
+}
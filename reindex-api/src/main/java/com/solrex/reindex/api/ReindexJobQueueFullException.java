@@ -0,0 +1,7 @@
+package com.solrex.reindex.api;
+
+public final class ReindexJobQueueFullException extends RuntimeException {
+    public ReindexJobQueueFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
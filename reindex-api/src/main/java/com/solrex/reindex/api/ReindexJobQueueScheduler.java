@@ -0,0 +1,65 @@
+package com.solrex.reindex.api;
+
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.util.Objects;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class ReindexJobQueueScheduler {
+    private static final Logger LOG = Logger.getLogger(ReindexJobQueueScheduler.class);
+
+    private final ReindexApiConfig config;
+    private final ReindexJobInformers informers;
+    private final ReindexJobService reindexJobService;
+
+    public ReindexJobQueueScheduler(
+        ReindexApiConfig config,
+        ReindexJobInformers informers,
+        ReindexJobService reindexJobService
+    ) {
+        this.config = Objects.requireNonNull(config, "config must not be null");
+        this.informers = Objects.requireNonNull(informers, "informers must not be null");
+        this.reindexJobService = Objects.requireNonNull(reindexJobService, "reindexJobService must not be null");
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!config.admission().enabled()) {
+            return;
+        }
+
+        informers.addJobHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(Job job) {
+            }
+
+            @Override
+            public void onUpdate(Job previous, Job current) {
+                var resync = Objects.equals(
+                    previous.getMetadata().getResourceVersion(),
+                    current.getMetadata().getResourceVersion()
+                );
+                if (resync || ReindexJobService.isFinished(previous) != ReindexJobService.isFinished(current)) {
+                    startQueuedJobs();
+                }
+            }
+
+            @Override
+            public void onDelete(Job job, boolean deletedFinalStateUnknown) {
+                startQueuedJobs();
+            }
+        });
+        startQueuedJobs();
+    }
+
+    private void startQueuedJobs() {
+        try {
+            reindexJobService.startQueuedJobs();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to start queued reindex jobs", e);
+        }
+    }
+}
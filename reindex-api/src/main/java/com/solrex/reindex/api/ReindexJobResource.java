@@ -1,38 +1,109 @@
 package com.solrex.reindex.api;
 
 import com.solrex.reindex.model.ReindexRequest;
+import com.solrex.reindex.model.TuningOverride;
+import io.smallrye.mutiny.Multi;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.ArrayList;
 import java.util.List;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 @Path("/api/v1/reindex/jobs")
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 public final class ReindexJobResource {
     private final ReindexJobService reindexJobService;
+    private final ReindexJobStatusService reindexJobStatusService;
+    private final ReindexJobEvents reindexJobEvents;
     private final Validator validator;
 
-    public ReindexJobResource(ReindexJobService reindexJobService, Validator validator) {
+    public ReindexJobResource(
+        ReindexJobService reindexJobService,
+        ReindexJobStatusService reindexJobStatusService,
+        ReindexJobEvents reindexJobEvents,
+        Validator validator
+    ) {
         this.reindexJobService = reindexJobService;
+        this.reindexJobStatusService = reindexJobStatusService;
+        this.reindexJobEvents = reindexJobEvents;
         this.validator = validator;
     }
 
+    @GET
+    public Response list() {
+        return Response.ok(reindexJobStatusService.list()).build();
+    }
+
+    @GET
+    @Path("/{name}")
+    public Response get(@PathParam("name") String name) {
+        return Response.ok(reindexJobStatusService.get(name)).build();
+    }
+
+    @GET
+    @Path("/{name}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<ReindexJobStatusResponse> events(@PathParam("name") String name) {
+        return reindexJobEvents.stream(name, reindexJobStatusService.get(name));
+    }
+
+    @POST
+    public Response create(ReindexRequest request, @QueryParam("averageDocBytes") Long averageDocBytes) {
+        validateRequest(validator, request);
+        if (averageDocBytes != null && averageDocBytes <= 0) {
+            throw new InvalidReindexRequestException(
+                "Invalid request payload.",
+                List.of("averageDocBytes must be greater than 0")
+            );
+        }
+        return Response.accepted(reindexJobService.create(request, averageDocBytes)).build();
+    }
+
+    @PUT
+    @Path("/{name}/tuning")
+    public Response updateTuning(@PathParam("name") String name, TuningOverride tuning) {
+        if (tuning == null) {
+            throw new InvalidReindexRequestException("Invalid tuning payload.", List.of("request body must not be null"));
+        }
+
+        var violations = validator.validate(tuning);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return Response.ok(reindexJobService.updateTuning(name, tuning)).build();
+    }
+
     @POST
-    public Response create(ReindexRequest request) {
+    @Path("/{name}/pause")
+    public Response pause(@PathParam("name") String name) {
+        return Response.ok(reindexJobService.pause(name)).build();
+    }
+
+    @POST
+    @Path("/{name}/resume")
+    public Response resume(@PathParam("name") String name) {
+        return Response.ok(reindexJobService.resume(name)).build();
+    }
+
+    static void validateRequest(Validator validator, ReindexRequest request) {
         validateRequiredFields(request);
 
         var violations = validator.validate(request);
         if (!violations.isEmpty()) {
             throw new ConstraintViolationException(violations);
         }
-        return Response.accepted(reindexJobService.create(request)).build();
     }
 
     private static void validateRequiredFields(ReindexRequest request) {
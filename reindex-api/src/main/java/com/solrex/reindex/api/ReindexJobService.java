@@ -6,23 +6,46 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.solrex.reindex.model.ReindexRequest;
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.model.TuningOverride;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.batch.v1.Job;
 import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobCondition;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import jakarta.inject.Inject;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.time.Clock;
+import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.jboss.logging.Logger;
 
 @ApplicationScoped
 public class ReindexJobService {
+    private static final Logger LOG = Logger.getLogger(ReindexJobService.class);
     private static final String LABEL_PART_OF = "app.kubernetes.io/part-of";
     private static final String LABEL_NAME = "app.kubernetes.io/name";
-    private static final String LABEL_REINDEX_JOB = "solrex.io/reindex-job";
+    static final String LABEL_REINDEX_JOB = "solrex.io/reindex-job";
+    private static final String LABEL_ADMISSION = "solrex.io/admission";
+    private static final String LABEL_DRY_RUN = "solrex.io/dry-run";
+    private static final String ADMISSION_QUEUED = "queued";
+    private static final String ADMISSION_ADMITTED = "admitted";
+    private static final String ANNOTATION_SOURCE_CLUSTER = "solrex.io/source-cluster";
+    private static final String ANNOTATION_TARGET_CLUSTER = "solrex.io/target-cluster";
+    private static final String ANNOTATION_WRITE_CONCURRENCY = "solrex.io/write-concurrency";
+    static final String ANNOTATION_MAX_WRITE_BATCH_SIZE = "solrex.io/max-write-batch-size";
+    static final String ANNOTATION_MAX_WRITE_CONCURRENCY = "solrex.io/max-write-concurrency";
     private static final String LABEL_PART_OF_VALUE = "solrex";
     private static final String LABEL_NAME_VALUE = "reindex";
     private static final String REINDEX_CONTAINER_NAME = "reindex";
@@ -31,13 +54,28 @@ public class ReindexJobService {
         "QUARKUS_KUBERNETES_CONFIG_FAIL_ON_MISSING_CONFIG";
     private static final String ENV_REINDEX_K8S_NAMESPACE = "REINDEX_K8S_NAMESPACE";
     private static final String ENV_REINDEX_CONFIG_MAPS = "REINDEX_CONFIG_MAPS";
+    private static final String ENV_REINDEX_JOB_DRY_RUN_ENABLED = "REINDEX_JOB_DRY_RUN_ENABLED";
+    private static final String ENV_REINDEX_JOB_DRY_RUN_PROBE_COLLECTION = "REINDEX_JOB_DRY_RUN_PROBE_COLLECTION";
+    private static final String ENV_REINDEX_JOB_SUMMARY_FILE = "REINDEX_JOB_SUMMARY_FILE";
+    private static final String ENV_JAVA_TOOL_OPTIONS = "JAVA_TOOL_OPTIONS";
+    private static final String TERMINATION_MESSAGE_PATH = "/dev/termination-log";
+    private static final String METRICS_PORT_NAME = "http";
+    static final int METRICS_PORT = 8080;
+    static final String METRICS_PATH = "/q/metrics";
+    private static final String INDEXED_COMPLETION_MODE = "Indexed";
     static final String REQUEST_CONFIG_KEY = "reindex.job.request";
+    static final String TUNING_CONFIG_MAP_CONFIG_KEY = "reindex.job.tuning-config-map";
+    static final String TUNING_CONFIG_KEY = "tuning.yaml";
+    private static final int DRY_RUN_WRITE_CONCURRENCY = 1;
 
     private final ReindexApiConfig config;
     private final KubernetesClient kubernetesClient;
     private final ReindexJobNameGenerator jobNameGenerator;
     private final ObjectMapper yamlObjectMapper;
     private final Clock clock;
+    private final ReindexAdmission admission;
+    private final ReindexJobSizing sizing;
+    private final ReindexAdmissionLock admissionLock;
 
     @Inject
     public ReindexJobService(
@@ -60,29 +98,291 @@ public class ReindexJobService {
         this.jobNameGenerator = Objects.requireNonNull(jobNameGenerator, "jobNameGenerator must not be null");
         this.yamlObjectMapper = Objects.requireNonNull(yamlObjectMapper, "yamlObjectMapper must not be null");
         this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.admission = ReindexAdmission.from(config.admission());
+        this.sizing = new ReindexJobSizing(config.job().resources());
+        this.admissionLock = new ReindexAdmissionLock(kubernetesClient, config.admission(), clock);
     }
 
     public CreateReindexJobResponse create(ReindexRequest request) {
+        return create(request, null);
+    }
+
+    public CreateReindexJobResponse create(ReindexRequest request, Long averageDocBytes) {
         Objects.requireNonNull(request, "request must not be null");
+        if (request.parallelism() > config.job().maxParallelism()) {
+            throw new InvalidReindexRequestException(
+                "Invalid request payload.",
+                List.of("parallelism must be less than or equal to " + config.job().maxParallelism())
+            );
+        }
 
         var namespace = resolveNamespace();
         var jobName = jobNameGenerator.newJobName(clock);
+        var footprint = new ReindexAdmission.Footprint(
+            jobName,
+            request.source().cluster().baseUrl(),
+            request.target().cluster().baseUrl(),
+            request.tuning().ceiling().writeConcurrency() * request.parallelism()
+        );
+        if (config.admission().enabled() && !admission.fitsAlone(footprint)) {
+            throw new InvalidReindexRequestException(
+                "Invalid request payload.",
+                List.of(writeConcurrencyLabel(request.tuning())
+                    + " multiplied by parallelism must be less than or equal to "
+                    + admission.maxWriteConcurrencyPerCluster())
+            );
+        }
+
         var configMapName = jobName + "-request";
+        var tuningConfigMapName = tuningConfigMapName(jobName);
         var requestYaml = toYaml(request);
+        var jobSizing = size(jobName, request, averageDocBytes);
+
+        var configMap = buildConfigMap(namespace, configMapName, requestYaml, tuningConfigMapName, jobName);
+        var tuningConfigMap = buildTuningConfigMap(namespace, tuningConfigMapName, jobName, request.tuning());
+
+        var queuePosition = withAdmissionLock(namespace, () -> {
+            var position = queuePosition(namespace, footprint);
+            var job = buildJob(
+                namespace, jobName, configMapName, request.parallelism(), footprint, jobSizing, position > 0, null);
+            createJobResources(namespace, jobName, configMap, tuningConfigMap, job);
+            return position;
+        });
+
+        if (queuePosition > 0) {
+            return CreateReindexJobResponse.queued(
+                jobName,
+                namespace,
+                configMapName,
+                tuningConfigMapName,
+                request.parallelism(),
+                queuePosition,
+                OffsetDateTime.now(clock)
+            );
+        }
+        return CreateReindexJobResponse.accepted(
+            jobName,
+            namespace,
+            configMapName,
+            tuningConfigMapName,
+            request.parallelism(),
+            OffsetDateTime.now(clock)
+        );
+    }
+
+    public CreateReindexJobResponse plan(ReindexRequest request, String probeCollection) {
+        Objects.requireNonNull(request, "request must not be null");
+        var probe = trimToNull(probeCollection);
+        if (request.target().collection().equals(probe)) {
+            throw new InvalidReindexRequestException(
+                "Invalid request payload.",
+                List.of("probeCollection must not be the target collection")
+            );
+        }
+
+        var namespace = resolveNamespace();
+        var jobName = jobNameGenerator.newJobName(clock);
+        var footprint = new ReindexAdmission.Footprint(
+            jobName,
+            request.source().cluster().baseUrl(),
+            request.target().cluster().baseUrl(),
+            DRY_RUN_WRITE_CONCURRENCY
+        );
+        var configMapName = jobName + "-request";
+        var tuningConfigMapName = tuningConfigMapName(jobName);
+        var configMap = buildConfigMap(namespace, configMapName, toYaml(request), tuningConfigMapName, jobName);
+        var tuningConfigMap = buildTuningConfigMap(namespace, tuningConfigMapName, jobName, request.tuning());
+        var jobSizing = size(jobName, request, null);
+
+        var queuePosition = withAdmissionLock(namespace, () -> {
+            var position = queuePosition(namespace, footprint);
+            var job = buildJob(
+                namespace, jobName, configMapName, 1, footprint, jobSizing, position > 0, new DryRun(probe));
+            createJobResources(namespace, jobName, configMap, tuningConfigMap, job);
+            return position;
+        });
+
+        if (queuePosition > 0) {
+            return CreateReindexJobResponse.queued(
+                jobName,
+                namespace,
+                configMapName,
+                tuningConfigMapName,
+                1,
+                queuePosition,
+                OffsetDateTime.now(clock)
+            );
+        }
+        return CreateReindexJobResponse.accepted(
+            jobName,
+            namespace,
+            configMapName,
+            tuningConfigMapName,
+            1,
+            OffsetDateTime.now(clock)
+        );
+    }
+
+    public List<String> startQueuedJobs() {
+        if (!config.admission().enabled()) {
+            return List.of();
+        }
+
+        var namespace = resolveNamespace();
+        return withAdmissionLock(namespace, () -> {
+            var queue = admissionQueue(listJobsForAdmission(namespace));
+            var started = new ArrayList<String>();
+            for (var job : admission.admit(queue.running(), queue.queued())) {
+                startJob(namespace, job.jobName());
+                LOG.infof("Started queued reindex job. job=%s namespace=%s", job.jobName(), namespace);
+                started.add(job.jobName());
+            }
+            return List.copyOf(started);
+        });
+    }
+
+    String namespace() {
+        return resolveNamespace();
+    }
+
+    static Map<String, String> jobSelector() {
+        return Map.of(LABEL_PART_OF, LABEL_PART_OF_VALUE, LABEL_NAME, LABEL_NAME_VALUE);
+    }
+
+    static boolean isFinished(Job job) {
+        if (job.getStatus() == null || job.getStatus().getConditions() == null) {
+            return false;
+        }
+        return job.getStatus().getConditions().stream().anyMatch(ReindexJobService::isTerminalCondition);
+    }
+
+    static boolean isDryRun(Job job) {
+        var labels = job.getMetadata().getLabels();
+        return labels != null && "true".equals(labels.get(LABEL_DRY_RUN));
+    }
+
+    static boolean isQueued(Job job) {
+        var labels = job.getMetadata().getLabels();
+        return labels != null && ADMISSION_QUEUED.equals(labels.get(LABEL_ADMISSION));
+    }
+
+    private static boolean isTerminalCondition(JobCondition condition) {
+        return ("Complete".equals(condition.getType()) || "Failed".equals(condition.getType()))
+            && "True".equals(condition.getStatus());
+    }
+
+    private int queuePosition(String namespace, ReindexAdmission.Footprint candidate) {
+        if (!config.admission().enabled()) {
+            return 0;
+        }
+
+        var queue = admissionQueue(listJobsForAdmission(namespace));
+        var queued = new ArrayList<>(queue.queued());
+        queued.add(candidate);
+        var admitted = admission.admit(queue.running(), queued);
+        if (admitted.contains(candidate)) {
+            return 0;
+        }
 
-        var configMap = buildConfigMap(namespace, configMapName, requestYaml, jobName);
-        var job = buildJob(namespace, jobName, configMapName);
+        var waiting = queued.stream().filter(job -> !admitted.contains(job)).count();
+        if (waiting > config.admission().maxQueuedJobs()) {
+            throw new ReindexJobQueueFullException(
+                "Reindex queue is full: " + config.admission().maxQueuedJobs() + " jobs are already waiting.",
+                null
+            );
+        }
+        return Math.toIntExact(waiting);
+    }
 
+    private List<Job> listJobsForAdmission(String namespace) {
         try {
-            createResources(namespace, configMap, job);
+            return listJobs(namespace);
         } catch (KubernetesClientException e) {
-            if (e.getCode() == 409) {
-                throw new ReindexJobConflictException("Generated job name already exists: " + jobName, e);
+            throw new ReindexJobCreationException("Failed to list reindex jobs for admission control.", e);
+        }
+    }
+
+    private static AdmissionQueue admissionQueue(List<Job> jobs) {
+        var running = new ArrayList<ReindexAdmission.Footprint>();
+        var queued = new ArrayList<Job>();
+        for (var job : jobs) {
+            if (isFinished(job)) {
+                continue;
+            }
+            if (isQueued(job)) {
+                queued.add(job);
+            } else {
+                running.add(footprint(job));
             }
-            throw new ReindexJobCreationException("Failed to create reindex resources in Kubernetes.", e);
         }
 
-        return CreateReindexJobResponse.accepted(jobName, namespace, configMapName, OffsetDateTime.now(clock));
+        queued.sort(Comparator
+            .comparing((Job job) -> Objects.toString(job.getMetadata().getCreationTimestamp(), ""))
+            .thenComparing(job -> job.getMetadata().getName()));
+        return new AdmissionQueue(running, queued.stream().map(ReindexJobService::footprint).toList());
+    }
+
+    private static ReindexAdmission.Footprint footprint(Job job) {
+        var annotations = Objects.requireNonNullElse(job.getMetadata().getAnnotations(), Map.<String, String>of());
+        int writeConcurrency;
+        try {
+            writeConcurrency = Integer.parseInt(annotations.getOrDefault(ANNOTATION_WRITE_CONCURRENCY, "0"));
+        } catch (NumberFormatException e) {
+            writeConcurrency = 0;
+        }
+        return new ReindexAdmission.Footprint(
+            job.getMetadata().getName(),
+            annotations.get(ANNOTATION_SOURCE_CLUSTER),
+            annotations.get(ANNOTATION_TARGET_CLUSTER),
+            writeConcurrency
+        );
+    }
+
+    public ReindexJobTuningResponse updateTuning(String jobName, TuningOverride tuning) {
+        Objects.requireNonNull(tuning, "tuning must not be null");
+        return editTuning(jobName, current -> tuning.paused() == null ? tuning.withPaused(current.isPaused()) : tuning);
+    }
+
+    public ReindexJobTuningResponse pause(String jobName) {
+        return editTuning(jobName, current -> current.withPaused(true));
+    }
+
+    public ReindexJobTuningResponse resume(String jobName) {
+        return editTuning(jobName, current -> current.withPaused(false));
+    }
+
+    private ReindexJobTuningResponse editTuning(String jobName, UnaryOperator<TuningOverride> change) {
+        Objects.requireNonNull(jobName, "jobName must not be null");
+
+        var namespace = resolveNamespace();
+        var tuningConfigMapName = tuningConfigMapName(jobName);
+        if (findJob(namespace, jobName) == null) {
+            throw new ReindexJobNotFoundException("Reindex job not found: " + jobName, null);
+        }
+
+        var updated = new AtomicReference<TuningOverride>();
+        try {
+            var edited = editConfigMap(namespace, tuningConfigMapName, configMap -> {
+                updated.set(change.apply(readTuning(configMap)));
+                var errors = ceilingErrors(updated.get(), configMap);
+                if (!errors.isEmpty()) {
+                    throw new InvalidReindexRequestException("Invalid tuning payload.", errors);
+                }
+                return new ConfigMapBuilder(configMap)
+                    .addToData(TUNING_CONFIG_KEY, toYaml(updated.get()))
+                    .build();
+            });
+            if (edited == null) {
+                throw new ReindexJobNotFoundException("Reindex job has no tuning ConfigMap: " + tuningConfigMapName, null);
+            }
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == 404) {
+                throw new ReindexJobNotFoundException("Reindex job has no tuning ConfigMap: " + tuningConfigMapName, e);
+            }
+            throw new ReindexJobUpdateException("Failed to update reindex job tuning in Kubernetes.", e);
+        }
+
+        return new ReindexJobTuningResponse(jobName, namespace, tuningConfigMapName, updated.get(), OffsetDateTime.now(clock));
     }
 
     private String resolveNamespace() {
@@ -104,12 +404,34 @@ public class ReindexJobService {
         return kubernetesClient.getNamespace();
     }
 
-    protected void createResources(String namespace, ConfigMap configMap, Job job) {
+    private void createJobResources(
+        String namespace,
+        String jobName,
+        ConfigMap configMap,
+        ConfigMap tuningConfigMap,
+        Job job
+    ) {
+        try {
+            createResources(namespace, configMap, tuningConfigMap, job);
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == 409) {
+                throw new ReindexJobConflictException("Generated job name already exists: " + jobName, e);
+            }
+            throw new ReindexJobCreationException("Failed to create reindex resources in Kubernetes.", e);
+        }
+    }
+
+    protected void createResources(String namespace, ConfigMap configMap, ConfigMap tuningConfigMap, Job job) {
         kubernetesClient.configMaps()
             .inNamespace(namespace)
             .resource(configMap)
             .create();
 
+        kubernetesClient.configMaps()
+            .inNamespace(namespace)
+            .resource(tuningConfigMap)
+            .create();
+
         kubernetesClient.batch()
             .v1()
             .jobs()
@@ -118,6 +440,55 @@ public class ReindexJobService {
             .create();
     }
 
+    protected <T> T withAdmissionLock(String namespace, Supplier<T> action) {
+        if (!config.admission().enabled()) {
+            return action.get();
+        }
+        return admissionLock.withLock(namespace, action);
+    }
+
+    protected List<Job> listJobs(String namespace) {
+        return kubernetesClient.batch()
+            .v1()
+            .jobs()
+            .inNamespace(namespace)
+            .withLabels(jobSelector())
+            .list()
+            .getItems();
+    }
+
+    protected void startJob(String namespace, String jobName) {
+        kubernetesClient.batch()
+            .v1()
+            .jobs()
+            .inNamespace(namespace)
+            .withName(jobName)
+            .edit(job -> new JobBuilder(job)
+                .editMetadata()
+                .addToLabels(LABEL_ADMISSION, ADMISSION_ADMITTED)
+                .endMetadata()
+                .editSpec()
+                .withSuspend(false)
+                .endSpec()
+                .build());
+    }
+
+    protected Job findJob(String namespace, String jobName) {
+        return kubernetesClient.batch()
+            .v1()
+            .jobs()
+            .inNamespace(namespace)
+            .withName(jobName)
+            .get();
+    }
+
+    protected ConfigMap editConfigMap(String namespace, String configMapName, UnaryOperator<ConfigMap> edit) {
+        return kubernetesClient.configMaps()
+            .inNamespace(namespace)
+            .withName(configMapName)
+            .edit(edit);
+    }
+
     private String toYaml(ReindexRequest request) {
         try {
             return yamlObjectMapper.writeValueAsString(request);
@@ -126,7 +497,70 @@ public class ReindexJobService {
         }
     }
 
-    private ConfigMap buildConfigMap(String namespace, String configMapName, String requestYaml, String jobName) {
+    private String toYaml(TuningOverride tuning) {
+        try {
+            return yamlObjectMapper.writeValueAsString(tuning);
+        } catch (JsonProcessingException e) {
+            throw new ReindexJobUpdateException("Failed to serialize tuning to YAML.", e);
+        }
+    }
+
+    private static List<String> ceilingErrors(TuningOverride tuning, ConfigMap configMap) {
+        var annotations = configMap.getMetadata().getAnnotations();
+        if (annotations == null) {
+            return List.of();
+        }
+        var errors = new ArrayList<String>();
+        var maxWriteBatchSize = annotations.get(ANNOTATION_MAX_WRITE_BATCH_SIZE);
+        if (maxWriteBatchSize != null && tuning.writeBatchSize() != null
+            && tuning.writeBatchSize() > Integer.parseInt(maxWriteBatchSize)) {
+            errors.add("writeBatchSize must be less than or equal to " + maxWriteBatchSize);
+        }
+        var maxWriteConcurrency = annotations.get(ANNOTATION_MAX_WRITE_CONCURRENCY);
+        if (maxWriteConcurrency != null && tuning.writeConcurrency() != null
+            && tuning.writeConcurrency() > Integer.parseInt(maxWriteConcurrency)) {
+            errors.add("writeConcurrency must be less than or equal to " + maxWriteConcurrency);
+        }
+        return List.copyOf(errors);
+    }
+
+    private TuningOverride readTuning(ConfigMap configMap) {
+        var tuningYaml = configMap.getData() == null ? null : configMap.getData().get(TUNING_CONFIG_KEY);
+        if (tuningYaml == null || tuningYaml.isBlank()) {
+            return TuningOverride.NONE;
+        }
+        try {
+            var tuning = yamlObjectMapper.readValue(tuningYaml, TuningOverride.class);
+            return tuning == null ? TuningOverride.NONE : tuning;
+        } catch (IOException e) {
+            throw new ReindexJobUpdateException("Failed to parse current tuning from ConfigMap: " + configMap.getMetadata().getName(), e);
+        }
+    }
+
+    private ReindexJobSizing.Sizing size(String jobName, ReindexRequest request, Long averageDocBytes) {
+        var jobSizing = sizing.size(request.tuning(), averageDocBytes);
+        LOG.debugf(
+            "Sized reindex job. job=%s estimatedHeapBytes=%d averageDocBytes=%d resources=%s javaOptions=%s",
+            jobName,
+            jobSizing.estimatedHeapBytes(),
+            jobSizing.averageDocBytes(),
+            jobSizing.resources(),
+            jobSizing.javaOptions()
+        );
+        return jobSizing;
+    }
+
+    private static String tuningConfigMapName(String jobName) {
+        return jobName + "-tuning";
+    }
+
+    private ConfigMap buildConfigMap(
+        String namespace,
+        String configMapName,
+        String requestYaml,
+        String tuningConfigMapName,
+        String jobName
+    ) {
         return new ConfigMapBuilder()
             .withNewMetadata()
             .withNamespace(namespace)
@@ -136,10 +570,46 @@ public class ReindexJobService {
             .addToLabels(LABEL_REINDEX_JOB, jobName)
             .endMetadata()
             .addToData(REQUEST_CONFIG_KEY, requestYaml)
+            .addToData(TUNING_CONFIG_MAP_CONFIG_KEY, tuningConfigMapName)
+            .build();
+    }
+
+    private ConfigMap buildTuningConfigMap(String namespace, String configMapName, String jobName, ReindexTuning tuning) {
+        var ceiling = tuning.ceiling();
+        return new ConfigMapBuilder()
+            .withNewMetadata()
+            .withNamespace(namespace)
+            .withName(configMapName)
+            .addToLabels(LABEL_PART_OF, LABEL_PART_OF_VALUE)
+            .addToLabels(LABEL_NAME, LABEL_NAME_VALUE)
+            .addToLabels(LABEL_REINDEX_JOB, jobName)
+            .addToAnnotations(ANNOTATION_MAX_WRITE_BATCH_SIZE, Integer.toString(ceiling.writeBatchSize()))
+            .addToAnnotations(ANNOTATION_MAX_WRITE_CONCURRENCY, Integer.toString(ceiling.writeConcurrency()))
+            .endMetadata()
+            .addToData(TUNING_CONFIG_KEY, toYaml(TuningOverride.NONE.withPaused(false)))
             .build();
     }
 
-    private Job buildJob(String namespace, String jobName, String requestConfigMapName) {
+    private Job buildJob(
+        String namespace,
+        String jobName,
+        String requestConfigMapName,
+        int parallelism,
+        ReindexAdmission.Footprint footprint,
+        ReindexJobSizing.Sizing jobSizing,
+        boolean queued,
+        DryRun dryRun
+    ) {
+        var indexed = parallelism > 1;
+        var env = new ArrayList<EnvVar>();
+        env.add(new EnvVar(ENV_JAVA_TOOL_OPTIONS, jobSizing.javaOptions(), null));
+        if (dryRun != null) {
+            env.add(new EnvVar(ENV_REINDEX_JOB_DRY_RUN_ENABLED, "true", null));
+            env.add(new EnvVar(ENV_REINDEX_JOB_SUMMARY_FILE, TERMINATION_MESSAGE_PATH, null));
+            if (dryRun.probeCollection() != null) {
+                env.add(new EnvVar(ENV_REINDEX_JOB_DRY_RUN_PROBE_COLLECTION, dryRun.probeCollection(), null));
+            }
+        }
         return new JobBuilder()
             .withNewMetadata()
             .withName(jobName)
@@ -147,13 +617,25 @@ public class ReindexJobService {
             .addToLabels(LABEL_PART_OF, LABEL_PART_OF_VALUE)
             .addToLabels(LABEL_NAME, LABEL_NAME_VALUE)
             .addToLabels(LABEL_REINDEX_JOB, jobName)
+            .addToLabels(LABEL_ADMISSION, queued ? ADMISSION_QUEUED : ADMISSION_ADMITTED)
+            .addToLabels(dryRun == null ? Map.of() : Map.of(LABEL_DRY_RUN, "true"))
+            .addToAnnotations(ANNOTATION_SOURCE_CLUSTER, footprint.sourceCluster())
+            .addToAnnotations(ANNOTATION_TARGET_CLUSTER, footprint.targetCluster())
+            .addToAnnotations(ANNOTATION_WRITE_CONCURRENCY, Integer.toString(footprint.writeConcurrency()))
             .endMetadata()
             .withNewSpec()
+            .withSuspend(queued ? true : null)
             .withBackoffLimit(config.job().backoffLimit())
             .withTtlSecondsAfterFinished(config.job().ttlSecondsAfterFinished())
+            .withCompletionMode(indexed ? INDEXED_COMPLETION_MODE : null)
+            .withCompletions(indexed ? parallelism : null)
+            .withParallelism(indexed ? parallelism : null)
             .withNewTemplate()
             .withNewMetadata()
             .addToLabels(LABEL_REINDEX_JOB, jobName)
+            .addToAnnotations("prometheus.io/scrape", "true")
+            .addToAnnotations("prometheus.io/port", Integer.toString(METRICS_PORT))
+            .addToAnnotations("prometheus.io/path", METRICS_PATH)
             .endMetadata()
             .withNewSpec()
             .withServiceAccountName(config.job().serviceAccount())
@@ -162,6 +644,11 @@ public class ReindexJobService {
             .withName(REINDEX_CONTAINER_NAME)
             .withImage(config.job().image())
             .withImagePullPolicy("IfNotPresent")
+            .withResources(jobSizing.resources())
+            .addNewPort()
+            .withName(METRICS_PORT_NAME)
+            .withContainerPort(METRICS_PORT)
+            .endPort()
             .addNewEnv()
             .withName(ENV_QUARKUS_KUBERNETES_CONFIG_ENABLED)
             .withValue(Boolean.toString(config.job().kubernetesConfigEnabled()))
@@ -183,6 +670,7 @@ public class ReindexJobService {
             .withName(ENV_REINDEX_CONFIG_MAPS)
             .withValue(requestConfigMapName)
             .endEnv()
+            .addAllToEnv(env)
             .endContainer()
             .endSpec()
             .endTemplate()
@@ -198,6 +686,12 @@ public class ReindexJobService {
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
     }
 
+    private static String writeConcurrencyLabel(ReindexTuning tuning) {
+        return tuning.autoTune().enabled()
+            ? "tuning.writeConcurrency doubled for auto-tuning"
+            : "tuning.writeConcurrency";
+    }
+
     private static String trimToNull(String value) {
         if (value == null) {
             return null;
@@ -205,4 +699,10 @@ public class ReindexJobService {
         var trimmed = value.trim();
         return trimmed.isEmpty() ? null : trimmed;
     }
+
+    private record DryRun(String probeCollection) {
+    }
+
+    private record AdmissionQueue(List<ReindexAdmission.Footprint> running, List<ReindexAdmission.Footprint> queued) {
+    }
 }
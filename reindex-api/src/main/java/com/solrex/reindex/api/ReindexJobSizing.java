@@ -0,0 +1,121 @@
+package com.solrex.reindex.api;
+
+import com.solrex.reindex.model.ReindexTuning;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+
+final class ReindexJobSizing {
+    static final long MILLICPU_PER_LANE = 100;
+    private static final long MIB = 1024L * 1024;
+    private static final BigDecimal MILLIS = BigDecimal.valueOf(1000);
+
+    private final long averageDocBytes;
+    private final int maxRamPercentage;
+    private final long minMemoryBytes;
+    private final long maxMemoryBytes;
+    private final long minCpuMillis;
+    private final long maxCpuMillis;
+    private final long zgcMinHeapBytes;
+    private final Quantity memoryRequest;
+    private final Quantity memoryLimit;
+    private final Quantity cpuRequest;
+    private final Quantity cpuLimit;
+    private final String javaOptions;
+
+    ReindexJobSizing(ReindexApiConfig.Resources config) {
+        Objects.requireNonNull(config, "config must not be null");
+        this.averageDocBytes = config.averageDocBytes();
+        this.maxRamPercentage = config.maxRamPercentage();
+        this.minMemoryBytes = bytes(new Quantity(config.minMemory()));
+        this.maxMemoryBytes = bytes(new Quantity(config.maxMemory()));
+        this.minCpuMillis = millis(new Quantity(config.minCpu()));
+        this.maxCpuMillis = millis(new Quantity(config.maxCpu()));
+        this.zgcMinHeapBytes = bytes(new Quantity(config.zgcMinHeap()));
+        this.memoryRequest = config.memoryRequest().map(Quantity::new).orElse(null);
+        this.memoryLimit = config.memoryLimit().map(Quantity::new).orElse(null);
+        this.cpuRequest = config.cpuRequest().map(Quantity::new).orElse(null);
+        this.cpuLimit = config.cpuLimit().map(Quantity::new).orElse(null);
+        if (memoryRequest != null && memoryLimit != null && bytes(memoryRequest) > bytes(memoryLimit)) {
+            throw new IllegalArgumentException(
+                "reindex.api.job.resources.memory-request must not exceed memory-limit");
+        }
+        if (cpuRequest != null && cpuLimit != null && millis(cpuRequest) > millis(cpuLimit)) {
+            throw new IllegalArgumentException("reindex.api.job.resources.cpu-request must not exceed cpu-limit");
+        }
+        this.javaOptions = config.javaOptions().map(String::trim).filter(options -> !options.isEmpty()).orElse(null);
+    }
+
+    Sizing size(ReindexTuning tuning, Long sampledAverageDocBytes) {
+        Objects.requireNonNull(tuning, "tuning must not be null");
+        var peak = tuning.ceiling();
+        var docBytes = sampledAverageDocBytes == null || sampledAverageDocBytes <= 0
+            ? averageDocBytes
+            : sampledAverageDocBytes;
+
+        var heapBytes = peak.estimatedHeapBytes(docBytes);
+        var containerBytes = clamp(
+            Math.ceilDiv(Math.ceilDiv(heapBytes * 100, maxRamPercentage), MIB) * MIB,
+            minMemoryBytes,
+            maxMemoryBytes);
+        var cpuMillis = clamp(
+            MILLICPU_PER_LANE * (peak.readConcurrency() + peak.writeConcurrency()),
+            minCpuMillis,
+            maxCpuMillis);
+
+        var computedMemory = mebibytes(containerBytes);
+        var memoryRequestQuantity = memoryRequest != null ? memoryRequest
+            : memoryLimit != null && bytes(memoryLimit) < containerBytes ? memoryLimit
+            : computedMemory;
+        var memoryLimitQuantity = memoryLimit != null ? memoryLimit
+            : memoryRequest != null && bytes(memoryRequest) > containerBytes ? memoryRequest
+            : computedMemory;
+
+        var computedCpuLimitMillis = Math.min(cpuMillis * 2, maxCpuMillis);
+        var cpuRequestQuantity = cpuRequest != null ? cpuRequest
+            : cpuLimit != null && millis(cpuLimit) < cpuMillis ? cpuLimit
+            : millicpu(cpuMillis);
+        var cpuLimitQuantity = cpuLimit != null ? cpuLimit
+            : cpuRequest != null && millis(cpuRequest) > computedCpuLimitMillis ? cpuRequest
+            : millicpu(computedCpuLimitMillis);
+
+        var resources = new ResourceRequirementsBuilder()
+            .withRequests(Map.of("memory", memoryRequestQuantity, "cpu", cpuRequestQuantity))
+            .withLimits(Map.of("memory", memoryLimitQuantity, "cpu", cpuLimitQuantity))
+            .build();
+
+        var maxHeapBytes = bytes(memoryLimitQuantity) * maxRamPercentage / 100;
+        return new Sizing(resources, javaOptions == null ? javaOptions(maxHeapBytes) : javaOptions, heapBytes, docBytes);
+    }
+
+    private String javaOptions(long maxHeapBytes) {
+        var gc = maxHeapBytes >= zgcMinHeapBytes ? "-XX:+UseZGC -XX:+ZGenerational" : "-XX:+UseG1GC";
+        return "-XX:MaxRAMPercentage=" + maxRamPercentage + " " + gc + " -XX:+ExitOnOutOfMemoryError";
+    }
+
+    private static Quantity mebibytes(long bytes) {
+        return new Quantity(Long.toString(bytes / MIB), "Mi");
+    }
+
+    private static Quantity millicpu(long millis) {
+        return new Quantity(Long.toString(millis), "m");
+    }
+
+    private static long bytes(Quantity quantity) {
+        return Quantity.getAmountInBytes(quantity).longValue();
+    }
+
+    private static long millis(Quantity quantity) {
+        return Quantity.getAmountInBytes(quantity).multiply(MILLIS).longValue();
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    record Sizing(ResourceRequirements resources, String javaOptions, long estimatedHeapBytes, long averageDocBytes) {
+    }
+}
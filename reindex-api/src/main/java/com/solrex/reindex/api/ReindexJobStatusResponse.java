@@ -0,0 +1,30 @@
+package com.solrex.reindex.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record ReindexJobStatusResponse(
+    String jobName,
+    String jobNamespace,
+    String phase,
+    boolean dryRun,
+    int parallelism,
+    int activePods,
+    int succeededPods,
+    int failedPods,
+    OffsetDateTime createdAt,
+    OffsetDateTime startedAt,
+    OffsetDateTime completedAt,
+    ReindexJobProgress progress,
+    JsonNode plan,
+    List<Pod> pods
+) {
+    public record Pod(
+        String name,
+        String phase,
+        Integer completionIndex,
+        ReindexJobProgress progress
+    ) {
+    }
+}
@@ -0,0 +1,198 @@
+package com.solrex.reindex.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class ReindexJobStatusService {
+    private static final Logger LOG = Logger.getLogger(ReindexJobStatusService.class);
+    static final String PHASE_QUEUED = "QUEUED";
+    static final String PHASE_PENDING = "PENDING";
+    static final String PHASE_RUNNING = "RUNNING";
+    static final String PHASE_SUCCEEDED = "SUCCEEDED";
+    static final String PHASE_FAILED = "FAILED";
+    private static final String COMPLETION_INDEX_ANNOTATION = "batch.kubernetes.io/job-completion-index";
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final ReindexJobInformers informers;
+    private final ReindexJobMetricsScraper scraper;
+
+    public ReindexJobStatusService(ReindexJobInformers informers, ReindexJobMetricsScraper scraper) {
+        this.informers = Objects.requireNonNull(informers, "informers must not be null");
+        this.scraper = Objects.requireNonNull(scraper, "scraper must not be null");
+    }
+
+    public ReindexJobListResponse list() {
+        var livePods = new ArrayList<Pod>();
+        var jobs = informers.jobs().stream()
+            .map(job -> {
+                var pods = informers.pods(job.getMetadata().getName());
+                livePods.addAll(pods);
+                return status(job, pods);
+            })
+            .toList();
+        scraper.forget(livePods);
+        return new ReindexJobListResponse(jobs);
+    }
+
+    public ReindexJobStatusResponse get(String jobName) {
+        var job = informers.job(jobName)
+            .orElseThrow(() -> new ReindexJobNotFoundException("Reindex job not found: " + jobName, null));
+        return status(job, informers.pods(jobName));
+    }
+
+    private ReindexJobStatusResponse status(Job job, List<Pod> pods) {
+        var phase = phase(job);
+        var metrics = scraper.scrape(pods);
+        var podStatuses = pods.stream()
+            .map(pod -> new ReindexJobStatusResponse.Pod(
+                pod.getMetadata().getName(),
+                pod.getStatus() == null ? null : pod.getStatus().getPhase(),
+                completionIndex(pod),
+                progress(metrics.get(pod.getMetadata().getName()))
+            ))
+            .toList();
+
+        var status = job.getStatus();
+        return new ReindexJobStatusResponse(
+            job.getMetadata().getName(),
+            job.getMetadata().getNamespace(),
+            phase,
+            ReindexJobService.isDryRun(job),
+            job.getSpec() == null ? 1 : Objects.requireNonNullElse(job.getSpec().getParallelism(), 1),
+            status == null ? 0 : Objects.requireNonNullElse(status.getActive(), 0),
+            status == null ? 0 : Objects.requireNonNullElse(status.getSucceeded(), 0),
+            status == null ? 0 : Objects.requireNonNullElse(status.getFailed(), 0),
+            timestamp(job.getMetadata().getCreationTimestamp()),
+            status == null ? null : timestamp(status.getStartTime()),
+            status == null ? null : timestamp(status.getCompletionTime()),
+            aggregate(phase, metrics),
+            ReindexJobService.isDryRun(job) ? plan(pods) : null,
+            podStatuses
+        );
+    }
+
+    static String phase(Job job) {
+        var status = job.getStatus();
+        if (status != null && status.getConditions() != null) {
+            for (var condition : status.getConditions()) {
+                if (!"True".equals(condition.getStatus())) {
+                    continue;
+                }
+                if ("Complete".equals(condition.getType())) {
+                    return PHASE_SUCCEEDED;
+                }
+                if ("Failed".equals(condition.getType())) {
+                    return PHASE_FAILED;
+                }
+            }
+        }
+        if (ReindexJobService.isQueued(job)) {
+            return PHASE_QUEUED;
+        }
+        if (status != null && status.getActive() != null && status.getActive() > 0) {
+            return PHASE_RUNNING;
+        }
+        return PHASE_PENDING;
+    }
+
+    static ReindexJobProgress aggregate(String phase, Map<String, ReindexJobMetricsScraper.PodMetrics> metrics) {
+        long docsIndexed = 0;
+        long docsPlanned = 0;
+        double docsPerSecond = 0;
+        Long etaSeconds = 0L;
+        for (var pod : metrics.values()) {
+            docsIndexed += pod.docsWritten();
+            docsPlanned += pod.docsPlanned();
+            docsPerSecond += pod.docsPerSecond();
+            etaSeconds = etaSeconds == null || pod.etaSeconds() == null ? null : Math.max(etaSeconds, pod.etaSeconds());
+        }
+
+        if (PHASE_SUCCEEDED.equals(phase)) {
+            return new ReindexJobProgress(docsIndexed, Math.max(docsPlanned, docsIndexed), 100.0, 0.0, 0L);
+        }
+        if (metrics.isEmpty()) {
+            return ReindexJobProgress.UNKNOWN;
+        }
+        var active = PHASE_RUNNING.equals(phase);
+        return new ReindexJobProgress(
+            docsIndexed,
+            docsPlanned,
+            percent(docsIndexed, docsPlanned),
+            active ? docsPerSecond : 0.0,
+            active ? etaSeconds : null
+        );
+    }
+
+    static JsonNode plan(List<Pod> pods) {
+        for (var pod : pods) {
+            if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+                continue;
+            }
+            for (var container : pod.getStatus().getContainerStatuses()) {
+                var terminated = container.getState() == null ? null : container.getState().getTerminated();
+                if (terminated == null || !Integer.valueOf(0).equals(terminated.getExitCode())
+                    || terminated.getMessage() == null || terminated.getMessage().isBlank()) {
+                    continue;
+                }
+                try {
+                    return JSON.readTree(terminated.getMessage());
+                } catch (JsonProcessingException e) {
+                    LOG.debugf(e, "Ignoring unreadable reindex plan. pod=%s", pod.getMetadata().getName());
+                }
+            }
+        }
+        return null;
+    }
+
+    private static ReindexJobProgress progress(ReindexJobMetricsScraper.PodMetrics metrics) {
+        if (metrics == null) {
+            return ReindexJobProgress.UNKNOWN;
+        }
+        return new ReindexJobProgress(
+            metrics.docsWritten(),
+            metrics.docsPlanned(),
+            metrics.progress() * 100.0,
+            metrics.docsPerSecond(),
+            metrics.etaSeconds()
+        );
+    }
+
+    private static double percent(long done, long total) {
+        return total <= 0 ? 0.0 : Math.min(100.0, done * 100.0 / total);
+    }
+
+    private static Integer completionIndex(Pod pod) {
+        var annotations = pod.getMetadata().getAnnotations();
+        if (annotations == null || !annotations.containsKey(COMPLETION_INDEX_ANNOTATION)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(annotations.get(COMPLETION_INDEX_ANNOTATION));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static OffsetDateTime timestamp(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.solrex.reindex.api;
+
+import com.solrex.reindex.model.TuningOverride;
+import java.time.OffsetDateTime;
+
+public record ReindexJobTuningResponse(
+    String jobName,
+    String jobNamespace,
+    String tuningConfigMapName,
+    TuningOverride tuning,
+    OffsetDateTime updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.solrex.reindex.api;
+
+public final class ReindexJobUpdateException extends RuntimeException {
+    public ReindexJobUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,30 @@
+package com.solrex.reindex.api;
+
+import com.solrex.reindex.model.ReindexRequest;
+import jakarta.validation.Validator;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+@Path("/api/v1/reindex/plan")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public final class ReindexPlanResource {
+    private final ReindexJobService reindexJobService;
+    private final Validator validator;
+
+    public ReindexPlanResource(ReindexJobService reindexJobService, Validator validator) {
+        this.reindexJobService = reindexJobService;
+        this.validator = validator;
+    }
+
+    @POST
+    public Response plan(ReindexRequest request, @QueryParam("probeCollection") String probeCollection) {
+        ReindexJobResource.validateRequest(validator, request);
+        return Response.accepted(reindexJobService.plan(request, probeCollection)).build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.solrex.reindex.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+@EnableKubernetesMockClient(crud = true)
+class ReindexAdmissionLockTest {
+    private static final String NAMESPACE = "solrex";
+    private static final Instant NOW = Instant.parse("2026-02-18T16:25:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    KubernetesClient client;
+
+    @Test
+    void shouldHoldTheLockWhileTheActionRunsAndReleaseItAfterwards() {
+        var lock = lock("api-1", Duration.ofSeconds(1));
+
+        var holderDuringAction = lock.withLock(NAMESPACE, () -> data(ReindexAdmissionLock.HOLDER_KEY));
+
+        assertThat(holderDuringAction).isEqualTo("api-1");
+        assertThat(data(ReindexAdmissionLock.HOLDER_KEY)).isEmpty();
+        assertThat(data(ReindexAdmissionLock.EXPIRES_AT_KEY)).isEmpty();
+    }
+
+    @Test
+    void shouldWaitForAnotherReplicasLiveLease() {
+        heldBy("api-2", NOW.plus(Duration.ofMinutes(1)));
+        var lock = lock("api-1", Duration.ZERO);
+
+        assertThatThrownBy(() -> lock.withLock(NAMESPACE, () -> "admitted"))
+            .isInstanceOf(ReindexJobCreationException.class)
+            .hasMessageContaining("held by api-2");
+        assertThat(data(ReindexAdmissionLock.HOLDER_KEY)).isEqualTo("api-2");
+    }
+
+    @Test
+    void shouldTakeOverAnExpiredLease() {
+        heldBy("api-2", NOW.minus(Duration.ofSeconds(1)));
+        var lock = lock("api-1", Duration.ZERO);
+
+        assertThat(lock.withLock(NAMESPACE, () -> "admitted")).isEqualTo("admitted");
+        assertThat(data(ReindexAdmissionLock.HOLDER_KEY)).isEmpty();
+    }
+
+    private ReindexAdmissionLock lock(String holder, Duration timeout) {
+        return new ReindexAdmissionLock(client, Duration.ofSeconds(30), timeout, CLOCK, holder);
+    }
+
+    private void heldBy(String holder, Instant expiresAt) {
+        client.configMaps().inNamespace(NAMESPACE).resource(new ConfigMapBuilder()
+                .withNewMetadata().withName(ReindexAdmissionLock.CONFIG_MAP_NAME).endMetadata()
+                .addToData(ReindexAdmissionLock.HOLDER_KEY, holder)
+                .addToData(ReindexAdmissionLock.EXPIRES_AT_KEY, expiresAt.toString())
+                .build())
+            .create();
+    }
+
+    private String data(String key) {
+        return client.configMaps().inNamespace(NAMESPACE).withName(ReindexAdmissionLock.CONFIG_MAP_NAME).get()
+            .getData()
+            .get(key);
+    }
+}
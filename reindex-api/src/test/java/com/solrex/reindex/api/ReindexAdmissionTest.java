@@ -0,0 +1,64 @@
+package com.solrex.reindex.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReindexAdmissionTest {
+    private static final String SOLR_A = "http://solr-a:8983/solr";
+    private static final String SOLR_B = "http://solr-b:8983/solr";
+    private static final String SOLR_C = "http://solr-c:8983/solr";
+    private static final String SOLR_D = "http://solr-d:8983/solr";
+
+    private final ReindexAdmission admission = new ReindexAdmission(2, 16);
+
+    @Test
+    void shouldLimitConcurrentJobsPerSourceAndTargetCluster() {
+        var running = List.of(job("running", SOLR_A, SOLR_B, 4));
+        var queued = List.of(
+            job("first", SOLR_C, SOLR_A, 4),
+            job("second", SOLR_A, SOLR_D, 4),
+            job("third", SOLR_C, SOLR_B, 4)
+        );
+
+        assertThat(admission.admit(running, queued))
+            .extracting(ReindexAdmission.Footprint::jobName)
+            .containsExactly("first", "third");
+    }
+
+    @Test
+    void shouldLimitTotalWriteConcurrencyPerCluster() {
+        var running = List.of(job("running", SOLR_A, SOLR_B, 12));
+
+        assertThat(admission.admit(running, List.of(job("large", SOLR_C, SOLR_B, 8)))).isEmpty();
+        assertThat(admission.admit(running, List.of(job("small", SOLR_C, SOLR_B, 4))))
+            .extracting(ReindexAdmission.Footprint::jobName)
+            .containsExactly("small");
+    }
+
+    @Test
+    void shouldNotLetLaterJobsOvertakeABlockedJobOnTheSameCluster() {
+        var running = List.of(job("running", SOLR_A, SOLR_B, 12));
+        var queued = List.of(
+            job("blocked", SOLR_C, SOLR_B, 8),
+            job("smaller", SOLR_D, SOLR_B, 2),
+            job("unrelated", SOLR_C, SOLR_D, 2)
+        );
+
+        assertThat(admission.admit(running, queued)).isEmpty();
+        assertThat(admission.admit(List.of(), queued))
+            .extracting(ReindexAdmission.Footprint::jobName)
+            .containsExactly("blocked", "smaller", "unrelated");
+    }
+
+    @Test
+    void shouldRejectJobsThatCanNeverFit() {
+        assertThat(admission.fitsAlone(job("fits", SOLR_A, SOLR_B, 16))).isTrue();
+        assertThat(admission.fitsAlone(job("too-large", SOLR_A, SOLR_B, 17))).isFalse();
+    }
+
+    private static ReindexAdmission.Footprint job(String name, String source, String target, int writeConcurrency) {
+        return new ReindexAdmission.Footprint(name, source, target, writeConcurrency);
+    }
+}
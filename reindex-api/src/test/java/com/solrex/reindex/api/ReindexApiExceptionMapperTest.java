@@ -82,4 +82,23 @@ class ReindexApiExceptionMapperTest {
         assertThat(error.error()).isEqualTo("INTERNAL_ERROR");
         assertThat(error.message()).isEqualTo("Unexpected server error.");
     }
+
+    @Test
+    void shouldMapReindexJobNotFoundExceptionToNotFound() {
+        var response = mapper.toResponse(new ReindexJobNotFoundException("Reindex job not found: missing", null));
+        var error = (ApiErrorResponse) response.getEntity();
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(error.error()).isEqualTo("REINDEX_JOB_NOT_FOUND");
+        assertThat(error.message()).isEqualTo("Reindex job not found: missing");
+    }
+
+    @Test
+    void shouldMapQueueFullExceptionToTooManyRequests() {
+        var response = mapper.toResponse(new ReindexJobQueueFullException("Reindex queue is full", null));
+        var error = (ApiErrorResponse) response.getEntity();
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(error.error()).isEqualTo("REINDEX_QUEUE_FULL");
+    }
 }
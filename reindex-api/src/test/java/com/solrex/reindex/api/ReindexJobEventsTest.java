@@ -0,0 +1,79 @@
+package com.solrex.reindex.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReindexJobEventsTest {
+    private final ReindexJobStatusService statusService = mock(ReindexJobStatusService.class);
+    private final ReindexJobEvents events =
+        new ReindexJobEvents(statusService, Infrastructure.getDefaultWorkerPool(), Duration.ofMillis(10));
+
+    @Test
+    void sharesOnePollPerJobAndCompletesWhenTheJobFinishes() {
+        var started = status("RUNNING", 10.0);
+        var running = status("RUNNING", 40.0);
+        var succeeded = status("SUCCEEDED", 100.0);
+        when(statusService.get("reindex-a")).thenReturn(running, running, succeeded);
+
+        var first = events.stream("reindex-a", started).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        var second = events.stream("reindex-a", started).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        assertThat(events.activeFeeds()).isEqualTo(1);
+
+        first.awaitCompletion(Duration.ofSeconds(5));
+        second.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(first.getItems()).containsExactly(started, running, succeeded);
+        assertThat(second.getItems().getLast()).isEqualTo(succeeded);
+        assertThat(events.activeFeeds()).isZero();
+    }
+
+    @Test
+    void endsTheStreamWhenTheJobIsDeleted() {
+        when(statusService.get("reindex-a"))
+            .thenThrow(new ReindexJobNotFoundException("Reindex job not found: reindex-a", null));
+        var started = status("RUNNING", 10.0);
+
+        var subscriber = events.stream("reindex-a", started).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(subscriber.getItems()).containsExactly(started);
+    }
+
+    @Test
+    void returnsFinishedJobsWithoutPolling() {
+        var succeeded = status("SUCCEEDED", 100.0);
+
+        var subscriber = events.stream("reindex-a", succeeded).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted().assertItems(succeeded);
+        assertThat(events.activeFeeds()).isZero();
+        verify(statusService, never()).get("reindex-a");
+    }
+
+    private static ReindexJobStatusResponse status(String phase, double percent) {
+        return new ReindexJobStatusResponse(
+            "reindex-a",
+            "solrex",
+            phase,
+            false,
+            1,
+            "RUNNING".equals(phase) ? 1 : 0,
+            "SUCCEEDED".equals(phase) ? 1 : 0,
+            0,
+            null,
+            null,
+            null,
+            new ReindexJobProgress((long) percent * 100, 10_000, percent, 0.0, null),
+            null,
+            List.of()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.solrex.reindex.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ReindexJobMetricsScraperTest {
+    @Test
+    void parsesProgressGaugesAndSumsWrittenDocsAcrossCollections() {
+        var metrics = ReindexJobMetricsScraper.parse("""
+            # HELP reindex_progress Fraction of planned documents written
+            # TYPE reindex_progress gauge
+            reindex_progress 0.25
+            reindex_throughput_documents_per_second 412.5
+            reindex_eta_seconds 90.4
+            reindex_docs_planned 20000.0
+            # TYPE reindex_docs_written_total counter
+            reindex_docs_written_total{collection="target_a"} 3000.0
+            reindex_docs_written_total{collection="target_b"} 2000.0
+            reindex_shard_eta_seconds{shard="shard1"} 12.0
+            """);
+
+        assertThat(metrics).hasValueSatisfying(pod -> {
+            assertThat(pod.progress()).isEqualTo(0.25);
+            assertThat(pod.docsPerSecond()).isEqualTo(412.5);
+            assertThat(pod.etaSeconds()).isEqualTo(90L);
+            assertThat(pod.docsPlanned()).isEqualTo(20_000L);
+            assertThat(pod.docsWritten()).isEqualTo(5_000L);
+        });
+    }
+
+    @Test
+    void leavesEtaUnknownWhenGaugeIsNotFinite() {
+        var metrics = ReindexJobMetricsScraper.parse("""
+            reindex_progress 0.0
+            reindex_eta_seconds NaN
+            """);
+
+        assertThat(metrics).hasValueSatisfying(pod -> assertThat(pod.etaSeconds()).isNull());
+    }
+
+    @Test
+    void ignoresEndpointsWithoutReindexProgress() {
+        assertThat(ReindexJobMetricsScraper.parse("jvm_threads_live_threads 42.0\n")).isEmpty();
+    }
+}
@@ -1,17 +1,23 @@
 package com.solrex.reindex.api;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.solrex.reindex.model.TuningOverride;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
 import java.time.OffsetDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,14 +26,22 @@ class ReindexJobResourceTest {
     @InjectMock
     ReindexJobService reindexJobService;
 
+    @InjectMock
+    ReindexJobStatusService reindexJobStatusService;
+
+    @InjectMock
+    ReindexJobEvents reindexJobEvents;
+
     @BeforeEach
     void setUp() {
-        reset(reindexJobService);
-        when(reindexJobService.create(any())).thenReturn(
+        reset(reindexJobService, reindexJobStatusService, reindexJobEvents);
+        when(reindexJobService.create(any(), any())).thenReturn(
             CreateReindexJobResponse.accepted(
                 "reindex-20260218162500-abcde",
                 "solrex",
                 "reindex-20260218162500-abcde-request",
+                "reindex-20260218162500-abcde-tuning",
+                1,
                 OffsetDateTime.parse("2026-02-18T16:25:00Z")
             )
         );
@@ -45,9 +59,41 @@ class ReindexJobResourceTest {
             .body("status", equalTo("ACCEPTED"))
             .body("jobNamespace", equalTo("solrex"))
             .body("jobName", matchesPattern("reindex-[0-9]{14}-[a-f0-9]{5}"))
-            .body("requestConfigMapName", matchesPattern("reindex-[0-9]{14}-[a-f0-9]{5}-request"));
+            .body("requestConfigMapName", matchesPattern("reindex-[0-9]{14}-[a-f0-9]{5}-request"))
+            .body("tuningConfigMapName", matchesPattern("reindex-[0-9]{14}-[a-f0-9]{5}-tuning"))
+            .body("parallelism", equalTo(1))
+            .body("queuePosition", equalTo(0));
+
+        verify(reindexJobService).create(any(), any());
+    }
+
+    @Test
+    void createPassesSampledDocumentSizeToTheService() {
+        given()
+            .contentType("application/json")
+            .queryParam("averageDocBytes", 2048)
+            .body(TestReindexRequests.valid())
+            .when()
+            .post("/api/v1/reindex/jobs")
+            .then()
+            .statusCode(202);
 
-        verify(reindexJobService).create(any());
+        verify(reindexJobService).create(any(), eq(2048L));
+    }
+
+    @Test
+    void createRejectsNonPositiveAverageDocBytes() {
+        given()
+            .contentType("application/json")
+            .queryParam("averageDocBytes", 0)
+            .body(TestReindexRequests.valid())
+            .when()
+            .post("/api/v1/reindex/jobs")
+            .then()
+            .statusCode(400)
+            .body("error", equalTo("VALIDATION_ERROR"));
+
+        verify(reindexJobService, never()).create(any(), any());
     }
 
     @Test
@@ -66,7 +112,7 @@ class ReindexJobResourceTest {
     void conflictErrorReturnsConflict() {
         doThrow(new ReindexJobConflictException("Conflict", null))
             .when(reindexJobService)
-            .create(any());
+            .create(any(), any());
 
         given()
             .contentType("application/json")
@@ -82,7 +128,7 @@ class ReindexJobResourceTest {
     void creationErrorReturnsInternalServerError() {
         doThrow(new ReindexJobCreationException("Boom", null))
             .when(reindexJobService)
-            .create(any());
+            .create(any(), any());
 
         given()
             .contentType("application/json")
@@ -93,4 +139,179 @@ class ReindexJobResourceTest {
             .statusCode(500)
             .body("error", equalTo("REINDEX_JOB_CREATE_FAILED"));
     }
+
+    @Test
+    void updateTuningReturnsAppliedTuning() {
+        var tuning = new TuningOverride(500, 2, 5_000, false);
+        when(reindexJobService.updateTuning(eq("reindex-20260218162500-abcde"), eq(new TuningOverride(500, 2, 5_000, null))))
+            .thenReturn(tuningResponse(tuning));
+
+        given()
+            .contentType("application/json")
+            .body("{\"writeBatchSize\":500,\"writeConcurrency\":2,\"maxDocsPerSecond\":5000}")
+            .when()
+            .put("/api/v1/reindex/jobs/reindex-20260218162500-abcde/tuning")
+            .then()
+            .statusCode(200)
+            .body("tuningConfigMapName", equalTo("reindex-20260218162500-abcde-tuning"))
+            .body("tuning.writeConcurrency", equalTo(2))
+            .body("tuning.maxDocsPerSecond", equalTo(5000))
+            .body("tuning.paused", equalTo(false));
+    }
+
+    @Test
+    void invalidTuningReturnsBadRequest() {
+        given()
+            .contentType("application/json")
+            .body("{\"writeConcurrency\":0}")
+            .when()
+            .put("/api/v1/reindex/jobs/reindex-20260218162500-abcde/tuning")
+            .then()
+            .statusCode(400)
+            .body("error", equalTo("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void pauseAndResumeReturnTuning() {
+        when(reindexJobService.pause("reindex-20260218162500-abcde"))
+            .thenReturn(tuningResponse(TuningOverride.NONE.withPaused(true)));
+        when(reindexJobService.resume("reindex-20260218162500-abcde"))
+            .thenReturn(tuningResponse(TuningOverride.NONE.withPaused(false)));
+
+        given()
+            .contentType("application/json")
+            .when()
+            .post("/api/v1/reindex/jobs/reindex-20260218162500-abcde/pause")
+            .then()
+            .statusCode(200)
+            .body("tuning.paused", equalTo(true));
+
+        given()
+            .contentType("application/json")
+            .when()
+            .post("/api/v1/reindex/jobs/reindex-20260218162500-abcde/resume")
+            .then()
+            .statusCode(200)
+            .body("tuning.paused", equalTo(false));
+    }
+
+    @Test
+    void unknownJobReturnsNotFound() {
+        doThrow(new ReindexJobNotFoundException("Reindex job not found: missing", null))
+            .when(reindexJobService)
+            .pause("missing");
+
+        given()
+            .contentType("application/json")
+            .when()
+            .post("/api/v1/reindex/jobs/missing/pause")
+            .then()
+            .statusCode(404)
+            .body("error", equalTo("REINDEX_JOB_NOT_FOUND"));
+    }
+
+    @Test
+    void listReturnsCachedJobStatuses() {
+        when(reindexJobStatusService.list()).thenReturn(new ReindexJobListResponse(List.of(statusResponse())));
+
+        given()
+            .when()
+            .get("/api/v1/reindex/jobs")
+            .then()
+            .statusCode(200)
+            .body("jobs.size()", equalTo(1))
+            .body("jobs[0].jobName", equalTo("reindex-20260218162500-abcde"))
+            .body("jobs[0].phase", equalTo("RUNNING"))
+            .body("jobs[0].progress.docsIndexed", equalTo(2500))
+            .body("jobs[0].progress.etaSeconds", equalTo(75))
+            .body("jobs[0].pods[0].name", equalTo("reindex-20260218162500-abcde-0-x7k2p"));
+    }
+
+    @Test
+    void getReturnsJobStatus() {
+        when(reindexJobStatusService.get("reindex-20260218162500-abcde")).thenReturn(statusResponse());
+
+        given()
+            .when()
+            .get("/api/v1/reindex/jobs/reindex-20260218162500-abcde")
+            .then()
+            .statusCode(200)
+            .body("parallelism", equalTo(2))
+            .body("activePods", equalTo(2))
+            .body("progress.percent", equalTo(25.0f));
+    }
+
+    @Test
+    void getUnknownJobReturnsNotFound() {
+        doThrow(new ReindexJobNotFoundException("Reindex job not found: missing", null))
+            .when(reindexJobStatusService)
+            .get("missing");
+
+        given()
+            .when()
+            .get("/api/v1/reindex/jobs/missing")
+            .then()
+            .statusCode(404)
+            .body("error", equalTo("REINDEX_JOB_NOT_FOUND"));
+    }
+
+    @Test
+    void eventsStreamsJobStatusAsServerSentEvents() {
+        var status = statusResponse();
+        when(reindexJobStatusService.get("reindex-20260218162500-abcde")).thenReturn(status);
+        when(reindexJobEvents.stream("reindex-20260218162500-abcde", status)).thenReturn(Multi.createFrom().item(status));
+
+        given()
+            .accept("text/event-stream")
+            .when()
+            .get("/api/v1/reindex/jobs/reindex-20260218162500-abcde/events")
+            .then()
+            .statusCode(200)
+            .contentType(containsString("text/event-stream"))
+            .body(containsString("\"phase\":\"RUNNING\""));
+    }
+
+    @Test
+    void eventsForUnknownJobReturnNotFound() {
+        doThrow(new ReindexJobNotFoundException("Reindex job not found: missing", null))
+            .when(reindexJobStatusService)
+            .get("missing");
+
+        given()
+            .accept("text/event-stream")
+            .when()
+            .get("/api/v1/reindex/jobs/missing/events")
+            .then()
+            .statusCode(404);
+    }
+
+    private static ReindexJobStatusResponse statusResponse() {
+        var progress = new ReindexJobProgress(2_500, 10_000, 25.0, 100.0, 75L);
+        return new ReindexJobStatusResponse(
+            "reindex-20260218162500-abcde",
+            "solrex",
+            "RUNNING",
+            false,
+            2,
+            2,
+            0,
+            0,
+            OffsetDateTime.parse("2026-02-18T16:25:00Z"),
+            OffsetDateTime.parse("2026-02-18T16:25:05Z"),
+            null,
+            progress,
+            null,
+            List.of(new ReindexJobStatusResponse.Pod("reindex-20260218162500-abcde-0-x7k2p", "Running", 0, progress))
+        );
+    }
+
+    private static ReindexJobTuningResponse tuningResponse(TuningOverride tuning) {
+        return new ReindexJobTuningResponse(
+            "reindex-20260218162500-abcde",
+            "solrex",
+            "reindex-20260218162500-abcde-tuning",
+            tuning,
+            OffsetDateTime.parse("2026-02-18T16:30:00Z")
+        );
+    }
 }
@@ -5,18 +5,31 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.solrex.reindex.model.TuningOverride;
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import org.junit.jupiter.api.Test;
 
 class ReindexJobServiceTest {
+    private static final String SOLR_A = "http://solr-a:8983/solr";
+    private static final String SOLR_B = "http://solr-b:8983/solr";
+    private static final String SOLR_C = "http://solr-c:8983/solr";
+
     @Test
     void createUsesClientNamespaceAndReturnsAcceptedResponse() {
         var config = config(Optional.of("ignored-fallback"));
@@ -36,6 +49,237 @@ class ReindexJobServiceTest {
         assertThat(service.job.getMetadata().getName()).isEqualTo(response.jobName());
     }
 
+    @Test
+    void createRunsOneSinglePodJobByDefault() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        var response = service.create(TestReindexRequests.valid());
+
+        assertThat(response.parallelism()).isEqualTo(1);
+        assertThat(service.job.getSpec().getCompletionMode()).isNull();
+        assertThat(service.job.getSpec().getCompletions()).isNull();
+    }
+
+    @Test
+    void createRunsIndexedJobWithOnePodPerShardGroup() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        var response = service.create(TestReindexRequests.withParallelism(4));
+
+        assertThat(response.parallelism()).isEqualTo(4);
+        assertThat(service.job.getSpec().getCompletionMode()).isEqualTo("Indexed");
+        assertThat(service.job.getSpec().getCompletions()).isEqualTo(4);
+        assertThat(service.job.getSpec().getParallelism()).isEqualTo(4);
+        assertThat(service.configMap.getData().get(ReindexJobService.REQUEST_CONFIG_KEY)).contains("parallelism: 4");
+    }
+
+    @Test
+    void createRejectsParallelismAboveConfiguredMaximum() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        assertThatThrownBy(() -> service.create(TestReindexRequests.withParallelism(17)))
+            .isInstanceOf(InvalidReindexRequestException.class)
+            .satisfies(error -> assertThat(((InvalidReindexRequestException) error).details())
+                .containsExactly("parallelism must be less than or equal to 16"));
+    }
+
+    @Test
+    void createAddsTuningConfigMapWatchedByTheJob() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        var response = service.create(TestReindexRequests.valid());
+
+        assertThat(response.tuningConfigMapName()).isEqualTo(response.jobName() + "-tuning");
+        assertThat(service.tuningConfigMap.getMetadata().getName()).isEqualTo(response.tuningConfigMapName());
+        assertThat(service.tuningConfigMap.getMetadata().getLabels())
+            .containsEntry("solrex.io/reindex-job", response.jobName());
+        assertThat(service.tuningConfigMap.getMetadata().getAnnotations())
+            .containsEntry(ReindexJobService.ANNOTATION_MAX_WRITE_BATCH_SIZE, "200")
+            .containsEntry(ReindexJobService.ANNOTATION_MAX_WRITE_CONCURRENCY, "4");
+        assertThat(service.tuningConfigMap.getData())
+            .containsEntry(ReindexJobService.TUNING_CONFIG_KEY, "---\npaused: false\n");
+        assertThat(service.configMap.getData())
+            .containsEntry(ReindexJobService.TUNING_CONFIG_MAP_CONFIG_KEY, response.tuningConfigMapName());
+    }
+
+    @Test
+    void createStartsJobImmediatelyWhileClustersHaveCapacity() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.jobs.add(job("other-1", SOLR_A, SOLR_C, 4, "admitted", false));
+
+        var response = service.create(TestReindexRequests.valid());
+
+        assertThat(response.status()).isEqualTo("ACCEPTED");
+        assertThat(response.queuePosition()).isZero();
+        assertThat(service.job.getSpec().getSuspend()).isNull();
+        assertThat(service.job.getMetadata().getLabels()).containsEntry("solrex.io/admission", "admitted");
+        assertThat(service.job.getMetadata().getAnnotations())
+            .containsEntry("solrex.io/source-cluster", SOLR_A)
+            .containsEntry("solrex.io/target-cluster", SOLR_B)
+            .containsEntry("solrex.io/write-concurrency", "4");
+    }
+
+    @Test
+    void createQueuesSuspendedJobWhenSourceClusterIsAtCapacity() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.jobs.add(job("running-1", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("running-2", SOLR_C, SOLR_A, 4, "admitted", false));
+        service.jobs.add(job("running-3", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("finished", SOLR_A, SOLR_B, 4, "admitted", true));
+        service.jobs.add(job("queued-1", SOLR_A, SOLR_C, 4, "queued", false));
+
+        var response = service.create(TestReindexRequests.valid());
+
+        assertThat(response.status()).isEqualTo("QUEUED");
+        assertThat(response.queuePosition()).isEqualTo(2);
+        assertThat(service.job.getSpec().getSuspend()).isTrue();
+        assertThat(service.job.getMetadata().getLabels()).containsEntry("solrex.io/admission", "queued");
+    }
+
+    @Test
+    void createRejectsRequestWhenQueueIsFull() {
+        var config = config(Optional.of("solrex"));
+        when(config.admission().maxQueuedJobs()).thenReturn(1);
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.jobs.add(job("running-1", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("running-2", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("running-3", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("queued-1", SOLR_A, SOLR_C, 4, "queued", false));
+
+        assertThatThrownBy(() -> service.create(TestReindexRequests.valid()))
+            .isInstanceOf(ReindexJobQueueFullException.class)
+            .hasMessageContaining("1 jobs are already waiting");
+        assertThat(service.job).isNull();
+    }
+
+    @Test
+    void createRejectsWriteConcurrencyThatCanNeverFitClusterQuota() {
+        var config = config(Optional.of("solrex"));
+        when(config.admission().maxWriteConcurrencyPerCluster()).thenReturn(8);
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        assertThatThrownBy(() -> service.create(TestReindexRequests.withParallelism(4)))
+            .isInstanceOf(InvalidReindexRequestException.class)
+            .satisfies(error -> assertThat(((InvalidReindexRequestException) error).details())
+                .containsExactly("tuning.writeConcurrency multiplied by parallelism must be less than or equal to 8"));
+    }
+
+    @Test
+    void createChargesAutoTunedJobsForTheirDoubledWriteConcurrency() {
+        var config = config(Optional.of("solrex"));
+        when(config.admission().maxWriteConcurrencyPerCluster()).thenReturn(16);
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        assertThatThrownBy(() -> service.create(TestReindexRequests.autoTuned(3)))
+            .isInstanceOf(InvalidReindexRequestException.class)
+            .satisfies(error -> assertThat(((InvalidReindexRequestException) error).details())
+                .containsExactly("tuning.writeConcurrency doubled for auto-tuning multiplied by parallelism must be "
+                    + "less than or equal to 16"));
+    }
+
+    @Test
+    void startQueuedJobsStartsOldestJobsThatFitOnceOthersFinish() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.jobs.add(job("running-1", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("running-2", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("finished", SOLR_A, SOLR_C, 4, "admitted", true));
+        service.jobs.add(job("queued-2", SOLR_A, SOLR_B, 4, "queued", false, "2026-02-18T16:21:00Z"));
+        service.jobs.add(job("queued-1", SOLR_A, SOLR_B, 4, "queued", false, "2026-02-18T16:20:00Z"));
+
+        assertThat(service.startQueuedJobs()).containsExactly("queued-1");
+        assertThat(service.startedJobs).containsExactly("queued-1");
+    }
+
+    @Test
+    void updateTuningKeepsPauseStateUnlessGiven() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:30:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.tuningYaml = "paused: true\nwriteConcurrency: 4\n";
+
+        var response = service.updateTuning("reindex-20260218162500-abcde", new TuningOverride(500, 2, 5_000, null));
+
+        assertThat(response.tuningConfigMapName()).isEqualTo("reindex-20260218162500-abcde-tuning");
+        assertThat(response.tuning()).isEqualTo(new TuningOverride(500, 2, 5_000, true));
+        assertThat(response.updatedAt()).isEqualTo(OffsetDateTime.parse("2026-02-18T16:30:00Z"));
+        assertThat(service.tuningYaml)
+            .contains("writeBatchSize: 500", "writeConcurrency: 2", "maxDocsPerSecond: 5000", "paused: true");
+    }
+
+    @Test
+    void updateTuningRejectsValuesAboveWhatTheJobWasSizedFor() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:30:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.tuningYaml = "writeConcurrency: 2\n";
+        service.tuningAnnotations = Map.of(
+            ReindexJobService.ANNOTATION_MAX_WRITE_BATCH_SIZE, "200",
+            ReindexJobService.ANNOTATION_MAX_WRITE_CONCURRENCY, "4");
+
+        assertThatThrownBy(() -> service.updateTuning(
+            "reindex-20260218162500-abcde", new TuningOverride(5_000, 32, null, null)))
+            .isInstanceOf(InvalidReindexRequestException.class)
+            .satisfies(error -> assertThat(((InvalidReindexRequestException) error).details())
+                .containsExactly(
+                    "writeBatchSize must be less than or equal to 200",
+                    "writeConcurrency must be less than or equal to 4"));
+        assertThat(service.tuningYaml).isEqualTo("writeConcurrency: 2\n");
+    }
+
+    @Test
+    void pauseAndResumeKeepOtherTuning() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:30:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.tuningYaml = "writeConcurrency: 2\n";
+
+        assertThat(service.pause("reindex-20260218162500-abcde").tuning())
+            .isEqualTo(new TuningOverride(null, 2, null, true));
+        assertThat(service.resume("reindex-20260218162500-abcde").tuning())
+            .isEqualTo(new TuningOverride(null, 2, null, false));
+    }
+
+    @Test
+    void pauseThrowsNotFoundForUnknownJob() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:30:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.jobExists = false;
+
+        assertThatThrownBy(() -> service.pause("missing"))
+            .isInstanceOf(ReindexJobNotFoundException.class)
+            .hasMessageContaining("missing");
+    }
+
+    @Test
+    void pauseThrowsNotFoundWhenJobHasNoTuningConfigMap() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:30:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.throwable = new KubernetesClientException("Not Found", 404, null);
+
+        assertThatThrownBy(() -> service.pause("reindex-20260218162500-abcde"))
+            .isInstanceOf(ReindexJobNotFoundException.class)
+            .hasMessageContaining("reindex-20260218162500-abcde-tuning");
+    }
+
     @Test
     void createFallsBackToConfiguredNamespace() {
         var config = config(Optional.of("solrex"));
@@ -71,6 +315,74 @@ class ReindexJobServiceTest {
             .hasMessageContaining("Generated job name already exists");
     }
 
+    @Test
+    void planCreatesSingleDryRunJobThatReportsThroughItsTerminationMessage() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        var response = service.plan(TestReindexRequests.withParallelism(4), " scratch_collection ");
+
+        assertThat(response.status()).isEqualTo("ACCEPTED");
+        assertThat(response.parallelism()).isEqualTo(1);
+        assertThat(service.job.getSpec().getSuspend()).isNull();
+        assertThat(service.job.getSpec().getCompletionMode()).isNull();
+        assertThat(service.job.getMetadata().getLabels()).containsEntry("solrex.io/dry-run", "true");
+        assertThat(service.job.getMetadata().getAnnotations()).containsEntry("solrex.io/write-concurrency", "1");
+        assertThat(service.job.getSpec().getTemplate().getSpec().getContainers().getFirst().getEnv())
+            .extracting(env -> env.getName() + "=" + env.getValue())
+            .contains(
+                "REINDEX_JOB_DRY_RUN_ENABLED=true",
+                "REINDEX_JOB_DRY_RUN_PROBE_COLLECTION=scratch_collection",
+                "REINDEX_JOB_SUMMARY_FILE=/dev/termination-log"
+            );
+    }
+
+    @Test
+    void planQueuesBehindJobsThatFillTheCluster() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        service.jobs.add(job("running-1", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("running-2", SOLR_A, SOLR_C, 4, "admitted", false));
+        service.jobs.add(job("running-3", SOLR_A, SOLR_C, 4, "admitted", false));
+
+        var response = service.plan(TestReindexRequests.valid(), "scratch_collection");
+
+        assertThat(response.status()).isEqualTo("QUEUED");
+        assertThat(response.queuePosition()).isEqualTo(1);
+        assertThat(service.job.getSpec().getSuspend()).isTrue();
+        assertThat(service.job.getMetadata().getLabels()).containsEntry("solrex.io/admission", "queued");
+    }
+
+    @Test
+    void planRejectsProbingTheTargetCollection() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        var request = TestReindexRequests.valid();
+
+        assertThatThrownBy(() -> service.plan(request, request.target().collection()))
+            .isInstanceOf(InvalidReindexRequestException.class);
+    }
+
+    @Test
+    void createCountsDryRunJobsAgainstClusterCapacity() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+        for (var name : List.of("plan-1", "plan-2", "plan-3")) {
+            var plan = job(name, SOLR_A, SOLR_C, 1, "admitted", false);
+            plan.getMetadata().getLabels().put("solrex.io/dry-run", "true");
+            service.jobs.add(plan);
+        }
+
+        var response = service.create(TestReindexRequests.valid());
+
+        assertThat(response.status()).isEqualTo("QUEUED");
+        assertThat(service.job.getMetadata().getLabels()).doesNotContainKey("solrex.io/dry-run");
+    }
+
     @Test
     void createAlwaysIncludesRequiredEnvironmentVariables() {
         var config = config(Optional.of("solrex"));
@@ -97,6 +409,46 @@ class ReindexJobServiceTest {
         );
     }
 
+    @Test
+    void createSizesContainerFromTuningAndSampledDocumentSize() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        service.create(TestReindexRequests.valid(), 65_536L);
+
+        var container = service.job.getSpec().getTemplate().getSpec().getContainers().getFirst();
+        assertThat(container.getResources().getRequests().get("memory")).hasToString("5408Mi");
+        assertThat(container.getResources().getLimits().get("memory")).hasToString("5408Mi");
+        assertThat(container.getResources().getRequests().get("cpu")).hasToString("2000m");
+        assertThat(container.getEnv())
+            .filteredOn(env -> env.getName().equals("JAVA_TOOL_OPTIONS"))
+            .singleElement()
+            .satisfies(env -> assertThat(env.getValue())
+                .isEqualTo("-XX:MaxRAMPercentage=75 -XX:+UseG1GC -XX:+ExitOnOutOfMemoryError"));
+    }
+
+    @Test
+    void createExposesMetricsPortForScraping() {
+        var config = config(Optional.of("solrex"));
+        var clock = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+        var service = new TestableReindexJobService(config, "solrex", clock);
+
+        service.create(TestReindexRequests.valid());
+
+        var template = service.job.getSpec().getTemplate();
+        assertThat(template.getMetadata().getAnnotations())
+            .containsEntry("prometheus.io/scrape", "true")
+            .containsEntry("prometheus.io/port", "8080")
+            .containsEntry("prometheus.io/path", "/q/metrics");
+        assertThat(template.getSpec().getContainers().getFirst().getPorts())
+            .singleElement()
+            .satisfies(port -> {
+                assertThat(port.getName()).isEqualTo("http");
+                assertThat(port.getContainerPort()).isEqualTo(8080);
+            });
+    }
+
     private static ReindexApiConfig config(Optional<String> fallbackNamespace) {
         var config = mock(ReindexApiConfig.class);
         var k8sConfig = mock(ReindexApiConfig.K8s.class);
@@ -113,16 +465,66 @@ class ReindexJobServiceTest {
         when(jobConfig.ttlSecondsAfterFinished()).thenReturn(3600);
         when(jobConfig.kubernetesConfigEnabled()).thenReturn(true);
         when(jobConfig.kubernetesConfigFailOnMissingConfig()).thenReturn(true);
+        when(jobConfig.maxParallelism()).thenReturn(16);
+        when(jobConfig.resources()).thenReturn(ReindexJobSizingTest.resourcesConfig());
+
+        var admissionConfig = mock(ReindexApiConfig.Admission.class);
+        when(config.admission()).thenReturn(admissionConfig);
+        when(admissionConfig.enabled()).thenReturn(true);
+        when(admissionConfig.maxJobsPerCluster()).thenReturn(3);
+        when(admissionConfig.maxWriteConcurrencyPerCluster()).thenReturn(64);
+        when(admissionConfig.maxQueuedJobs()).thenReturn(100);
+        when(admissionConfig.lockLeaseDuration()).thenReturn(Duration.ofSeconds(30));
+        when(admissionConfig.lockTimeout()).thenReturn(Duration.ofSeconds(30));
 
         return config;
     }
 
+    private static Job job(String name, String source, String target, int writeConcurrency, String admission, boolean finished) {
+        return job(name, source, target, writeConcurrency, admission, finished, "2026-02-18T16:00:00Z");
+    }
+
+    private static Job job(
+        String name,
+        String source,
+        String target,
+        int writeConcurrency,
+        String admission,
+        boolean finished,
+        String createdAt
+    ) {
+        var builder = new JobBuilder()
+            .withNewMetadata()
+            .withName(name)
+            .withCreationTimestamp(createdAt)
+            .addToLabels("solrex.io/admission", admission)
+            .addToAnnotations("solrex.io/source-cluster", source)
+            .addToAnnotations("solrex.io/target-cluster", target)
+            .addToAnnotations("solrex.io/write-concurrency", Integer.toString(writeConcurrency))
+            .endMetadata();
+        if (finished) {
+            builder.withNewStatus()
+                .addNewCondition()
+                .withType("Complete")
+                .withStatus("True")
+                .endCondition()
+                .endStatus();
+        }
+        return builder.build();
+    }
+
     private static final class TestableReindexJobService extends ReindexJobService {
         private final String currentNamespace;
         private String namespace;
         private ConfigMap configMap;
+        private ConfigMap tuningConfigMap;
         private Job job;
         private RuntimeException throwable;
+        private boolean jobExists = true;
+        private String tuningYaml = "";
+        private Map<String, String> tuningAnnotations = Map.of();
+        private final List<Job> jobs = new ArrayList<>();
+        private final List<String> startedJobs = new ArrayList<>();
 
         private TestableReindexJobService(ReindexApiConfig config, String currentNamespace, Clock clock) {
             super(config, mock(KubernetesClient.class), new ReindexJobNameGenerator(), defaultYamlMapper(), clock);
@@ -135,13 +537,47 @@ class ReindexJobServiceTest {
         }
 
         @Override
-        protected void createResources(String namespace, ConfigMap configMap, Job job) {
+        protected void createResources(String namespace, ConfigMap configMap, ConfigMap tuningConfigMap, Job job) {
             if (throwable != null) {
                 throw throwable;
             }
             this.namespace = namespace;
             this.configMap = configMap;
+            this.tuningConfigMap = tuningConfigMap;
             this.job = job;
         }
+
+        @Override
+        protected <T> T withAdmissionLock(String namespace, Supplier<T> action) {
+            return action.get();
+        }
+
+        @Override
+        protected List<Job> listJobs(String namespace) {
+            return jobs;
+        }
+
+        @Override
+        protected void startJob(String namespace, String jobName) {
+            startedJobs.add(jobName);
+        }
+
+        @Override
+        protected Job findJob(String namespace, String jobName) {
+            return jobExists ? new Job() : null;
+        }
+
+        @Override
+        protected ConfigMap editConfigMap(String namespace, String configMapName, UnaryOperator<ConfigMap> edit) {
+            if (throwable != null) {
+                throw throwable;
+            }
+            var edited = edit.apply(new ConfigMapBuilder()
+                .withNewMetadata().withName(configMapName).withAnnotations(tuningAnnotations).endMetadata()
+                .addToData(ReindexJobService.TUNING_CONFIG_KEY, tuningYaml)
+                .build());
+            tuningYaml = edited.getData().get(ReindexJobService.TUNING_CONFIG_KEY);
+            return edited;
+        }
     }
 }
@@ -0,0 +1,135 @@
+package com.solrex.reindex.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.solrex.reindex.model.AutoTunePolicy;
+import com.solrex.reindex.model.HedgePolicy;
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.model.ReplicaSelection;
+import com.solrex.reindex.model.RetryPolicy;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ReindexJobSizingTest {
+    @Test
+    void shouldSizeMemoryAndCpuFromTheRequestTuning() {
+        var sizing = new ReindexJobSizing(resourcesConfig()).size(ReindexTuning.defaults(), null);
+
+        assertThat(sizing.averageDocBytes()).isEqualTo(4_096);
+        assertThat(sizing.estimatedHeapBytes())
+            .isEqualTo(ReindexTuning.BASE_HEAP_BYTES + (16L * 500 + 36L * 200) * 4_096 * 4);
+        assertThat(sizing.resources().getRequests().get("memory")).hasToString("658Mi");
+        assertThat(sizing.resources().getLimits().get("memory")).hasToString("658Mi");
+        assertThat(sizing.resources().getRequests().get("cpu")).hasToString("2000m");
+        assertThat(sizing.resources().getLimits().get("cpu")).hasToString("4000m");
+        assertThat(sizing.javaOptions())
+            .isEqualTo("-XX:MaxRAMPercentage=75 -XX:+UseG1GC -XX:+ExitOnOutOfMemoryError");
+    }
+
+    @Test
+    void shouldUseSampledDocumentSizeAndCapMemory() {
+        var sizing = new ReindexJobSizing(resourcesConfig()).size(ReindexTuning.defaults(), 1_048_576L);
+
+        assertThat(sizing.averageDocBytes()).isEqualTo(1_048_576);
+        assertThat(sizing.resources().getLimits().get("memory")).hasToString("16384Mi");
+        assertThat(sizing.javaOptions())
+            .isEqualTo("-XX:MaxRAMPercentage=75 -XX:+UseZGC -XX:+ZGenerational -XX:+ExitOnOutOfMemoryError");
+    }
+
+    @Test
+    void shouldLeaveHeadroomForAutoTuning() {
+        var tuning = new ReindexTuning(
+            500,
+            200,
+            4,
+            RetryPolicy.defaults(),
+            ReplicaSelection.LEADER_ONLY,
+            16,
+            HedgePolicy.disabled(),
+            0,
+            new AutoTunePolicy(true, null, null, null, 0.0)
+        );
+
+        var sizing = new ReindexJobSizing(resourcesConfig()).size(tuning, null);
+
+        assertThat(sizing.estimatedHeapBytes())
+            .isEqualTo(ReindexTuning.BASE_HEAP_BYTES + (16L * 1_000 + 40L * 400) * 4_096 * 4);
+        assertThat(sizing.resources().getLimits().get("memory")).hasToString("1008Mi");
+        assertThat(sizing.resources().getRequests().get("cpu")).hasToString("2400m");
+    }
+
+    @Test
+    void shouldApplyAdminOverrides() {
+        var config = resourcesConfig();
+        when(config.memoryLimit()).thenReturn(Optional.of("12Gi"));
+        when(config.cpuRequest()).thenReturn(Optional.of("1"));
+
+        var sizing = new ReindexJobSizing(config).size(ReindexTuning.defaults(), null);
+
+        assertThat(sizing.resources().getRequests().get("memory")).hasToString("658Mi");
+        assertThat(sizing.resources().getLimits().get("memory")).hasToString("12Gi");
+        assertThat(sizing.resources().getRequests().get("cpu")).hasToString("1");
+        assertThat(sizing.javaOptions()).contains("-XX:+UseZGC");
+
+        when(config.javaOptions()).thenReturn(Optional.of(" -Xmx6g -XX:+UseParallelGC "));
+        assertThat(new ReindexJobSizing(config).size(ReindexTuning.defaults(), null).javaOptions())
+            .isEqualTo("-Xmx6g -XX:+UseParallelGC");
+    }
+
+    @Test
+    void shouldKeepRequestsWithinOverriddenLimits() {
+        var config = resourcesConfig();
+        when(config.memoryLimit()).thenReturn(Optional.of("256Mi"));
+        when(config.cpuLimit()).thenReturn(Optional.of("250m"));
+
+        var resources = new ReindexJobSizing(config).size(ReindexTuning.defaults(), null).resources();
+
+        assertThat(resources.getRequests().get("memory")).hasToString("256Mi");
+        assertThat(resources.getLimits().get("memory")).hasToString("256Mi");
+        assertThat(resources.getRequests().get("cpu")).hasToString("250m");
+        assertThat(resources.getLimits().get("cpu")).hasToString("250m");
+    }
+
+    @Test
+    void shouldRaiseLimitsToOverriddenRequests() {
+        var config = resourcesConfig();
+        when(config.memoryRequest()).thenReturn(Optional.of("2Gi"));
+        when(config.cpuRequest()).thenReturn(Optional.of("8"));
+
+        var resources = new ReindexJobSizing(config).size(ReindexTuning.defaults(), null).resources();
+
+        assertThat(resources.getLimits().get("memory")).hasToString("2Gi");
+        assertThat(resources.getLimits().get("cpu")).hasToString("8");
+    }
+
+    @Test
+    void shouldRejectOverriddenRequestAboveOverriddenLimit() {
+        var config = resourcesConfig();
+        when(config.memoryRequest()).thenReturn(Optional.of("1Gi"));
+        when(config.memoryLimit()).thenReturn(Optional.of("256Mi"));
+
+        assertThatThrownBy(() -> new ReindexJobSizing(config))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("memory-request");
+    }
+
+    static ReindexApiConfig.Resources resourcesConfig() {
+        var config = mock(ReindexApiConfig.Resources.class);
+        when(config.averageDocBytes()).thenReturn(4_096L);
+        when(config.maxRamPercentage()).thenReturn(75);
+        when(config.minMemory()).thenReturn("512Mi");
+        when(config.maxMemory()).thenReturn("16Gi");
+        when(config.minCpu()).thenReturn("500m");
+        when(config.maxCpu()).thenReturn("4");
+        when(config.zgcMinHeap()).thenReturn("8Gi");
+        when(config.memoryRequest()).thenReturn(Optional.empty());
+        when(config.memoryLimit()).thenReturn(Optional.empty());
+        when(config.cpuRequest()).thenReturn(Optional.empty());
+        when(config.cpuLimit()).thenReturn(Optional.empty());
+        when(config.javaOptions()).thenReturn(Optional.empty());
+        return config;
+    }
+}
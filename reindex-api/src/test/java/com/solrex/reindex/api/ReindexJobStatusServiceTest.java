@@ -0,0 +1,173 @@
+package com.solrex.reindex.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ReindexJobStatusServiceTest {
+    private final ReindexJobInformers informers = mock(ReindexJobInformers.class);
+    private final ReindexJobMetricsScraper scraper = mock(ReindexJobMetricsScraper.class);
+    private final ReindexJobStatusService service = new ReindexJobStatusService(informers, scraper);
+
+    @Test
+    void aggregatesProgressAcrossRunningPods() {
+        var pods = List.of(pod("reindex-a-0-abcde", 0), pod("reindex-a-1-fghij", 1));
+        when(informers.job("reindex-a")).thenReturn(Optional.of(runningJob("reindex-a", 2)));
+        when(informers.pods("reindex-a")).thenReturn(pods);
+        when(scraper.scrape(pods)).thenReturn(Map.of(
+            "reindex-a-0-abcde", new ReindexJobMetricsScraper.PodMetrics(0.5, 100.0, 50L, 5_000, 10_000),
+            "reindex-a-1-fghij", new ReindexJobMetricsScraper.PodMetrics(0.1, 50.0, 180L, 1_000, 10_000)
+        ));
+
+        var status = service.get("reindex-a");
+
+        assertThat(status.phase()).isEqualTo(ReindexJobStatusService.PHASE_RUNNING);
+        assertThat(status.dryRun()).isFalse();
+        assertThat(status.plan()).isNull();
+        assertThat(status.parallelism()).isEqualTo(2);
+        assertThat(status.activePods()).isEqualTo(2);
+        assertThat(status.startedAt()).isEqualTo(OffsetDateTime.parse("2026-02-18T16:25:05Z"));
+        assertThat(status.progress()).isEqualTo(new ReindexJobProgress(6_000, 20_000, 30.0, 150.0, 180L));
+        assertThat(status.pods())
+            .extracting(ReindexJobStatusResponse.Pod::completionIndex)
+            .containsExactly(0, 1);
+        assertThat(status.pods().getFirst().progress().percent()).isEqualTo(50.0);
+    }
+
+    @Test
+    void leavesEtaUnknownWhenAnyRunningPodHasNoEstimate() {
+        var progress = ReindexJobStatusService.aggregate(ReindexJobStatusService.PHASE_RUNNING, Map.of(
+            "a", new ReindexJobMetricsScraper.PodMetrics(0.5, 100.0, 50L, 5_000, 10_000),
+            "b", new ReindexJobMetricsScraper.PodMetrics(0.0, 0.0, null, 0, 10_000)
+        ));
+
+        assertThat(progress.etaSeconds()).isNull();
+        assertThat(progress.percent()).isEqualTo(25.0);
+    }
+
+    @Test
+    void reportsCompletedJobsAsFullyIndexed() {
+        var progress = ReindexJobStatusService.aggregate(ReindexJobStatusService.PHASE_SUCCEEDED, Map.of());
+
+        assertThat(progress.percent()).isEqualTo(100.0);
+        assertThat(progress.etaSeconds()).isZero();
+    }
+
+    @Test
+    void derivesPhaseFromAdmissionLabelAndConditions() {
+        var queued = new JobBuilder()
+            .withNewMetadata().withName("queued").addToLabels("solrex.io/admission", "queued").endMetadata()
+            .build();
+        var failed = new JobBuilder(queued)
+            .withNewStatus().addNewCondition().withType("Failed").withStatus("True").endCondition().endStatus()
+            .build();
+        var pending = new JobBuilder()
+            .withNewMetadata().withName("pending").addToLabels("solrex.io/admission", "admitted").endMetadata()
+            .build();
+
+        assertThat(ReindexJobStatusService.phase(queued)).isEqualTo(ReindexJobStatusService.PHASE_QUEUED);
+        assertThat(ReindexJobStatusService.phase(failed)).isEqualTo(ReindexJobStatusService.PHASE_FAILED);
+        assertThat(ReindexJobStatusService.phase(pending)).isEqualTo(ReindexJobStatusService.PHASE_PENDING);
+    }
+
+    @Test
+    void listsJobsFromTheInformerCacheAndForgetsDeletedPods() {
+        var pods = List.of(pod("reindex-a-0-abcde", 0));
+        when(informers.jobs()).thenReturn(List.of(runningJob("reindex-a", 1)));
+        when(informers.pods("reindex-a")).thenReturn(pods);
+        when(scraper.scrape(anyList())).thenReturn(Map.of());
+
+        var response = service.list();
+
+        assertThat(response.jobs()).extracting(ReindexJobStatusResponse::jobName).containsExactly("reindex-a");
+        assertThat(response.jobs().getFirst().progress()).isEqualTo(ReindexJobProgress.UNKNOWN);
+        verify(scraper).forget(pods);
+    }
+
+    @Test
+    void readsDryRunPlanFromTheSucceededPodTerminationMessage() {
+        var job = new JobBuilder(runningJob("plan-a", 1))
+            .editMetadata().addToLabels("solrex.io/dry-run", "true").endMetadata()
+            .editStatus().withActive(0).withSucceeded(1).addNewCondition().withType("Complete").withStatus("True")
+            .endCondition().endStatus()
+            .build();
+        var pod = new PodBuilder(pod("plan-a-0-abcde", 0))
+            .editStatus()
+            .withPhase("Succeeded")
+            .addNewContainerStatus()
+            .withName("reindex")
+            .withNewState()
+            .withNewTerminated()
+            .withExitCode(0)
+            .withMessage("{\"estimatedDocs\":4000000,\"recommendedTuning\":{\"writeBatchSize\":2000}}")
+            .endTerminated()
+            .endState()
+            .endContainerStatus()
+            .endStatus()
+            .build();
+        when(informers.job("plan-a")).thenReturn(Optional.of(job));
+        when(informers.pods("plan-a")).thenReturn(List.of(pod));
+        when(scraper.scrape(anyList())).thenReturn(Map.of());
+
+        var status = service.get("plan-a");
+
+        assertThat(status.dryRun()).isTrue();
+        assertThat(status.phase()).isEqualTo(ReindexJobStatusService.PHASE_SUCCEEDED);
+        assertThat(status.plan().at("/estimatedDocs").asLong()).isEqualTo(4_000_000);
+        assertThat(status.plan().at("/recommendedTuning/writeBatchSize").asInt()).isEqualTo(2_000);
+    }
+
+    @Test
+    void unknownJobIsNotFound() {
+        when(informers.job("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.get("missing"))
+            .isInstanceOf(ReindexJobNotFoundException.class)
+            .hasMessage("Reindex job not found: missing");
+    }
+
+    private static Job runningJob(String name, int parallelism) {
+        return new JobBuilder()
+            .withNewMetadata()
+            .withName(name)
+            .withNamespace("solrex")
+            .withCreationTimestamp("2026-02-18T16:25:00Z")
+            .addToLabels("solrex.io/admission", "admitted")
+            .endMetadata()
+            .withNewSpec()
+            .withParallelism(parallelism)
+            .endSpec()
+            .withNewStatus()
+            .withActive(parallelism)
+            .withStartTime("2026-02-18T16:25:05Z")
+            .endStatus()
+            .build();
+    }
+
+    private static Pod pod(String name, int completionIndex) {
+        return new PodBuilder()
+            .withNewMetadata()
+            .withName(name)
+            .withUid(name + "-uid")
+            .addToAnnotations("batch.kubernetes.io/job-completion-index", Integer.toString(completionIndex))
+            .endMetadata()
+            .withNewStatus()
+            .withPhase("Running")
+            .withPodIP("10.0.0." + (completionIndex + 1))
+            .endStatus()
+            .build();
+    }
+}
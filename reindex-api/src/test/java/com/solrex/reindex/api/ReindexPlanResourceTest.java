@@ -0,0 +1,67 @@
+package com.solrex.reindex.api;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class ReindexPlanResourceTest {
+    @InjectMock
+    ReindexJobService reindexJobService;
+
+    @BeforeEach
+    void setUp() {
+        reset(reindexJobService);
+        when(reindexJobService.plan(any(), any())).thenReturn(
+            CreateReindexJobResponse.accepted(
+                "reindex-20260218162500-abcde",
+                "solrex",
+                "reindex-20260218162500-abcde-request",
+                "reindex-20260218162500-abcde-tuning",
+                1,
+                OffsetDateTime.parse("2026-02-18T16:25:00Z")
+            )
+        );
+    }
+
+    @Test
+    void planStartsDryRunJobWithProbeCollection() {
+        given()
+            .contentType("application/json")
+            .body(TestReindexRequests.valid())
+            .queryParam("probeCollection", "scratch_collection")
+            .when()
+            .post("/api/v1/reindex/plan")
+            .then()
+            .statusCode(202)
+            .body("status", equalTo("ACCEPTED"))
+            .body("jobName", equalTo("reindex-20260218162500-abcde"));
+
+        verify(reindexJobService).plan(any(), eq("scratch_collection"));
+    }
+
+    @Test
+    void invalidPayloadReturnsBadRequest() {
+        given()
+            .contentType("application/json")
+            .body("{}")
+            .when()
+            .post("/api/v1/reindex/plan")
+            .then()
+            .statusCode(400)
+            .body("error", equalTo("VALIDATION_ERROR"));
+
+        verify(reindexJobService, never()).plan(any(), any());
+    }
+}
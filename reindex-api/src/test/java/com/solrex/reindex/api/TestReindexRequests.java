@@ -1,5 +1,6 @@
 package com.solrex.reindex.api;
 
+import com.solrex.reindex.model.AutoTunePolicy;
 import com.solrex.reindex.model.ClusterConfig;
 import com.solrex.reindex.model.CollectionRef;
 import com.solrex.reindex.model.ReindexRequest;
@@ -23,6 +24,39 @@ final class TestReindexRequests {
         );
     }
 
+    static ReindexRequest withParallelism(int parallelism) {
+        return new ReindexRequest(
+            sourceCollection(),
+            targetCollection(),
+            List.of(),
+            List.of("id", "title", "category"),
+            ReindexTuning.defaults(),
+            parallelism
+        );
+    }
+
+    static ReindexRequest autoTuned(int parallelism) {
+        var defaults = ReindexTuning.defaults();
+        return new ReindexRequest(
+            sourceCollection(),
+            targetCollection(),
+            List.of(),
+            List.of("id", "title", "category"),
+            new ReindexTuning(
+                defaults.readPageSize(),
+                defaults.writeBatchSize(),
+                defaults.writeConcurrency(),
+                defaults.retryPolicy(),
+                defaults.replicaSelection(),
+                defaults.readConcurrency(),
+                defaults.hedgePolicy(),
+                defaults.maxDocsPerSecond(),
+                new AutoTunePolicy(true, null, null, null, 0.0)
+            ),
+            parallelism
+        );
+    }
+
     private static CollectionRef sourceCollection() {
         return new CollectionRef(SOURCE_CLUSTER, "source_collection");
     }
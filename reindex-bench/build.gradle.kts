@@ -0,0 +1,30 @@
+plugins {
+    java
+    id("me.champeau.jmh")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+dependencies {
+    jmhImplementation(enforcedPlatform("io.quarkus.platform:quarkus-bom:3.15.2"))
+    jmhImplementation(project(":reindex"))
+    jmhImplementation(project(":reindex-common"))
+
+    jmhImplementation("io.smallrye.reactive:mutiny")
+    jmhImplementation("org.apache.solr:solr-solrj:9.10.1")
+    jmhImplementation("com.fasterxml.jackson.core:jackson-databind")
+    jmhImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    (findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+}
@@ -0,0 +1,110 @@
+package com.solrex.reindex.bench;
+
+import com.solrex.reindex.model.AutoTunePolicy;
+import com.solrex.reindex.model.ClusterConfig;
+import com.solrex.reindex.model.CollectionRef;
+import com.solrex.reindex.model.HedgePolicy;
+import com.solrex.reindex.model.ReindexRequest;
+import com.solrex.reindex.model.ReindexResult;
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.model.ReplicaSelection;
+import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.pipeline.ReindexPipeline;
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReindexPipelineBenchmark {
+    @Param("20000")
+    int documents;
+
+    @Param("512")
+    int bodyBytes;
+
+    @Param({"500", "2000"})
+    int readPageSize;
+
+    @Param({"200", "1000"})
+    int writeBatchSize;
+
+    @Param({"1", "4", "16"})
+    int writeConcurrency;
+
+    @Param({"0", "2"})
+    int writeLatencyMillis;
+
+    private ReindexRequest request;
+    private ReindexPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var tuning = new ReindexTuning(
+            readPageSize,
+            writeBatchSize,
+            writeConcurrency,
+            RetryPolicy.defaults(),
+            ReplicaSelection.LEADER_ONLY,
+            ReindexTuning.DEFAULT_READ_CONCURRENCY,
+            HedgePolicy.disabled(),
+            0,
+            AutoTunePolicy.disabled()
+        );
+        request = new ReindexRequest(
+            new CollectionRef(new ClusterConfig("http://bench-source:8983/solr"), "source_collection"),
+            new CollectionRef(new ClusterConfig("http://bench-target:8983/solr"), "target_collection"),
+            List.of(),
+            SyntheticDocuments.FIELDS,
+            tuning
+        );
+
+        var writeLatency = Duration.ofMillis(writeLatencyMillis);
+        pipeline = new ReindexPipeline(
+            ignored -> Uni.createFrom().item(() -> SyntheticDocuments.pages(documents, readPageSize, bodyBytes)),
+            (ignored, batch) -> write(writeLatency)
+        );
+    }
+
+    @Benchmark
+    public ReindexResult reindex(IndexedDocuments indexed) {
+        var result = pipeline.execute(request).await().indefinitely();
+        indexed.documents += result.stats().docsIndexed();
+        return result;
+    }
+
+    private static Uni<Void> write(Duration latency) {
+        return latency.isZero()
+            ? Uni.createFrom().voidItem()
+            : Uni.createFrom().voidItem().onItem().delayIt().by(latency);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class IndexedDocuments {
+        public long documents;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            documents = 0;
+        }
+    }
+}
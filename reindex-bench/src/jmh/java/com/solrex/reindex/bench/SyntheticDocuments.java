@@ -0,0 +1,42 @@
+package com.solrex.reindex.bench;
+
+import io.smallrye.mutiny.Multi;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.solr.common.SolrInputDocument;
+
+final class SyntheticDocuments {
+    static final List<String> FIELDS = List.of("id", "title", "category", "body", "price", "tags");
+
+    private SyntheticDocuments() {
+    }
+
+    static Multi<SolrInputDocument> pages(int documents, int pageSize, int bodyBytes) {
+        var body = "x".repeat(bodyBytes);
+        var pages = Math.ceilDiv(documents, pageSize);
+        return Multi.createFrom().range(0, pages)
+            .onItem().transformToIterable(page -> {
+                var first = page * pageSize;
+                return page(first, Math.min(pageSize, documents - first), body);
+            });
+    }
+
+    static List<SolrInputDocument> page(int first, int size, String body) {
+        var page = new ArrayList<SolrInputDocument>(size);
+        for (int i = first; i < first + size; i++) {
+            page.add(document(i, body));
+        }
+        return page;
+    }
+
+    static SolrInputDocument document(int id, String body) {
+        var doc = new SolrInputDocument();
+        doc.addField("id", "doc-" + id);
+        doc.addField("title", "Document " + id);
+        doc.addField("category", "category-" + (id % 16));
+        doc.addField("body", body);
+        doc.addField("price", id % 1_000 + 0.99);
+        doc.addField("tags", List.of("tag-" + (id % 7), "tag-" + (id % 11)));
+        return doc;
+    }
+}
@@ -0,0 +1,77 @@
+package com.solrex.reindex.solr;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.util.JavaBinCodec;
+import org.apache.solr.common.util.NamedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentConversionBenchmark {
+    @Param({"SMALL_FIELDS", "LARGE_TEXT", "MULTI_VALUED"})
+    DocumentShape shape;
+
+    @Param("500")
+    int pageSize;
+
+    private SolrDocumentList page;
+    private byte[] response;
+    private CountingResponseParser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        page = shape.documents(pageSize);
+        var body = new NamedList<Object>();
+        body.add("response", page);
+        body.add("nextCursorMark", "AoE/bench");
+        var bytes = new ByteArrayOutputStream();
+        try (var codec = new JavaBinCodec()) {
+            codec.marshal(body, bytes);
+        }
+        response = bytes.toByteArray();
+        parser = new CountingResponseParser(ignored -> {
+        });
+    }
+
+    @Benchmark
+    public List<SolrInputDocument> convertPage() {
+        return convert(page);
+    }
+
+    @Benchmark
+    public List<SolrInputDocument> decodeAndConvertPage() {
+        var decoded = parser.processResponse(new ByteArrayInputStream(response), null);
+        return convert((SolrDocumentList) decoded.get("response"));
+    }
+
+    private static List<SolrInputDocument> convert(SolrDocumentList results) {
+        var docs = new ArrayList<SolrInputDocument>(results.size());
+        for (SolrDocument result : results) {
+            docs.add(SolrSourceDocumentReader.toInputDocument(result));
+        }
+        return docs;
+    }
+}
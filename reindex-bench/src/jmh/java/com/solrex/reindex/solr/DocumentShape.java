@@ -0,0 +1,80 @@
+package com.solrex.reindex.solr;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+
+enum DocumentShape {
+    SMALL_FIELDS {
+        @Override
+        SolrDocument document(int id) {
+            var doc = new SolrDocument();
+            doc.setField("id", "doc-" + id);
+            for (int field = 0; field < SMALL_FIELD_COUNT; field++) {
+                switch (field % 5) {
+                    case 0 -> doc.setField("s_" + field + "_s", "value-" + (id + field));
+                    case 1 -> doc.setField("i_" + field + "_i", id + field);
+                    case 2 -> doc.setField("l_" + field + "_l", (long) id * field);
+                    case 3 -> doc.setField("f_" + field + "_f", id / (float) (field + 1));
+                    default -> doc.setField("b_" + field + "_b", (id + field) % 2 == 0);
+                }
+            }
+            doc.setField("updated_dt", new Date(1_700_000_000_000L + id));
+            return doc;
+        }
+    },
+    LARGE_TEXT {
+        @Override
+        SolrDocument document(int id) {
+            var doc = new SolrDocument();
+            doc.setField("id", "doc-" + id);
+            doc.setField("title_t", "Document " + id);
+            doc.setField("body_t", text(LARGE_TEXT_BYTES, id));
+            return doc;
+        }
+    },
+    MULTI_VALUED {
+        @Override
+        SolrDocument document(int id) {
+            var doc = new SolrDocument();
+            doc.setField("id", "doc-" + id);
+            for (int field = 0; field < MULTI_VALUED_FIELDS; field++) {
+                var values = new ArrayList<Object>(VALUES_PER_FIELD);
+                for (int value = 0; value < VALUES_PER_FIELD; value++) {
+                    values.add(field % 2 == 0 ? "tag-" + (id + value) % 97 : (Object) (long) (id * value));
+                }
+                doc.setField("multi_" + field + (field % 2 == 0 ? "_ss" : "_ls"), values);
+            }
+            return doc;
+        }
+    };
+
+    static final int SMALL_FIELD_COUNT = 50;
+    static final int LARGE_TEXT_BYTES = 32 * 1024;
+    static final int MULTI_VALUED_FIELDS = 6;
+    static final int VALUES_PER_FIELD = 20;
+
+    abstract SolrDocument document(int id);
+
+    SolrDocumentList documents(int count) {
+        var documents = new SolrDocumentList();
+        for (int id = 0; id < count; id++) {
+            documents.add(document(id));
+        }
+        documents.setNumFound(count);
+        return documents;
+    }
+
+    private static String text(int bytes, int seed) {
+        var words = List.of("solr", "reindex", "cursor", "shard", "replica", "batch", "document", "field");
+        var text = new StringBuilder(bytes + 16);
+        var word = seed;
+        while (text.length() < bytes) {
+            text.append(words.get(word++ % words.size())).append(' ');
+        }
+        text.setLength(bytes);
+        return text.toString();
+    }
+}
@@ -0,0 +1,104 @@
+package com.solrex.reindex.solr;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.solr.common.SolrInputDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateSerializationBenchmark {
+    @Param({"SMALL_FIELDS", "LARGE_TEXT", "MULTI_VALUED"})
+    DocumentShape shape;
+
+    @Param("200")
+    int batchSize;
+
+    private List<SolrInputDocument> batch;
+    private MeasuredUpdateRequest updateRequest;
+    private CountingRequestWriter javabinWriter;
+    private JsonFactory jsonFactory;
+    private JsonFactory cborFactory;
+    private ByteArrayOutputStream out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        batch = shape.documents(batchSize).stream()
+            .map(SolrSourceDocumentReader::toInputDocument)
+            .toList();
+        updateRequest = new MeasuredUpdateRequest("/update");
+        updateRequest.add(batch);
+        javabinWriter = new CountingRequestWriter(ignored -> {
+        });
+        jsonFactory = new ObjectMapper().getFactory();
+        cborFactory = new ObjectMapper(new CBORFactory()).getFactory();
+        out = new ByteArrayOutputStream(1024 * 1024);
+    }
+
+    @Benchmark
+    public int javabin() throws IOException {
+        out.reset();
+        javabinWriter.getContentWriter(updateRequest).write(out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int json() throws IOException {
+        out.reset();
+        writeDocuments(jsonFactory, batch, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int cbor() throws IOException {
+        out.reset();
+        writeDocuments(cborFactory, batch, out);
+        return out.size();
+    }
+
+    private static void writeDocuments(JsonFactory factory, List<SolrInputDocument> docs, OutputStream out)
+        throws IOException {
+        try (var generator = factory.createGenerator(out)) {
+            generator.writeStartArray();
+            for (var doc : docs) {
+                generator.writeStartObject();
+                for (var field : doc) {
+                    generator.writeFieldName(field.getName());
+                    if (field.getValue() instanceof Collection<?> values) {
+                        generator.writeStartArray();
+                        for (var value : values) {
+                            generator.writeObject(value);
+                        }
+                        generator.writeEndArray();
+                    } else {
+                        generator.writeObject(field.getValue());
+                    }
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.solrex.reindex.model;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+public record AutoTunePolicy(
+    boolean enabled,
+    @NotNull Duration calibration,
+    @NotNull Duration stepInterval,
+    @NotNull Duration recheckInterval,
+    @DecimalMin(value = "0.0", inclusive = false) @DecimalMax("1.0") double maxErrorRate
+) {
+    private static final Duration DEFAULT_CALIBRATION = Duration.ofMinutes(3);
+    private static final Duration DEFAULT_STEP_INTERVAL = Duration.ofSeconds(15);
+    private static final Duration DEFAULT_RECHECK_INTERVAL = Duration.ofMinutes(10);
+    private static final double DEFAULT_MAX_ERROR_RATE = 0.01;
+
+    private static final AutoTunePolicy DISABLED = new AutoTunePolicy(
+        false,
+        DEFAULT_CALIBRATION,
+        DEFAULT_STEP_INTERVAL,
+        DEFAULT_RECHECK_INTERVAL,
+        DEFAULT_MAX_ERROR_RATE
+    );
+
+    public AutoTunePolicy(
+        boolean enabled,
+        Duration calibration,
+        Duration stepInterval,
+        Duration recheckInterval,
+        double maxErrorRate
+    ) {
+        this.enabled = enabled;
+        this.calibration = calibration == null ? DEFAULT_CALIBRATION : calibration;
+        this.stepInterval = stepInterval == null ? DEFAULT_STEP_INTERVAL : stepInterval;
+        this.recheckInterval = recheckInterval == null ? DEFAULT_RECHECK_INTERVAL : recheckInterval;
+        this.maxErrorRate = maxErrorRate == 0.0 ? DEFAULT_MAX_ERROR_RATE : maxErrorRate;
+    }
+
+    public static AutoTunePolicy disabled() {
+        return DISABLED;
+    }
+
+    @AssertTrue(message = "stepInterval must be positive")
+    public boolean isStepIntervalPositive() {
+        return stepInterval != null && stepInterval.compareTo(Duration.ZERO) > 0;
+    }
+
+    @AssertTrue(message = "calibration must not be shorter than stepInterval")
+    public boolean isCalibrationLongEnough() {
+        return calibration != null && stepInterval != null && calibration.compareTo(stepInterval) >= 0;
+    }
+}
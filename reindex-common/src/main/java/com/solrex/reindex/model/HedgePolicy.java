@@ -0,0 +1,41 @@
+package com.solrex.reindex.model;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+public record HedgePolicy(
+    boolean enabled,
+    @DecimalMin("0.5") @DecimalMax("0.999") double delayPercentile,
+    @NotNull Duration minDelay,
+    @DecimalMin(value = "0.0", inclusive = false) @DecimalMax("1.0") double maxHedgeRatio
+) {
+    private static final double DEFAULT_DELAY_PERCENTILE = 0.95;
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(50);
+    private static final double DEFAULT_MAX_HEDGE_RATIO = 0.05;
+
+    private static final HedgePolicy DISABLED = new HedgePolicy(
+        false,
+        DEFAULT_DELAY_PERCENTILE,
+        DEFAULT_MIN_DELAY,
+        DEFAULT_MAX_HEDGE_RATIO
+    );
+
+    public HedgePolicy(boolean enabled, double delayPercentile, Duration minDelay, double maxHedgeRatio) {
+        this.enabled = enabled;
+        this.delayPercentile = delayPercentile == 0.0 ? DEFAULT_DELAY_PERCENTILE : delayPercentile;
+        this.minDelay = minDelay == null ? DEFAULT_MIN_DELAY : minDelay;
+        this.maxHedgeRatio = maxHedgeRatio == 0.0 ? DEFAULT_MAX_HEDGE_RATIO : maxHedgeRatio;
+    }
+
+    public static HedgePolicy disabled() {
+        return DISABLED;
+    }
+
+    @AssertTrue(message = "minDelay must be positive")
+    public boolean isMinDelayPositive() {
+        return minDelay != null && minDelay.compareTo(Duration.ZERO) > 0;
+    }
+}
@@ -2,6 +2,7 @@ package com.solrex.reindex.model;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.util.List;
 import java.util.Objects;
 
@@ -10,19 +11,32 @@ public record ReindexRequest(
     @NotNull @Valid CollectionRef target,
     @Valid List<String> filters,
     @NotNull List<String> fields,
-    @Valid ReindexTuning tuning
+    @Valid ReindexTuning tuning,
+    @Positive int parallelism
 ) {
     public ReindexRequest(
         CollectionRef source,
         CollectionRef target,
         List<String> filters,
         List<String> fields,
-        ReindexTuning tuning
+        ReindexTuning tuning,
+        int parallelism
     ) {
         this.source = source;
         this.target = target;
         this.filters = filters == null ? List.of() : filters;
         this.fields = fields;
         this.tuning = tuning == null ? ReindexTuning.DEFAULT : tuning;
+        this.parallelism = parallelism == 0 ? 1 : parallelism;
+    }
+
+    public ReindexRequest(
+        CollectionRef source,
+        CollectionRef target,
+        List<String> filters,
+        List<String> fields,
+        ReindexTuning tuning
+    ) {
+        this(source, target, filters, fields, tuning, 1);
     }
 }
@@ -3,33 +3,133 @@ package com.solrex.reindex.model;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 
 public record ReindexTuning(
     @Positive int readPageSize,
     @Positive int writeBatchSize,
     @Positive int writeConcurrency,
-    @NotNull @Valid RetryPolicy retryPolicy
+    @NotNull @Valid RetryPolicy retryPolicy,
+    @NotNull ReplicaSelection replicaSelection,
+    @Positive int readConcurrency,
+    @NotNull @Valid HedgePolicy hedgePolicy,
+    @PositiveOrZero int maxDocsPerSecond,
+    @NotNull @Valid AutoTunePolicy autoTune
 ) {
+    public static final int DEFAULT_READ_CONCURRENCY = 16;
+    public static final int BUFFERED_BATCHES = 32;
+    public static final int AUTO_TUNE_HEADROOM = 2;
+    public static final int HEAP_EXPANSION = 4;
+    public static final long BASE_HEAP_BYTES = 256L * 1024 * 1024;
+
     public static final ReindexTuning DEFAULT = new ReindexTuning(
         500,
         200,
         4,
-        RetryPolicy.defaults()
+        RetryPolicy.defaults(),
+        ReplicaSelection.LEADER_ONLY,
+        DEFAULT_READ_CONCURRENCY,
+        HedgePolicy.disabled(),
+        0,
+        AutoTunePolicy.disabled()
     );
 
     public ReindexTuning(
         int readPageSize,
         int writeBatchSize,
         int writeConcurrency,
-        RetryPolicy retryPolicy
+        RetryPolicy retryPolicy,
+        ReplicaSelection replicaSelection,
+        int readConcurrency,
+        HedgePolicy hedgePolicy,
+        int maxDocsPerSecond,
+        AutoTunePolicy autoTune
     ) {
         this.readPageSize = readPageSize;
         this.writeBatchSize = writeBatchSize;
         this.writeConcurrency = writeConcurrency;
         this.retryPolicy = retryPolicy == null ? RetryPolicy.defaults() : retryPolicy;
+        this.replicaSelection = replicaSelection == null ? ReplicaSelection.LEADER_ONLY : replicaSelection;
+        this.readConcurrency = readConcurrency == 0 ? DEFAULT_READ_CONCURRENCY : readConcurrency;
+        this.hedgePolicy = hedgePolicy == null ? HedgePolicy.disabled() : hedgePolicy;
+        this.maxDocsPerSecond = maxDocsPerSecond;
+        this.autoTune = autoTune == null ? AutoTunePolicy.disabled() : autoTune;
+    }
+
+    public ReindexTuning(
+        int readPageSize,
+        int writeBatchSize,
+        int writeConcurrency,
+        RetryPolicy retryPolicy,
+        ReplicaSelection replicaSelection,
+        int readConcurrency,
+        HedgePolicy hedgePolicy,
+        int maxDocsPerSecond
+    ) {
+        this(
+            readPageSize,
+            writeBatchSize,
+            writeConcurrency,
+            retryPolicy,
+            replicaSelection,
+            readConcurrency,
+            hedgePolicy,
+            maxDocsPerSecond,
+            AutoTunePolicy.disabled()
+        );
+    }
+
+    public ReindexTuning(
+        int readPageSize,
+        int writeBatchSize,
+        int writeConcurrency,
+        RetryPolicy retryPolicy,
+        ReplicaSelection replicaSelection,
+        int readConcurrency,
+        HedgePolicy hedgePolicy
+    ) {
+        this(readPageSize, writeBatchSize, writeConcurrency, retryPolicy, replicaSelection, readConcurrency, hedgePolicy, 0);
+    }
+
+    public ReindexTuning(
+        int readPageSize,
+        int writeBatchSize,
+        int writeConcurrency,
+        RetryPolicy retryPolicy
+    ) {
+        this(readPageSize, writeBatchSize, writeConcurrency, retryPolicy, ReplicaSelection.LEADER_ONLY, DEFAULT_READ_CONCURRENCY, HedgePolicy.disabled());
     }
 
     public static ReindexTuning defaults() {
         return DEFAULT;
     }
+
+    public ReindexTuning ceiling() {
+        if (!autoTune.enabled()) {
+            return this;
+        }
+        return new ReindexTuning(
+            readPageSize * AUTO_TUNE_HEADROOM,
+            writeBatchSize * AUTO_TUNE_HEADROOM,
+            writeConcurrency * AUTO_TUNE_HEADROOM,
+            retryPolicy,
+            replicaSelection,
+            readConcurrency,
+            hedgePolicy,
+            maxDocsPerSecond,
+            autoTune
+        );
+    }
+
+    public long bufferCapacityDocs() {
+        return (long) BUFFERED_BATCHES * writeBatchSize;
+    }
+
+    public long bufferedDocs() {
+        return (long) readConcurrency * readPageSize + bufferCapacityDocs() + (long) writeConcurrency * writeBatchSize;
+    }
+
+    public long estimatedHeapBytes(long averageDocBytes) {
+        return BASE_HEAP_BYTES + bufferedDocs() * averageDocBytes * HEAP_EXPANSION;
+    }
 }
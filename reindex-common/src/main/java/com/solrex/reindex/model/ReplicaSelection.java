@@ -0,0 +1,8 @@
+package com.solrex.reindex.model;
+
+public enum ReplicaSelection {
+    LEADER_ONLY,
+    ANY_ACTIVE,
+    PREFER_PULL_TLOG,
+    LEAST_LOADED
+}
@@ -4,6 +4,7 @@ import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
@@ -12,8 +13,15 @@ public record RetryPolicy(
     @PositiveOrZero int maxRetries,
     @NotNull Duration initialBackoff,
     @NotNull Duration maxBackoff,
-    @DecimalMin("0.0") @DecimalMax("1.0") double jitterFactor
+    @DecimalMin("0.0") @DecimalMax("1.0") double jitterFactor,
+    @DecimalMin(value = "0.0", inclusive = false) @DecimalMax("1.0") double retryBudgetRatio,
+    @Positive int breakerFailureThreshold,
+    @NotNull Duration breakerOpenDuration
 ) {
+    private static final double DEFAULT_RETRY_BUDGET_RATIO = 0.2;
+    private static final int DEFAULT_BREAKER_FAILURE_THRESHOLD = 20;
+    private static final Duration DEFAULT_BREAKER_OPEN_DURATION = Duration.ofSeconds(30);
+
     private static final RetryPolicy DEFAULT = new RetryPolicy(
         3,
         Duration.ofMillis(250),
@@ -21,11 +29,28 @@ public record RetryPolicy(
         0.2
     );
 
-    public RetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff, double jitterFactor) {
+    public RetryPolicy(
+        int maxRetries,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        double jitterFactor,
+        double retryBudgetRatio,
+        int breakerFailureThreshold,
+        Duration breakerOpenDuration
+    ) {
         this.maxRetries = maxRetries;
         this.initialBackoff = initialBackoff;
         this.maxBackoff = maxBackoff;
         this.jitterFactor = jitterFactor;
+        this.retryBudgetRatio = retryBudgetRatio == 0.0 ? DEFAULT_RETRY_BUDGET_RATIO : retryBudgetRatio;
+        this.breakerFailureThreshold = breakerFailureThreshold == 0
+            ? DEFAULT_BREAKER_FAILURE_THRESHOLD
+            : breakerFailureThreshold;
+        this.breakerOpenDuration = breakerOpenDuration == null ? DEFAULT_BREAKER_OPEN_DURATION : breakerOpenDuration;
+    }
+
+    public RetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff, double jitterFactor) {
+        this(maxRetries, initialBackoff, maxBackoff, jitterFactor, 0.0, 0, null);
     }
 
     public static RetryPolicy defaults() {
@@ -58,6 +83,11 @@ public record RetryPolicy(
         return maxBackoff != null && maxBackoff.compareTo(Duration.ZERO) > 0;
     }
 
+    @AssertTrue(message = "breakerOpenDuration must be positive")
+    public boolean isBreakerOpenDurationPositive() {
+        return breakerOpenDuration != null && breakerOpenDuration.compareTo(Duration.ZERO) > 0;
+    }
+
     @AssertTrue(message = "maxBackoff must be >= initialBackoff")
     public boolean isBackoffRangeValid() {
         if (initialBackoff == null || maxBackoff == null) {
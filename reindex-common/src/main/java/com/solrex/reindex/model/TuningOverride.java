@@ -0,0 +1,39 @@
+package com.solrex.reindex.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TuningOverride(
+    @Positive Integer writeBatchSize,
+    @Positive Integer writeConcurrency,
+    @PositiveOrZero Integer maxDocsPerSecond,
+    Boolean paused
+) {
+    public static final TuningOverride NONE = new TuningOverride(null, null, null, null);
+
+    @JsonIgnore
+    public boolean isPaused() {
+        return Boolean.TRUE.equals(paused);
+    }
+
+    public TuningOverride withPaused(boolean paused) {
+        return new TuningOverride(writeBatchSize, writeConcurrency, maxDocsPerSecond, paused);
+    }
+
+    public ReindexTuning applyTo(ReindexTuning tuning) {
+        return new ReindexTuning(
+            tuning.readPageSize(),
+            writeBatchSize == null ? tuning.writeBatchSize() : writeBatchSize,
+            writeConcurrency == null ? tuning.writeConcurrency() : writeConcurrency,
+            tuning.retryPolicy(),
+            tuning.replicaSelection(),
+            tuning.readConcurrency(),
+            tuning.hedgePolicy(),
+            maxDocsPerSecond == null ? tuning.maxDocsPerSecond() : maxDocsPerSecond,
+            tuning.autoTune()
+        );
+    }
+}
@@ -19,7 +19,10 @@ dependencies {
     implementation("io.quarkus:quarkus-arc")
     implementation("io.quarkus:quarkus-jackson")
     implementation("io.quarkus:quarkus-kubernetes-config")
+    implementation("io.quarkus:quarkus-kubernetes-client")
     implementation("io.quarkus:quarkus-hibernate-validator")
+    implementation("io.quarkus:quarkus-micrometer-registry-prometheus")
+    implementation("io.quarkus:quarkus-opentelemetry")
     implementation("io.smallrye.reactive:mutiny")
 
     implementation("org.apache.solr:solr-solrj:9.10.1")
@@ -30,6 +33,8 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.assertj:assertj-core:3.26.3")
     testImplementation("io.quarkus:quarkus-junit5")
+    testImplementation("io.opentelemetry:opentelemetry-sdk-testing")
+    testImplementation("io.fabric8:kubernetes-server-mock")
 
     testCompileOnly("org.projectlombok:lombok:1.18.36")
     testAnnotationProcessor("org.projectlombok:lombok:1.18.36")
@@ -0,0 +1,191 @@
+package com.solrex.reindex.coordination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.solrex.reindex.coordination.WorkQueueState.Status;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+
+public final class ConfigMapWorkQueueStore implements WorkQueueStore {
+    public static final String QUEUE_KEY = "queue.json";
+    public static final String PLAN_KEY = "plan";
+    public static final String PARTITIONS_KEY = "partitions";
+    public static final String PLAN_LABEL = "solrex.io/work-queue-plan";
+    static final int MAX_DATA_BYTES = 1024 * 1024 - 64 * 1024;
+    private static final int MAX_WORKER_ID_LENGTH = 253;
+    private static final int PLAN_ID_LENGTH = 8;
+
+    private final KubernetesClient kubernetesClient;
+    private final String name;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public ConfigMapWorkQueueStore(@NonNull KubernetesClient kubernetesClient, @NonNull String name) {
+        this.kubernetesClient = kubernetesClient;
+        this.name = name;
+    }
+
+    @Override
+    public Optional<List<Partition>> read() {
+        var index = kubernetesClient.configMaps().withName(name).get();
+        if (!isPublished(index)) {
+            return Optional.empty();
+        }
+
+        var plan = data(index, PLAN_KEY);
+        var partitionCount = Integer.parseInt(data(index, PARTITIONS_KEY));
+        var configMaps = kubernetesClient.configMaps().withLabel(PLAN_LABEL, plan).list().getItems().stream()
+            .collect(Collectors.toMap(configMap -> configMap.getMetadata().getName(), Function.identity()));
+        var partitions = new ArrayList<Partition>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            var partitionName = partitionName(plan, partition);
+            var configMap = configMaps.get(partitionName);
+            if (configMap == null) {
+                throw new IllegalStateException("Work queue partition ConfigMap is missing: " + partitionName);
+            }
+            partitions.add(new Partition(
+                partitionName,
+                parse(partitionName, data(configMap, QUEUE_KEY)),
+                configMap.getMetadata().getResourceVersion()
+            ));
+        }
+        return Optional.of(List.copyOf(partitions));
+    }
+
+    @Override
+    public boolean publish(@NonNull List<WorkQueueState> partitions) {
+        var json = partitions.stream().map(this::serialize).toList();
+        for (int partition = 0; partition < partitions.size(); partition++) {
+            var worstCase = serialize(fullyHeld(partitions.get(partition))).getBytes(StandardCharsets.UTF_8).length;
+            if (worstCase > MAX_DATA_BYTES) {
+                throw new IllegalStateException(
+                    "Refusing to publish work queue: partition " + partition + " of ConfigMap " + name + " would grow to "
+                        + worstCase + " bytes, over the " + MAX_DATA_BYTES + " byte ConfigMap budget. "
+                        + "Raise reindex.job.coordination.unit-docs.");
+            }
+        }
+
+        var index = kubernetesClient.configMaps().withName(name).get();
+        if (index == null) {
+            index = createIndex();
+        }
+        if (index == null || isPublished(index)) {
+            return false;
+        }
+
+        var plan = UUID.randomUUID().toString().substring(0, PLAN_ID_LENGTH);
+        for (int partition = 0; partition < json.size(); partition++) {
+            kubernetesClient.configMaps()
+                .resource(partitionConfigMap(partitionName(plan, partition), null, json.get(partition)))
+                .create();
+        }
+
+        try {
+            kubernetesClient.configMaps().resource(new ConfigMapBuilder(index)
+                    .addToData(PLAN_KEY, plan)
+                    .addToData(PARTITIONS_KEY, Integer.toString(partitions.size()))
+                    .build())
+                .update();
+            return true;
+        } catch (KubernetesClientException e) {
+            if (e.getCode() != 409) {
+                throw e;
+            }
+            kubernetesClient.configMaps().withLabel(PLAN_LABEL, plan).delete();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean write(@NonNull Partition partition, @NonNull WorkQueueState state) {
+        try {
+            kubernetesClient.configMaps()
+                .resource(partitionConfigMap(partition.name(), partition.version(), serialize(state)))
+                .update();
+            return true;
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == 409) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private ConfigMap createIndex() {
+        try {
+            return kubernetesClient.configMaps().resource(new ConfigMapBuilder()
+                    .withNewMetadata()
+                    .withName(name)
+                    .endMetadata()
+                    .build())
+                .create();
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == 409) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private String partitionName(String plan, int partition) {
+        return name + "-" + plan + "-" + partition;
+    }
+
+    private ConfigMap partitionConfigMap(String partitionName, String expectedVersion, String json) {
+        var plan = partitionName.substring(name.length() + 1, name.length() + 1 + PLAN_ID_LENGTH);
+        return new ConfigMapBuilder()
+            .withNewMetadata()
+            .withName(partitionName)
+            .withResourceVersion(expectedVersion)
+            .addToLabels(PLAN_LABEL, plan)
+            .endMetadata()
+            .addToData(QUEUE_KEY, json)
+            .build();
+    }
+
+    private String serialize(WorkQueueState state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize work queue state", e);
+        }
+    }
+
+    private WorkQueueState parse(String partitionName, String json) {
+        try {
+            return objectMapper.readValue(json, WorkQueueState.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to parse work queue ConfigMap: " + partitionName, e);
+        }
+    }
+
+    private static WorkQueueState fullyHeld(WorkQueueState state) {
+        var owner = "w".repeat(MAX_WORKER_ID_LENGTH);
+        return new WorkQueueState(state.units().stream()
+            .map(entry -> entry.with(Status.CLAIMED, owner, Instant.MAX))
+            .toList());
+    }
+
+    private static boolean isPublished(ConfigMap index) {
+        var plan = data(index, PLAN_KEY);
+        return plan != null && !plan.isBlank();
+    }
+
+    private static String data(ConfigMap configMap, String key) {
+        return configMap == null || configMap.getData() == null ? null : configMap.getData().get(key);
+    }
+}
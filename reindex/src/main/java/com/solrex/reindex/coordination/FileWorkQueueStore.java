@@ -0,0 +1,112 @@
+package com.solrex.reindex.coordination;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+
+public final class FileWorkQueueStore implements WorkQueueStore {
+    private final Path file;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public FileWorkQueueStore(@NonNull Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized Optional<List<Partition>> read() {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ);
+             var ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+            return Optional.ofNullable(readDocument()).map(FileWorkQueueStore::toPartitions);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read work queue file: " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized boolean publish(@NonNull List<WorkQueueState> partitions) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             var ignored = channel.lock()) {
+            if (readDocument() != null) {
+                return false;
+            }
+            writeDocument(channel, new Document(IntStream.range(0, partitions.size())
+                .mapToObj(index -> new Revision(Integer.toString(index), 1, partitions.get(index)))
+                .toList()));
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write work queue file: " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized boolean write(@NonNull Partition partition, @NonNull WorkQueueState state) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             var ignored = channel.lock()) {
+            var document = readDocument();
+            if (document == null) {
+                return false;
+            }
+            var revisions = new ArrayList<Revision>(document.partitions().size());
+            var written = false;
+            for (var revision : document.partitions()) {
+                if (revision.name().equals(partition.name())) {
+                    if (!Long.toString(revision.revision()).equals(partition.version())) {
+                        return false;
+                    }
+                    revisions.add(new Revision(revision.name(), revision.revision() + 1, state));
+                    written = true;
+                } else {
+                    revisions.add(revision);
+                }
+            }
+            if (!written) {
+                return false;
+            }
+            writeDocument(channel, new Document(revisions));
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write work queue file: " + file, e);
+        }
+    }
+
+    private Document readDocument() throws IOException {
+        var bytes = Files.readAllBytes(file);
+        return bytes.length == 0 ? null : objectMapper.readValue(bytes, Document.class);
+    }
+
+    private void writeDocument(FileChannel channel, Document document) throws IOException {
+        var bytes = objectMapper.writeValueAsBytes(document);
+        channel.truncate(0);
+        channel.write(ByteBuffer.wrap(bytes), 0);
+        channel.force(true);
+    }
+
+    private static List<Partition> toPartitions(Document document) {
+        return document.partitions().stream()
+            .map(revision -> new Partition(revision.name(), revision.state(), Long.toString(revision.revision())))
+            .toList();
+    }
+
+    private record Document(List<Revision> partitions) {
+    }
+
+    private record Revision(String name, long revision, WorkQueueState state) {
+    }
+}
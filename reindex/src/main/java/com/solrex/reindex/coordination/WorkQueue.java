@@ -0,0 +1,303 @@
+package com.solrex.reindex.coordination;
+
+import com.solrex.reindex.coordination.WorkQueueState.Entry;
+import com.solrex.reindex.coordination.WorkQueueState.Status;
+import com.solrex.reindex.coordination.WorkQueueStore.Partition;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class WorkQueue implements AutoCloseable {
+    private static final int MAX_UPDATE_ATTEMPTS = 8;
+    private static final long INITIAL_CONFLICT_BACKOFF_MILLIS = 20;
+    private static final long MAX_CONFLICT_BACKOFF_MILLIS = 1_000;
+    private static final Comparator<Entry> LARGEST_FIRST =
+        Comparator.comparingLong((Entry entry) -> entry.unit().estimatedDocs()).reversed();
+
+    private final WorkQueueStore store;
+    private final Settings settings;
+    private final ScheduledExecutorService scheduler;
+    private final Clock clock;
+    private ScheduledFuture<?> renewTask;
+
+    public WorkQueue(@NonNull WorkQueueStore store, @NonNull Settings settings) {
+        this(store, settings, Infrastructure.getDefaultWorkerPool(), Clock.systemUTC());
+    }
+
+    WorkQueue(
+        @NonNull WorkQueueStore store,
+        @NonNull Settings settings,
+        @NonNull ScheduledExecutorService scheduler,
+        @NonNull Clock clock
+    ) {
+        this.store = store;
+        this.settings = settings;
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    public String workerId() {
+        return settings.workerId();
+    }
+
+    public long unitDocs() {
+        return settings.unitDocs();
+    }
+
+    public Duration pollInterval() {
+        return settings.pollInterval();
+    }
+
+    public boolean isPlanner() {
+        return settings.planner();
+    }
+
+    public boolean isPublished() {
+        return store.read().isPresent();
+    }
+
+    public boolean publishIfAbsent(@NonNull List<WorkUnit> units) {
+        var partitions = units.stream()
+            .collect(Collectors.groupingBy(WorkUnit::shard, LinkedHashMap::new, Collectors.toList()))
+            .values().stream()
+            .map(shardUnits -> new WorkQueueState(shardUnits.stream().map(Entry::pending).toList()))
+            .toList();
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                backOff(attempt);
+            }
+            if (store.read().isPresent()) {
+                return false;
+            }
+            if (store.publish(partitions)) {
+                log.info(
+                    "Published reindex work queue. worker={} units={} partitions={}",
+                    workerId(),
+                    units.size(),
+                    partitions.size()
+                );
+                return true;
+            }
+        }
+        throw new WorkQueueConflictException("Failed to publish work queue after " + MAX_UPDATE_ATTEMPTS + " attempts");
+    }
+
+    public Optional<WorkUnit> claim() {
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                backOff(attempt);
+            }
+            var partitions = partitions();
+            var now = clock.instant();
+            var candidate = candidate(partitions, entry -> entry.status() == Status.PENDING)
+                .or(() -> candidate(partitions, entry -> entry.isHeld() && entry.leaseExpired(now)));
+            if (candidate.isEmpty()) {
+                return Optional.empty();
+            }
+
+            var partition = candidate.get().partition();
+            var entry = candidate.get().entry();
+            if (entry.isHeld()) {
+                log.info(
+                    "Stealing expired work unit. unit={} previousOwner={} worker={}",
+                    entry.unit().id(),
+                    entry.owner(),
+                    workerId()
+                );
+            }
+            var claimed = entry.with(Status.CLAIMED, workerId(), now.plus(settings.leaseDuration()));
+            if (store.write(partition, replace(partition.state(), entry, claimed))) {
+                return Optional.of(entry.unit());
+            }
+        }
+        throw new WorkQueueConflictException("Failed to update work queue after " + MAX_UPDATE_ATTEMPTS + " attempts");
+    }
+
+    public boolean isSettled() {
+        var partitions = store.read();
+        if (partitions.isEmpty()) {
+            return false;
+        }
+        var now = clock.instant();
+        return partitions.get().stream()
+            .flatMap(partition -> partition.state().units().stream())
+            .allMatch(entry -> switch (entry.status()) {
+                case PENDING -> false;
+                case CLAIMED -> entry.ownedBy(workerId()) && !entry.leaseExpired(now);
+                case READ -> !entry.leaseExpired(now);
+                case DONE -> true;
+            });
+    }
+
+    public boolean markRead(@NonNull String unitId) {
+        var moved = transitionOwned(Status.CLAIMED, Status.READ, unitId);
+        if (moved == 0) {
+            log.warn("Work unit lease was lost before it could be updated. unit={} worker={}", unitId, workerId());
+        }
+        return moved > 0;
+    }
+
+    public int completeRead() {
+        return transitionOwned(Status.READ, Status.DONE, null);
+    }
+
+    public int renew() {
+        return update(state -> {
+            var expiresAt = clock.instant().plus(settings.leaseDuration());
+            var renewed = 0;
+            var units = new ArrayList<Entry>(state.units().size());
+            for (var entry : state.units()) {
+                if (entry.isHeld() && entry.ownedBy(workerId())) {
+                    units.add(entry.with(entry.status(), workerId(), expiresAt));
+                    renewed++;
+                } else {
+                    units.add(entry);
+                }
+            }
+            return new Change(renewed == 0 ? null : new WorkQueueState(units), renewed);
+        });
+    }
+
+    public synchronized void startRenewing() {
+        if (renewTask != null) {
+            return;
+        }
+        var intervalMillis = Math.max(1, settings.leaseDuration().toMillis() / 3);
+        renewTask = scheduler.scheduleAtFixedRate(this::renewQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (renewTask != null) {
+            renewTask.cancel(false);
+            renewTask = null;
+        }
+    }
+
+    private void renewQuietly() {
+        try {
+            renew();
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew work unit leases. worker={}", workerId(), e);
+        }
+    }
+
+    private int transitionOwned(Status from, Status to, String unitId) {
+        return update(state -> {
+            var moved = 0;
+            var units = new ArrayList<Entry>(state.units().size());
+            for (var entry : state.units()) {
+                var matches = entry.status() == from
+                    && entry.ownedBy(workerId())
+                    && (unitId == null || entry.unit().id().equals(unitId));
+                if (matches) {
+                    units.add(entry.with(to, workerId(), to == Status.DONE ? null : entry.leaseExpiresAt()));
+                    moved++;
+                } else {
+                    units.add(entry);
+                }
+            }
+            return new Change(moved == 0 ? null : new WorkQueueState(units), moved);
+        });
+    }
+
+    private int update(Function<WorkQueueState, Change> change) {
+        var updated = new HashSet<String>();
+        var total = 0;
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                backOff(attempt);
+            }
+            var conflicted = false;
+            for (var partition : partitions()) {
+                if (updated.contains(partition.name())) {
+                    continue;
+                }
+                var next = change.apply(partition.state());
+                if (next.state() == null || store.write(partition, next.state())) {
+                    updated.add(partition.name());
+                    total += next.changed();
+                } else {
+                    conflicted = true;
+                }
+            }
+            if (!conflicted) {
+                return total;
+            }
+        }
+        throw new WorkQueueConflictException("Failed to update work queue after " + MAX_UPDATE_ATTEMPTS + " attempts");
+    }
+
+    private List<Partition> partitions() {
+        return store.read().orElseThrow(() -> new IllegalStateException("Work queue has not been published"));
+    }
+
+    private static Optional<Candidate> candidate(List<Partition> partitions, Predicate<Entry> eligible) {
+        return partitions.stream()
+            .flatMap(partition -> partition.state().units().stream()
+                .filter(eligible)
+                .map(entry -> new Candidate(partition, entry)))
+            .min(Comparator.comparing(Candidate::entry, LARGEST_FIRST));
+    }
+
+    private static void backOff(int attempt) {
+        var ceiling = Math.min(MAX_CONFLICT_BACKOFF_MILLIS, INITIAL_CONFLICT_BACKOFF_MILLIS << (attempt - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off from a work queue conflict", e);
+        }
+    }
+
+    private static WorkQueueState replace(WorkQueueState state, Entry previous, Entry next) {
+        return new WorkQueueState(state.units().stream()
+            .map(entry -> entry == previous ? next : entry)
+            .toList());
+    }
+
+    public record Settings(
+        String workerId,
+        Duration leaseDuration,
+        Duration pollInterval,
+        long unitDocs,
+        boolean planner
+    ) {
+        public Settings {
+            if (workerId == null || workerId.isBlank()) {
+                throw new IllegalStateException("Work queue worker id must not be blank");
+            }
+            if (leaseDuration == null || leaseDuration.isZero() || leaseDuration.isNegative()) {
+                throw new IllegalStateException("Work queue lease duration must be positive");
+            }
+            if (pollInterval == null || pollInterval.isZero() || pollInterval.isNegative()) {
+                throw new IllegalStateException("Work queue poll interval must be positive");
+            }
+            if (unitDocs <= 0) {
+                throw new IllegalStateException("Work queue unit docs must be positive");
+            }
+        }
+    }
+
+    private record Change(WorkQueueState state, int changed) {
+    }
+
+    private record Candidate(Partition partition, Entry entry) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.solrex.reindex.coordination;
+
+public final class WorkQueueConflictException extends IllegalStateException {
+    public WorkQueueConflictException(String message) {
+        super(message);
+    }
+}
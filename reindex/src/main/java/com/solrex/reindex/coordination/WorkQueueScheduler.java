@@ -0,0 +1,115 @@
+package com.solrex.reindex.coordination;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public final class WorkQueueScheduler {
+    @NonNull
+    private final WorkQueue queue;
+    @NonNull
+    private final Runnable onWait;
+
+    public Uni<Void> publish(@NonNull Supplier<Uni<List<WorkUnit>>> planner) {
+        return blocking(queue::isPublished)
+            .onItem().transformToUni(published -> {
+                if (published) {
+                    log.info("Joining published work queue. worker={}", queue.workerId());
+                    return Uni.createFrom().voidItem();
+                }
+                if (!queue.isPlanner()) {
+                    log.info("Waiting for the planner to publish the work queue. worker={}", queue.workerId());
+                    return awaitPublished();
+                }
+                return Uni.createFrom().deferred(planner)
+                    .onItem().transformToUni(units -> retryOnConflict(blocking(() -> queue.publishIfAbsent(units))))
+                    .replaceWithVoid();
+            });
+    }
+
+    public <T> Multi<T> stream(int lanes, @NonNull Function<WorkUnit, Multi<T>> read) {
+        queue.startRenewing();
+        return Multi.createFrom().range(0, lanes)
+            .onItem().transformToMulti(lane -> Multi.createBy().repeating()
+                .uni(this::next)
+                .until(Optional::isEmpty)
+                .onItem().transformToMultiAndConcatenate(claimed -> {
+                    var unit = claimed.get();
+                    log.info(
+                        "Claimed work unit. unit={} range=({}, {}] estimatedDocs={} worker={}",
+                        unit.id(),
+                        unit.lowerExclusive(),
+                        unit.upperInclusive(),
+                        unit.estimatedDocs(),
+                        queue.workerId()
+                    );
+                    return read.apply(unit)
+                        .onCompletion().call(() -> retryOnConflict(blocking(() -> queue.markRead(unit.id()))));
+                }))
+            .merge(lanes);
+    }
+
+    private <T> Uni<T> retryOnConflict(@NonNull Uni<T> update) {
+        return update
+            .onFailure(WorkQueueConflictException.class).invoke(failure -> log.warn(
+                "Work queue update kept conflicting with other workers; retrying. worker={} error={}",
+                queue.workerId(),
+                failure.getMessage()
+            ))
+            .onFailure(WorkQueueConflictException.class).retry().withBackOff(queue.pollInterval()).indefinitely();
+    }
+
+    Uni<Optional<WorkUnit>> next() {
+        return blocking(queue::claim)
+            .onFailure(WorkQueueConflictException.class).recoverWithItem(failure -> {
+                log.warn(
+                    "Work unit claim kept conflicting with other workers; polling again. worker={} error={}",
+                    queue.workerId(),
+                    failure.getMessage()
+                );
+                return Optional.empty();
+            })
+            .onItem().transformToUni(claimed -> {
+                if (claimed.isPresent()) {
+                    return Uni.createFrom().item(claimed);
+                }
+                return blocking(queue::isSettled)
+                    .onItem().transformToUni(settled -> {
+                        if (settled) {
+                            return Uni.createFrom().item(Optional.<WorkUnit>empty());
+                        }
+                        onWait.run();
+                        return Uni.createFrom().voidItem()
+                            .onItem().delayIt().by(queue.pollInterval())
+                            .onItem().transformToUni(ignored -> next());
+                    });
+            });
+    }
+
+    private Uni<Void> awaitPublished() {
+        return blocking(queue::isPublished)
+            .onItem().transformToUni(published -> {
+                if (published) {
+                    log.info("Joining published work queue. worker={}", queue.workerId());
+                    return Uni.createFrom().voidItem();
+                }
+                onWait.run();
+                return Uni.createFrom().voidItem()
+                    .onItem().delayIt().by(queue.pollInterval())
+                    .onItem().transformToUni(ignored -> awaitPublished());
+            });
+    }
+
+    private static <T> Uni<T> blocking(Supplier<T> call) {
+        return Uni.createFrom().item(call).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+}
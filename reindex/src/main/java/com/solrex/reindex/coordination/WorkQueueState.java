@@ -0,0 +1,35 @@
+package com.solrex.reindex.coordination;
+
+import java.time.Instant;
+import java.util.List;
+
+public record WorkQueueState(List<Entry> units) {
+    public record Entry(WorkUnit unit, Status status, String owner, Instant leaseExpiresAt) {
+        static Entry pending(WorkUnit unit) {
+            return new Entry(unit, Status.PENDING, null, null);
+        }
+
+        boolean ownedBy(String workerId) {
+            return workerId.equals(owner);
+        }
+
+        boolean leaseExpired(Instant now) {
+            return leaseExpiresAt != null && !leaseExpiresAt.isAfter(now);
+        }
+
+        boolean isHeld() {
+            return status == Status.CLAIMED || status == Status.READ;
+        }
+
+        Entry with(Status status, String owner, Instant leaseExpiresAt) {
+            return new Entry(unit, status, owner, leaseExpiresAt);
+        }
+    }
+
+    public enum Status {
+        PENDING,
+        CLAIMED,
+        READ,
+        DONE
+    }
+}
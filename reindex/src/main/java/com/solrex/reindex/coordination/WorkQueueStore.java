@@ -0,0 +1,15 @@
+package com.solrex.reindex.coordination;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkQueueStore {
+    Optional<List<Partition>> read();
+
+    boolean publish(List<WorkQueueState> partitions);
+
+    boolean write(Partition partition, WorkQueueState state);
+
+    record Partition(String name, WorkQueueState state, String version) {
+    }
+}
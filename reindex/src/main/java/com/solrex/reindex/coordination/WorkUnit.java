@@ -0,0 +1,4 @@
+package com.solrex.reindex.coordination;
+
+public record WorkUnit(String id, String shard, String lowerExclusive, String upperInclusive, long estimatedDocs) {
+}
@@ -0,0 +1,28 @@
+package com.solrex.reindex.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.solrex.reindex.BatchWrite")
+@Label("Batch Write")
+@Category({"Solrex", "Reindex", "Target"})
+@Description("One update request sent to the target collection")
+@StackTrace(false)
+public final class BatchWriteEvent extends jdk.jfr.Event {
+    @Label("Collection")
+    public String collection;
+
+    @Label("Batch Size")
+    public int batchSize;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,33 @@
+package com.solrex.reindex.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.solrex.reindex.CursorPage")
+@Label("Cursor Page")
+@Category({"Solrex", "Reindex", "Source"})
+@Description("One cursorMark page read from a source shard, from request to decoded response")
+@StackTrace(false)
+public final class CursorPageEvent extends jdk.jfr.Event {
+    @Label("Shard")
+    public String shard;
+
+    @Label("Stream")
+    public String stream;
+
+    @Label("Page Size")
+    public int pageSize;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Decode Time")
+    @Timespan
+    public long decodeTime;
+}
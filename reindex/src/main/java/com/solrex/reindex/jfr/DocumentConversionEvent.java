@@ -0,0 +1,20 @@
+package com.solrex.reindex.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.solrex.reindex.DocumentConversion")
+@Label("Document Conversion")
+@Category({"Solrex", "Reindex", "Source"})
+@Description("Conversion of one cursor page of SolrDocuments into SolrInputDocuments")
+@StackTrace(false)
+public final class DocumentConversionEvent extends jdk.jfr.Event {
+    @Label("Shard")
+    public String shard;
+
+    @Label("Page Size")
+    public int pageSize;
+}
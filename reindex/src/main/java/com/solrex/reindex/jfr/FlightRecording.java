@@ -0,0 +1,104 @@
+package com.solrex.reindex.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class FlightRecording implements AutoCloseable {
+    private static final String RECORDING_NAME = "reindex";
+    private static final String SETTINGS = "default";
+    private static final DateTimeFormatter DUMP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+        .withZone(ZoneOffset.UTC);
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(
+        CursorPageEvent.class,
+        DocumentConversionEvent.class,
+        BatchWriteEvent.class,
+        RetryEvent.class
+    );
+
+    private final Settings settings;
+    private final Recording recording;
+    private final Clock clock;
+
+    private FlightRecording(Settings settings, Recording recording, Clock clock) {
+        this.settings = settings;
+        this.recording = recording;
+        this.clock = clock;
+    }
+
+    public static FlightRecording start(@NonNull Settings settings) {
+        return start(settings, Clock.systemUTC());
+    }
+
+    static FlightRecording start(@NonNull Settings settings, @NonNull Clock clock) {
+        if (!settings.enabled()) {
+            return new FlightRecording(settings, null, clock);
+        }
+
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(SETTINGS));
+        } catch (IOException | ParseException e) {
+            log.warn("Failed to load JFR settings; recording only reindex events. settings={}", SETTINGS, e);
+            recording = new Recording();
+        }
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(settings.maxAge());
+        for (var event : EVENTS) {
+            recording.enable(event).withoutStackTrace();
+        }
+        recording.start();
+        log.info(
+            "Started continuous flight recording. maxAge={} dumpDirectory={}",
+            settings.maxAge(),
+            settings.dumpDirectory()
+        );
+        return new FlightRecording(settings, recording, clock);
+    }
+
+    public boolean enabled() {
+        return recording != null;
+    }
+
+    public Path dumpOnFailure() {
+        if (recording == null) {
+            return null;
+        }
+
+        var file = settings.dumpDirectory().resolve("reindex-" + DUMP_TIMESTAMP.format(clock.instant()) + ".jfr");
+        try {
+            Files.createDirectories(settings.dumpDirectory());
+            recording.dump(file);
+            log.info("Dumped flight recording after failure. file={}", file);
+            return file;
+        } catch (IOException e) {
+            log.warn("Failed to dump flight recording. file={}", file, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    public record Settings(boolean enabled, @NonNull Path dumpDirectory, @NonNull Duration maxAge) {
+        public static Settings disabled() {
+            return new Settings(false, Path.of("/tmp"), Duration.ofMinutes(15));
+        }
+    }
+}
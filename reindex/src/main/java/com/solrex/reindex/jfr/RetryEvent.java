@@ -0,0 +1,26 @@
+package com.solrex.reindex.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.solrex.reindex.Retry")
+@Label("Retry")
+@Category({"Solrex", "Reindex"})
+@Description("Backoff before retrying a failed Solr request; the duration is the time spent waiting")
+@StackTrace(false)
+public final class RetryEvent extends jdk.jfr.Event {
+    @Label("Cluster")
+    public String cluster;
+
+    @Label("Error Category")
+    public String category;
+
+    @Label("Retry Number")
+    public int retry;
+
+    @Label("Breaker State")
+    public String breakerState;
+}
@@ -0,0 +1,84 @@
+package com.solrex.reindex.job;
+
+import com.solrex.reindex.solr.ShardSetPin;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+final class ConfigMapShardSetPin implements ShardSetPin {
+    static final String SHARDS_KEY = "shards";
+
+    @NonNull
+    private final KubernetesClient kubernetesClient;
+    @NonNull
+    private final String name;
+    private final boolean publisher;
+    @NonNull
+    private final Duration pollInterval;
+
+    @Override
+    public Uni<List<String>> pin(@NonNull List<String> shards) {
+        return blocking(() -> publisher ? publish(shards) : read())
+            .onItem().transformToUni(pinned -> {
+                if (pinned.isPresent()) {
+                    return Uni.createFrom().item(pinned.get());
+                }
+                log.info("Waiting for the source shard set to be pinned. configMap={} key={}", name, SHARDS_KEY);
+                return Uni.createFrom().voidItem()
+                    .onItem().delayIt().by(pollInterval)
+                    .onItem().transformToUni(ignored -> pin(shards));
+            });
+    }
+
+    private Optional<List<String>> publish(List<String> shards) {
+        var configMap = kubernetesClient.configMaps().withName(name).get();
+        if (configMap == null) {
+            throw new IllegalStateException("Cannot pin the source shard set: ConfigMap " + name + " does not exist");
+        }
+        var pinned = pinned(configMap);
+        if (pinned.isPresent()) {
+            return pinned;
+        }
+        try {
+            kubernetesClient.configMaps()
+                .resource(new ConfigMapBuilder(configMap).addToData(SHARDS_KEY, String.join(",", shards)).build())
+                .update();
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == 409) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+        log.info("Pinned the source shard set for the job's pods. configMap={} shards={}", name, shards);
+        return Optional.of(List.copyOf(shards));
+    }
+
+    private Optional<List<String>> read() {
+        var configMap = kubernetesClient.configMaps().withName(name).get();
+        return configMap == null ? Optional.empty() : pinned(configMap);
+    }
+
+    private static Optional<List<String>> pinned(ConfigMap configMap) {
+        var value = configMap.getData() == null ? null : configMap.getData().get(SHARDS_KEY);
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.of(value.isEmpty() ? List.of() : List.of(value.split(",")));
+    }
+
+    private static <T> Uni<T> blocking(Supplier<T> call) {
+        return Uni.createFrom().item(call).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+}
@@ -0,0 +1,104 @@
+package com.solrex.reindex.job;
+
+import com.solrex.reindex.model.ReindexPlan;
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.pipeline.LiveTuning;
+import com.solrex.reindex.solr.SourceSample;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.NonNull;
+
+final class ReindexEstimator {
+    static final long TARGET_PAGE_BYTES = 4L * 1024 * 1024;
+    static final long TARGET_BATCH_BYTES = 2L * 1024 * 1024;
+    static final int MIN_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 5_000;
+    static final int MIN_BATCH_SIZE = 50;
+    static final int MAX_BATCH_SIZE = 2_000;
+    static final long DOCS_PER_READ_LANE = 1_000_000;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private ReindexEstimator() {
+    }
+
+    static ReindexPlan estimate(
+        @NonNull ReindexTuning tuning,
+        @NonNull SourceSample sample,
+        @NonNull Optional<Probe> probe
+    ) {
+        var plan = sample.plan();
+        var sampledDocs = sample.sampledDocs();
+        var averageDocBytes = sampledDocs == 0 ? 0 : sample.sampledBytes() / sampledDocs;
+
+        var readPageSize = averageDocBytes == 0
+            ? tuning.readPageSize()
+            : clamp(TARGET_PAGE_BYTES / averageDocBytes, MIN_PAGE_SIZE, MAX_PAGE_SIZE);
+        var writeBatchSize = averageDocBytes == 0
+            ? tuning.writeBatchSize()
+            : clamp(TARGET_BATCH_BYTES / averageDocBytes, MIN_BATCH_SIZE, MAX_BATCH_SIZE);
+        var readConcurrency = clamp(
+            Math.max(plan.shards().size(), Math.ceilDiv(plan.estimatedDocs(), DOCS_PER_READ_LANE)),
+            1,
+            ReindexTuning.DEFAULT_READ_CONCURRENCY);
+
+        var laneDocsPerSecond = docsPerSecond(sampledDocs, sample.sampledLatency());
+        var readDocsPerSecond = laneDocsPerSecond * readConcurrency;
+
+        var writeConcurrency = tuning.writeConcurrency();
+        Double writeDocsPerSecond = null;
+        var slotDocsPerSecond = probe.map(result -> docsPerSecond(result.docs(), result.latency())).orElse(0.0);
+        if (slotDocsPerSecond > 0) {
+            writeConcurrency = clamp(
+                (long) Math.ceil(readDocsPerSecond / slotDocsPerSecond), 1, LiveTuning.MAX_WRITE_CONCURRENCY);
+            writeDocsPerSecond = slotDocsPerSecond * writeConcurrency;
+        }
+
+        var docsPerSecond = writeDocsPerSecond == null ? readDocsPerSecond : Math.min(readDocsPerSecond, writeDocsPerSecond);
+        if (tuning.maxDocsPerSecond() > 0) {
+            docsPerSecond = Math.min(docsPerSecond, tuning.maxDocsPerSecond());
+        }
+        var estimatedDuration = docsPerSecond <= 0
+            ? null
+            : Duration.ofSeconds((long) Math.ceil(plan.estimatedDocs() / docsPerSecond));
+
+        var recommendedTuning = new ReindexTuning(
+            readPageSize,
+            writeBatchSize,
+            writeConcurrency,
+            tuning.retryPolicy(),
+            tuning.replicaSelection(),
+            readConcurrency,
+            tuning.hedgePolicy(),
+            tuning.maxDocsPerSecond(),
+            tuning.autoTune()
+        );
+
+        return new ReindexPlan(
+            plan.collection(),
+            plan.shards().size(),
+            plan.estimatedDocs(),
+            plan.skippedShards(),
+            sampledDocs,
+            averageDocBytes,
+            sample.pages().isEmpty() ? null : sample.sampledLatency().dividedBy(sample.pages().size()),
+            probe.map(Probe::latency).orElse(null),
+            readDocsPerSecond,
+            writeDocsPerSecond,
+            estimatedDuration,
+            recommendedTuning.ceiling().estimatedHeapBytes(averageDocBytes),
+            recommendedTuning
+        );
+    }
+
+    private static double docsPerSecond(int docs, Duration latency) {
+        var nanos = latency.toNanos();
+        return docs == 0 || nanos <= 0 ? 0.0 : docs * NANOS_PER_SECOND / nanos;
+    }
+
+    private static int clamp(long value, int min, int max) {
+        return (int) Math.max(min, Math.min(max, value));
+    }
+
+    record Probe(int docs, Duration latency) {
+    }
+}
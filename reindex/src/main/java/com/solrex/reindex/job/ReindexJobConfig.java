@@ -3,6 +3,7 @@ package com.solrex.reindex.job;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import java.time.Duration;
+import java.util.Optional;
 
 @ConfigMapping(prefix = "reindex.job")
 public interface ReindexJobConfig {
@@ -10,4 +11,66 @@ public interface ReindexJobConfig {
 
     @WithDefault("PT15M")
     Duration timeout();
+
+    @WithDefault("PT10M")
+    Duration idleTimeout();
+
+    @WithDefault("PT2M")
+    Duration shardStallTimeout();
+
+    @WithDefault("PT30S")
+    Duration topologyRefreshInterval();
+
+    @WithDefault("PT30S")
+    Duration progressLogInterval();
+
+    Optional<String> summaryFile();
+
+    Optional<String> tuningConfigMap();
+
+    Optional<Integer> completionIndex();
+
+    FlightRecorder flightRecorder();
+
+    Coordination coordination();
+
+    DryRun dryRun();
+
+    interface FlightRecorder {
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("/tmp")
+        String dumpDirectory();
+
+        @WithDefault("PT15M")
+        Duration maxAge();
+    }
+
+    interface Coordination {
+        Optional<String> configMap();
+
+        Optional<String> file();
+
+        Optional<String> workerId();
+
+        @WithDefault("PT30S")
+        Duration leaseDuration();
+
+        @WithDefault("PT2S")
+        Duration pollInterval();
+
+        @WithDefault("100000")
+        long unitDocs();
+    }
+
+    interface DryRun {
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("3")
+        int samplePages();
+
+        Optional<String> probeCollection();
+    }
 }
@@ -1,9 +1,21 @@
 package com.solrex.reindex.job;
 
+import com.solrex.reindex.coordination.WorkQueue;
+import com.solrex.reindex.jfr.FlightRecording;
+import com.solrex.reindex.metrics.ReindexMetrics;
+import com.solrex.reindex.model.ReindexPlan;
 import com.solrex.reindex.model.ReindexRequest;
+import com.solrex.reindex.model.ReindexResult;
 import com.solrex.reindex.model.ReindexStats;
+import com.solrex.reindex.pipeline.LiveTuning;
+import com.solrex.reindex.solr.ShardGroup;
+import com.solrex.reindex.solr.ShardSetPin;
+import com.solrex.reindex.tracing.ReindexTracing;
 import jakarta.inject.Singleton;
 import jakarta.validation.ConstraintViolationException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,21 +27,52 @@ public final class ReindexJobRunner {
     private final ReindexService reindexService;
     private final ReindexRequest request;
     private final ReindexJobConfig config;
+    private final ReindexMetrics metrics;
+    private final ReindexTracing tracing;
+    private final TuningConfigMapWatcher tuningWatcher;
+    private final WorkQueueFactory workQueueFactory;
+    private final ShardSetPinFactory shardSetPinFactory;
 
     public int run() {
-        try {
+        if (config.dryRun().enabled()) {
+            return runDryRun();
+        }
+        try (var recording = FlightRecording.start(flightRecordingSettings())) {
+            var exitCode = runReindex();
+            if (exitCode != 0) {
+                recording.dumpOnFailure();
+            }
+            return exitCode;
+        }
+    }
+
+    private int runReindex() {
+        var liveTuning = new LiveTuning();
+        try (var tuningWatch = tuningWatcher.watch(liveTuning)) {
+            var workQueue = workQueueFactory.create();
+            var shardGroup = workQueue.isPresent()
+                ? ShardGroup.ALL
+                : ShardGroup.forCompletionIndex(request.parallelism(), config.completionIndex());
             log.info(
-                "Starting reindex. source={}/{} target={}/{} filters={} timeout={}",
+                "Starting reindex. source={}/{} target={}/{} filters={} shardGroup={} workQueue={} timeout={} "
+                    + "idleTimeout={} shardStallTimeout={}",
                 request.source().cluster().getBaseUrl(),
                 request.source().collection(),
                 request.target().cluster().getBaseUrl(),
                 request.target().collection(),
                 request.filters(),
-                config.timeout()
+                shardGroup,
+                workQueue.map(WorkQueue::workerId).orElse("disabled"),
+                config.timeout(),
+                config.idleTimeout(),
+                config.shardStallTimeout()
             );
 
-            ReindexStats stats = reindexService.reindex(request)
-                .await().atMost(config.timeout()).stats();
+            var options = ReindexRunOptions.from(
+                config, metrics, tracing, liveTuning, shardGroup, shardSetPinFactory.create(shardGroup), workQueue);
+            ReindexResult result = reindexService.reindex(request, options)
+                .await().atMost(config.timeout());
+            ReindexStats stats = result.stats();
 
             log.info(
                     "Reindex complete. docsRead={} docsIndexed={} batchesSent={} retries={} elapsed={}",
@@ -39,6 +82,7 @@ public final class ReindexJobRunner {
                     stats.retries(),
                     stats.elapsed()
             );
+            emitSummary(result);
             return 0;
         } catch (ConstraintViolationException e) {
             log.error("Request validation failed", e);
@@ -48,4 +92,56 @@ public final class ReindexJobRunner {
             return 1;
         }
     }
+
+    private int runDryRun() {
+        try {
+            var dryRun = config.dryRun();
+            log.info(
+                "Planning reindex. source={}/{} target={}/{} samplePages={} probeCollection={}",
+                request.source().cluster().getBaseUrl(),
+                request.source().collection(),
+                request.target().cluster().getBaseUrl(),
+                request.target().collection(),
+                dryRun.samplePages(),
+                dryRun.probeCollection().orElse("disabled")
+            );
+
+            var options = ReindexRunOptions.from(
+                config, metrics, tracing, new LiveTuning(), ShardGroup.ALL, ShardSetPin.NONE, Optional.empty());
+            ReindexPlan plan = reindexService.plan(request, options, dryRun.samplePages(), dryRun.probeCollection())
+                .await().atMost(config.timeout());
+            emitSummary("Reindex plan", ReindexSummary.toJson(plan));
+            return 0;
+        } catch (ConstraintViolationException e) {
+            log.error("Request validation failed", e);
+            return 1;
+        } catch (Exception e) {
+            log.error("Reindex plan failed", e);
+            return 1;
+        }
+    }
+
+    private void emitSummary(ReindexResult result) {
+        emitSummary("Reindex summary", ReindexSummary.toJson(result));
+    }
+
+    private void emitSummary(String label, String json) {
+        log.info("{}: {}", label, json);
+        config.summaryFile().map(Path::of).ifPresent(file -> {
+            try {
+                ReindexSummary.write(file, json);
+            } catch (IOException e) {
+                log.warn("Failed to write reindex summary. file={}", file, e);
+            }
+        });
+    }
+
+    private FlightRecording.Settings flightRecordingSettings() {
+        var flightRecorder = config.flightRecorder();
+        return new FlightRecording.Settings(
+            flightRecorder.enabled(),
+            Path.of(flightRecorder.dumpDirectory()),
+            flightRecorder.maxAge()
+        );
+    }
 }
@@ -0,0 +1,61 @@
+package com.solrex.reindex.job;
+
+import com.solrex.reindex.coordination.WorkQueue;
+import com.solrex.reindex.metrics.ReindexMetrics;
+import com.solrex.reindex.pipeline.LiveTuning;
+import com.solrex.reindex.pipeline.StallWatchdog;
+import com.solrex.reindex.solr.ShardGroup;
+import com.solrex.reindex.solr.ShardSetPin;
+import com.solrex.reindex.solr.SolrSourceDocumentReader;
+import com.solrex.reindex.tracing.ReindexTracing;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.NonNull;
+
+public record ReindexRunOptions(
+    @NonNull StallWatchdog.Settings watchdog,
+    @NonNull Duration topologyRefreshInterval,
+    @NonNull Duration progressLogInterval,
+    @NonNull ReindexMetrics metrics,
+    @NonNull ReindexTracing tracing,
+    @NonNull LiveTuning liveTuning,
+    @NonNull ShardGroup shardGroup,
+    @NonNull ShardSetPin shardSetPin,
+    @NonNull Optional<WorkQueue> workQueue
+) {
+    public static ReindexRunOptions defaults() {
+        return new ReindexRunOptions(
+            StallWatchdog.Settings.disabled(),
+            SolrSourceDocumentReader.DEFAULT_TOPOLOGY_REFRESH_INTERVAL,
+            Duration.ZERO,
+            ReindexMetrics.noop(),
+            ReindexTracing.noop(),
+            new LiveTuning(),
+            ShardGroup.ALL,
+            ShardSetPin.NONE,
+            Optional.empty()
+        );
+    }
+
+    public static ReindexRunOptions from(
+        @NonNull ReindexJobConfig config,
+        @NonNull ReindexMetrics metrics,
+        @NonNull ReindexTracing tracing,
+        @NonNull LiveTuning liveTuning,
+        @NonNull ShardGroup shardGroup,
+        @NonNull ShardSetPin shardSetPin,
+        @NonNull Optional<WorkQueue> workQueue
+    ) {
+        return new ReindexRunOptions(
+            new StallWatchdog.Settings(config.idleTimeout(), config.shardStallTimeout()),
+            config.topologyRefreshInterval(),
+            config.progressLogInterval(),
+            metrics,
+            tracing,
+            liveTuning,
+            shardGroup,
+            shardSetPin,
+            workQueue
+        );
+    }
+}
@@ -1,12 +1,24 @@
 package com.solrex.reindex.job;
 
+import com.solrex.reindex.coordination.WorkQueue;
+import com.solrex.reindex.coordination.WorkQueueConflictException;
+import com.solrex.reindex.metrics.ProgressReporter;
+import com.solrex.reindex.metrics.ReindexMetrics;
+import com.solrex.reindex.model.CollectionRef;
+import com.solrex.reindex.model.ReindexPlan;
 import com.solrex.reindex.model.ReindexRequest;
 import com.solrex.reindex.model.ReindexResult;
+import com.solrex.reindex.pipeline.ClusterRetryGovernor;
 import com.solrex.reindex.pipeline.ReindexPipeline;
+import com.solrex.reindex.pipeline.StallWatchdog;
+import com.solrex.reindex.solr.ShardGroup;
+import com.solrex.reindex.solr.ShardSetPin;
 import com.solrex.reindex.solr.SolrClientFactory;
 import com.solrex.reindex.solr.SolrSourceDocumentReader;
 import com.solrex.reindex.solr.SolrTargetDocumentWriter;
+import com.solrex.reindex.solr.SourceSample;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import jakarta.inject.Singleton;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -14,14 +26,18 @@ import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Singleton
 @RequiredArgsConstructor()
+@Slf4j
 public final class ReindexService {
     private static final Executor CLOSE_EXECUTOR = command -> Thread.ofPlatform().daemon().start(command);
 
@@ -35,23 +51,159 @@ public final class ReindexService {
     }
 
     public Uni<ReindexResult> reindex(@NonNull ReindexRequest request) {
+        return reindex(request, ReindexRunOptions.defaults());
+    }
+
+    public Uni<ReindexResult> reindex(@NonNull ReindexRequest request, @NonNull ReindexRunOptions options) {
         validate(request);
 
-        var sourceClient = solrClientFactory.create(request.source().cluster());
-        var targetClient = solrClientFactory.create(request.target().cluster());
-        var sourceReader = new SolrSourceDocumentReader(sourceClient);
-        var targetWriter = new SolrTargetDocumentWriter(targetClient);
-        var pipeline = new ReindexPipeline(sourceReader::streamDocuments, targetWriter::writeBatch);
+        var watchdog = new StallWatchdog(options.watchdog());
+        var metrics = options.metrics().forRun();
+        var sourceGovernor = new ClusterRetryGovernor(request.source().cluster().baseUrl(), metrics);
+        var targetGovernor = request.target().cluster().baseUrl().equals(request.source().cluster().baseUrl())
+            ? sourceGovernor
+            : new ClusterRetryGovernor(request.target().cluster().baseUrl(), metrics);
+        var sourceClient = solrClientFactory.create(request.source().cluster(), sourceGovernor, metrics);
+        var targetClient = solrClientFactory.create(request.target().cluster(), targetGovernor, metrics);
+        var sourceReader = new SolrSourceDocumentReader(
+            sourceClient,
+            watchdog,
+            options.topologyRefreshInterval(),
+            sourceGovernor,
+            metrics,
+            options.tracing(),
+            options.liveTuning(),
+            options.shardGroup(),
+            options.shardSetPin(),
+            options.workQueue()
+        );
+        var targetWriter = new SolrTargetDocumentWriter(targetClient, options.tracing());
+        var pipeline = new ReindexPipeline(
+            sourceReader::streamDocuments,
+            targetWriter::writeBatch,
+            watchdog,
+            targetGovernor,
+            metrics,
+            options.liveTuning()
+        );
+
+        var progress = new ProgressReporter(metrics, options.progressLogInterval());
+        var pauseListener = options.liveTuning().onPauseChanged(paused -> suspendWhilePaused(watchdog, paused));
+        if (options.liveTuning().paused()) {
+            watchdog.suspend();
+        }
 
         return pipeline.execute(request)
+            .onSubscription().invoke(progress::start)
+            .call(() -> completeWorkUnits(options))
             .eventually(() -> Uni.createFrom().voidItem()
                 .runSubscriptionOn(CLOSE_EXECUTOR)
                 .invoke(() -> {
+                    pauseListener.run();
+                    options.workQueue().ifPresent(WorkQueue::close);
+                    progress.close();
+                    closeQuietly(sourceReader);
                     closeQuietly(sourceClient);
                     closeQuietly(targetClient);
                 }));
     }
 
+    public Uni<ReindexPlan> plan(
+        @NonNull ReindexRequest request,
+        @NonNull ReindexRunOptions options,
+        int samplePages,
+        @NonNull Optional<String> probeCollection
+    ) {
+        validate(request);
+        probeCollection.filter(request.target().collection()::equals).ifPresent(collection -> {
+            throw new IllegalStateException(
+                "Probe collection must not be the target collection '" + collection + "'");
+        });
+
+        var metrics = options.metrics().forRun();
+        var sourceGovernor = new ClusterRetryGovernor(request.source().cluster().baseUrl(), metrics);
+        var sourceClient = solrClientFactory.create(request.source().cluster(), sourceGovernor, metrics);
+        var sourceReader = new SolrSourceDocumentReader(
+            sourceClient,
+            StallWatchdog.disabled(),
+            options.topologyRefreshInterval(),
+            sourceGovernor,
+            metrics,
+            options.tracing(),
+            options.liveTuning(),
+            ShardGroup.ALL,
+            ShardSetPin.NONE,
+            Optional.empty()
+        );
+
+        return sourceReader.sample(request, samplePages)
+            .onItem().transformToUni(sample -> {
+                var batchSize = ReindexEstimator.estimate(request.tuning(), sample, Optional.empty())
+                    .recommendedTuning()
+                    .writeBatchSize();
+                return probeCollection
+                    .map(collection -> probe(request, collection, sample, batchSize, metrics))
+                    .orElseGet(() -> Uni.createFrom().item(Optional.empty()))
+                    .onItem().transform(probe -> ReindexEstimator.estimate(request.tuning(), sample, probe));
+            })
+            .eventually(() -> Uni.createFrom().voidItem()
+                .runSubscriptionOn(CLOSE_EXECUTOR)
+                .invoke(() -> {
+                    closeQuietly(sourceReader);
+                    closeQuietly(sourceClient);
+                }));
+    }
+
+    private Uni<Optional<ReindexEstimator.Probe>> probe(
+        ReindexRequest request,
+        String collection,
+        SourceSample sample,
+        int batchSize,
+        ReindexMetrics metrics
+    ) {
+        var documents = sample.documents();
+        var batch = documents.subList(0, Math.min(batchSize, documents.size()));
+        if (batch.isEmpty()) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+
+        var target = new CollectionRef(request.target().cluster(), collection);
+        var probeRequest = new ReindexRequest(
+            request.source(), target, request.filters(), request.fields(), request.tuning(), request.parallelism());
+        var governor = new ClusterRetryGovernor(target.cluster().baseUrl(), metrics);
+        var targetClient = solrClientFactory.create(target.cluster(), governor, metrics);
+        var writer = new SolrTargetDocumentWriter(targetClient);
+        return Uni.createFrom().item(System::nanoTime)
+            .onItem().transformToUni(startedAt -> writer.writeBatch(probeRequest, batch)
+                .onItem().transform(ignored -> {
+                    var latency = Duration.ofNanos(System.nanoTime() - startedAt);
+                    log.info("Sent probe batch. collection={} docs={} latency={}", collection, batch.size(), latency);
+                    return Optional.of(new ReindexEstimator.Probe(batch.size(), latency));
+                }))
+            .eventually(() -> Uni.createFrom().voidItem()
+                .runSubscriptionOn(CLOSE_EXECUTOR)
+                .invoke(() -> closeQuietly(targetClient)));
+    }
+
+    private static Uni<Void> completeWorkUnits(ReindexRunOptions options) {
+        return options.workQueue()
+            .map(queue -> Uni.createFrom().item(queue::completeRead)
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .onFailure(WorkQueueConflictException.class).retry().withBackOff(queue.pollInterval()).indefinitely()
+                .invoke(completed -> log.info(
+                    "Marked work units done. worker={} units={}", queue.workerId(), completed))
+                .replaceWithVoid())
+            .orElseGet(() -> Uni.createFrom().voidItem());
+    }
+
+    private static void suspendWhilePaused(StallWatchdog watchdog, boolean paused) {
+        if (paused) {
+            watchdog.suspend();
+        } else {
+            watchdog.resume();
+        }
+    }
+
     private void validate(ReindexRequest request) {
         Set<ConstraintViolation<ReindexRequest>> violations = validator.validate(request);
         if (!violations.isEmpty()) {
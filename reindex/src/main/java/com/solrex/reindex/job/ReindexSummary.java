@@ -0,0 +1,45 @@
+package com.solrex.reindex.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.solrex.reindex.model.ReindexPlan;
+import com.solrex.reindex.model.ReindexResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.NonNull;
+
+final class ReindexSummary {
+    private static final ObjectMapper JSON = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+
+    private ReindexSummary() {
+    }
+
+    static String toJson(@NonNull ReindexResult result) {
+        return serialize(result);
+    }
+
+    static String toJson(@NonNull ReindexPlan plan) {
+        return serialize(plan);
+    }
+
+    private static String serialize(Object summary) {
+        try {
+            return JSON.writeValueAsString(summary);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize reindex summary", e);
+        }
+    }
+
+    static void write(@NonNull Path file, @NonNull String json) throws IOException {
+        var parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, json + System.lineSeparator());
+    }
+}
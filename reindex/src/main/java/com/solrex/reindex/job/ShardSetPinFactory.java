@@ -0,0 +1,41 @@
+package com.solrex.reindex.job;
+
+import com.solrex.reindex.solr.ShardGroup;
+import com.solrex.reindex.solr.ShardSetPin;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Singleton
+@RequiredArgsConstructor
+@Slf4j
+public final class ShardSetPinFactory {
+    @NonNull
+    private final Provider<KubernetesClient> kubernetesClient;
+    @NonNull
+    private final ReindexJobConfig config;
+
+    public ShardSetPin create(@NonNull ShardGroup shardGroup) {
+        if (shardGroup.isAll()) {
+            return ShardSetPin.NONE;
+        }
+        var name = config.tuningConfigMap().filter(configMap -> !configMap.isBlank());
+        if (name.isEmpty()) {
+            log.warn(
+                "No tuning ConfigMap is configured, so the source shard set is not pinned across pods; each pod "
+                    + "assigns shards from its own CLUSTERSTATUS read. shardGroup={}",
+                shardGroup
+            );
+            return ShardSetPin.NONE;
+        }
+        return new ConfigMapShardSetPin(
+            kubernetesClient.get(),
+            name.get(),
+            shardGroup.index() == 0,
+            config.coordination().pollInterval()
+        );
+    }
+}
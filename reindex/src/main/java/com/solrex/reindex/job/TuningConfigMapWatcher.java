@@ -0,0 +1,123 @@
+package com.solrex.reindex.job;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.solrex.reindex.model.ReindexRequest;
+import com.solrex.reindex.model.TuningOverride;
+import com.solrex.reindex.pipeline.LiveTuning;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.util.ArrayList;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Singleton
+@RequiredArgsConstructor
+@Slf4j
+public final class TuningConfigMapWatcher {
+    public static final String TUNING_KEY = "tuning.yaml";
+    private static final Watch NO_WATCH = () -> {
+    };
+
+    @NonNull
+    private final Provider<KubernetesClient> kubernetesClient;
+    @NonNull
+    private final ReindexJobConfig config;
+    @NonNull
+    private final ReindexRequest request;
+    @NonNull
+    private final Validator validator;
+    private final ObjectMapper yamlObjectMapper = new ObjectMapper(new YAMLFactory())
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+
+    public Watch watch(@NonNull LiveTuning liveTuning) {
+        var name = config.tuningConfigMap().filter(configMap -> !configMap.isBlank()).orElse(null);
+        if (name == null) {
+            return NO_WATCH;
+        }
+
+        var configMap = kubernetesClient.get().configMaps().withName(name);
+        apply(liveTuning, name, configMap.get());
+        log.info("Watching tuning ConfigMap for live changes. configMap={}", name);
+        return configMap.watch(new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, ConfigMap resource) {
+                switch (action) {
+                    case ADDED, MODIFIED -> apply(liveTuning, name, resource);
+                    case DELETED -> apply(liveTuning, name, null);
+                    default -> {
+                    }
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                log.warn("Tuning ConfigMap watch closed; live tuning changes no longer apply. configMap={}", name, cause);
+            }
+        });
+    }
+
+    void apply(LiveTuning liveTuning, String name, ConfigMap configMap) {
+        TuningOverride override;
+        try {
+            override = parse(configMap);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable tuning ConfigMap. configMap={} key={}", name, TUNING_KEY, e);
+            return;
+        }
+
+        var violations = new ArrayList<String>();
+        validator.validate(override.applyTo(request.tuning()))
+            .forEach(violation -> violations.add(violation.getPropertyPath() + " " + violation.getMessage()));
+        var ceiling = request.tuning().ceiling();
+        if (override.writeBatchSize() != null && override.writeBatchSize() > ceiling.writeBatchSize()) {
+            violations.add("writeBatchSize must be less than or equal to " + ceiling.writeBatchSize());
+        }
+        if (override.writeConcurrency() != null && override.writeConcurrency() > ceiling.writeConcurrency()) {
+            violations.add("writeConcurrency must be less than or equal to " + ceiling.writeConcurrency());
+        }
+        if (!violations.isEmpty()) {
+            log.warn(
+                "Rejected live tuning update. configMap={} violations={}",
+                name,
+                violations.stream().sorted().toList()
+            );
+            return;
+        }
+        if (override.equals(liveTuning.override())) {
+            return;
+        }
+
+        liveTuning.apply(override);
+        var effective = liveTuning.effective(request.tuning());
+        log.info(
+            "Applied live tuning. configMap={} writeBatchSize={} writeConcurrency={} maxDocsPerSecond={} paused={}",
+            name,
+            effective.writeBatchSize(),
+            effective.writeConcurrency(),
+            effective.maxDocsPerSecond(),
+            override.isPaused()
+        );
+    }
+
+    private TuningOverride parse(ConfigMap configMap) throws IOException {
+        if (configMap == null || configMap.getData() == null) {
+            return TuningOverride.NONE;
+        }
+        var yaml = configMap.getData().get(TUNING_KEY);
+        if (yaml == null || yaml.isBlank()) {
+            return TuningOverride.NONE;
+        }
+        var override = yamlObjectMapper.readValue(yaml, TuningOverride.class);
+        return override == null ? TuningOverride.NONE : override;
+    }
+}
@@ -0,0 +1,63 @@
+package com.solrex.reindex.job;
+
+import com.solrex.reindex.coordination.ConfigMapWorkQueueStore;
+import com.solrex.reindex.coordination.FileWorkQueueStore;
+import com.solrex.reindex.coordination.WorkQueue;
+import com.solrex.reindex.coordination.WorkQueueStore;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Singleton
+@RequiredArgsConstructor
+@Slf4j
+public final class WorkQueueFactory {
+    @NonNull
+    private final Provider<KubernetesClient> kubernetesClient;
+    @NonNull
+    private final ReindexJobConfig config;
+
+    public Optional<WorkQueue> create() {
+        var coordination = config.coordination();
+        var configMap = nonBlank(coordination.configMap());
+        var file = nonBlank(coordination.file());
+        if (configMap.isPresent() && file.isPresent()) {
+            throw new IllegalStateException(
+                "Configure only one of reindex.job.coordination.config-map and reindex.job.coordination.file");
+        }
+        if (configMap.isEmpty() && file.isEmpty()) {
+            return Optional.empty();
+        }
+
+        WorkQueueStore store = configMap.isPresent()
+            ? new ConfigMapWorkQueueStore(kubernetesClient.get(), configMap.get())
+            : new FileWorkQueueStore(Path.of(file.get()));
+        var settings = new WorkQueue.Settings(
+            nonBlank(coordination.workerId()).orElseGet(() -> UUID.randomUUID().toString()),
+            coordination.leaseDuration(),
+            coordination.pollInterval(),
+            coordination.unitDocs(),
+            config.completionIndex().map(index -> index == 0).orElse(true)
+        );
+        log.info(
+            "Coordinating reindex through a shared work queue. store={} worker={} leaseDuration={} unitDocs={} "
+                + "planner={}",
+            configMap.map(name -> "configmap/" + name).orElseGet(() -> "file:" + file.get()),
+            settings.workerId(),
+            settings.leaseDuration(),
+            settings.unitDocs(),
+            settings.planner()
+        );
+        return Optional.of(new WorkQueue(store, settings));
+    }
+
+    private static Optional<String> nonBlank(Optional<String> value) {
+        return value.filter(text -> !text.isBlank());
+    }
+}
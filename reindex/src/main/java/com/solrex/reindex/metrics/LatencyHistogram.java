@@ -0,0 +1,61 @@
+package com.solrex.reindex.metrics;
+
+import com.solrex.reindex.model.LatencySummary;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class LatencyHistogram {
+    private static final long MIN_TRACKED_NANOS = 1_000;
+    private static final double BUCKET_GROWTH = 1.05;
+    private static final double LOG_GROWTH = Math.log(BUCKET_GROWTH);
+    private static final int BUCKETS = bucketFor(Duration.ofMinutes(30).toNanos()) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos) {
+        var value = Math.max(nanos, 0);
+        counts.incrementAndGet(Math.min(bucketFor(value), BUCKETS - 1));
+        total.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    LatencySummary summary() {
+        var count = total.get();
+        if (count == 0) {
+            return LatencySummary.EMPTY;
+        }
+        return new LatencySummary(
+            count,
+            percentile(count, 0.50),
+            percentile(count, 0.95),
+            percentile(count, 0.99),
+            Duration.ofNanos(max.get())
+        );
+    }
+
+    private Duration percentile(long count, double quantile) {
+        var rank = (long) Math.ceil(quantile * count);
+        var seen = 0L;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(upperBound(bucket), max.get()));
+            }
+        }
+        return Duration.ofNanos(max.get());
+    }
+
+    private static int bucketFor(long nanos) {
+        if (nanos <= MIN_TRACKED_NANOS) {
+            return 0;
+        }
+        return (int) Math.ceil(Math.log((double) nanos / MIN_TRACKED_NANOS) / LOG_GROWTH);
+    }
+
+    private static long upperBound(int bucket) {
+        return (long) Math.ceil(MIN_TRACKED_NANOS * Math.pow(BUCKET_GROWTH, bucket));
+    }
+}
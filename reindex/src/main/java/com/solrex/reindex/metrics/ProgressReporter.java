@@ -0,0 +1,177 @@
+package com.solrex.reindex.metrics;
+
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class ProgressReporter implements AutoCloseable {
+    private static final int MAX_LOGGED_SHARDS = 5;
+    private static final double RATE_SMOOTHING = 0.3;
+
+    private final ReindexMetrics metrics;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier nanoClock;
+    private final RateTracker overallRate;
+    private final Map<String, RateTracker> shardRates = new HashMap<>();
+    private ScheduledFuture<?> reportTask;
+
+    public ProgressReporter(@NonNull ReindexMetrics metrics, @NonNull Duration interval) {
+        this(metrics, interval, Infrastructure.getDefaultWorkerPool(), System::nanoTime);
+    }
+
+    ProgressReporter(
+        @NonNull ReindexMetrics metrics,
+        @NonNull Duration interval,
+        @NonNull ScheduledExecutorService scheduler,
+        @NonNull LongSupplier nanoClock
+    ) {
+        this.metrics = metrics;
+        this.interval = interval;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+        this.overallRate = new RateTracker();
+    }
+
+    public synchronized void start() {
+        if (reportTask != null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+
+        sample();
+        var intervalMillis = interval.toMillis();
+        reportTask = scheduler.scheduleAtFixedRate(this::report, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (reportTask != null) {
+            reportTask.cancel(false);
+            reportTask = null;
+        }
+    }
+
+    synchronized Progress sample() {
+        var run = metrics.run();
+        var now = nanoClock.getAsLong();
+
+        var shards = run.shardProgress().stream()
+            .map(shard -> {
+                var rate = shardRates.computeIfAbsent(shard.shard(), ignored -> new RateTracker())
+                    .update(shard.docsRead(), now);
+                return new ShardEta(shard.shard(), shard.docsRead(), shard.plannedDocs(), rate,
+                    eta(shard.plannedDocs() - shard.docsRead(), rate));
+            })
+            .toList();
+
+        var done = run.docsWritten();
+        var total = run.plannedDocs();
+        var rate = overallRate.update(done, now);
+        var progress = new Progress(done, total, rate, eta(total - done, rate), shards);
+        metrics.progress(progress);
+        return progress;
+    }
+
+    private void report() {
+        try {
+            var progress = sample();
+            if (progress.total() == 0) {
+                return;
+            }
+
+            log.info(
+                "Reindex progress. indexed={}/{} percent={} docsPerSecond={} eta={} slowestShards=[{}]",
+                progress.done(),
+                progress.total(),
+                String.format(Locale.ROOT, "%.1f", progress.percent()),
+                Math.round(progress.docsPerSecond()),
+                progress.eta() == null ? "unknown" : progress.eta().withNanos(0),
+                slowestShards(progress.shards())
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to report reindex progress", e);
+        }
+    }
+
+    private static String slowestShards(List<ShardEta> shards) {
+        return shards.stream()
+            .filter(shard -> shard.done() < shard.total())
+            .sorted(Comparator.comparing(
+                (ShardEta shard) -> shard.eta() == null ? Duration.ofSeconds(Long.MAX_VALUE) : shard.eta()).reversed())
+            .limit(MAX_LOGGED_SHARDS)
+            .map(shard -> String.format(
+                Locale.ROOT,
+                "%s %.1f%% eta=%s",
+                shard.shard(),
+                shard.percent(),
+                shard.eta() == null ? "unknown" : shard.eta().withNanos(0)))
+            .collect(Collectors.joining(", "));
+    }
+
+    private static Duration eta(long remaining, double docsPerSecond) {
+        if (remaining <= 0) {
+            return Duration.ZERO;
+        }
+        if (docsPerSecond <= 0) {
+            return null;
+        }
+        return Duration.ofMillis(Math.round(remaining / docsPerSecond * 1000));
+    }
+
+    record Progress(long done, long total, double docsPerSecond, Duration eta, List<ShardEta> shards) {
+        double percent() {
+            return ProgressReporter.percent(done, total);
+        }
+    }
+
+    record ShardEta(String shard, long done, long total, double docsPerSecond, Duration eta) {
+        double percent() {
+            return ProgressReporter.percent(done, total);
+        }
+    }
+
+    private static double percent(long done, long total) {
+        return total <= 0 ? 0.0 : Math.min(100.0, done * 100.0 / total);
+    }
+
+    private static final class RateTracker {
+        private boolean primed;
+        private long lastCount;
+        private long lastNanos;
+        private double docsPerSecond = -1;
+
+        private double update(long count, long nowNanos) {
+            if (!primed) {
+                primed = true;
+                lastCount = count;
+                lastNanos = nowNanos;
+                return 0;
+            }
+
+            var elapsedSeconds = (nowNanos - lastNanos) / 1_000_000_000.0;
+            if (elapsedSeconds <= 0) {
+                return Math.max(docsPerSecond, 0);
+            }
+
+            var current = (count - lastCount) / elapsedSeconds;
+            docsPerSecond = docsPerSecond < 0
+                ? current
+                : RATE_SMOOTHING * current + (1 - RATE_SMOOTHING) * docsPerSecond;
+            lastCount = count;
+            lastNanos = nowNanos;
+            return docsPerSecond;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.solrex.reindex.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+
+@Singleton
+public final class ReindexMetrics {
+    public static final String DOCS_READ = "reindex.docs.read";
+    public static final String DOCS_WRITTEN = "reindex.docs.written";
+    public static final String DOCS_BUFFERED = "reindex.docs.buffered";
+    public static final String BATCHES_IN_FLIGHT = "reindex.batches.in.flight";
+    public static final String PAGE_FETCH = "reindex.page.fetch";
+    public static final String BATCH_WRITE = "reindex.batch.write";
+    public static final String RETRIES = "reindex.retries";
+    public static final String BYTES = "reindex.bytes";
+    public static final String PROGRESS = "reindex.progress";
+    public static final String THROUGHPUT = "reindex.throughput";
+    public static final String ETA = "reindex.eta";
+    public static final String DOCS_PLANNED = "reindex.docs.planned";
+    public static final String SHARD_PROGRESS = "reindex.shard.progress";
+    public static final String SHARD_ETA = "reindex.shard.eta";
+
+    private static final Duration MIN_EXPECTED_LATENCY = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED_LATENCY = Duration.ofMinutes(2);
+
+    private final MeterRegistry registry;
+    private final RunStatsRecorder run;
+    private final ProgressGauge overallProgress = new ProgressGauge();
+    private final Map<String, ProgressGauge> shardProgress = new ConcurrentHashMap<>();
+
+    @Inject
+    public ReindexMetrics(@NonNull MeterRegistry registry) {
+        this(registry, new RunStatsRecorder());
+    }
+
+    private ReindexMetrics(MeterRegistry registry, RunStatsRecorder run) {
+        this.registry = registry;
+        this.run = run;
+    }
+
+    public static ReindexMetrics noop() {
+        return new ReindexMetrics(new CompositeMeterRegistry());
+    }
+
+    public ReindexMetrics forRun() {
+        return new ReindexMetrics(registry, new RunStatsRecorder());
+    }
+
+    public RunStatsRecorder run() {
+        return run;
+    }
+
+    public void docsRead(@NonNull String shard, int count) {
+        registry.counter(DOCS_READ, "shard", shard).increment(count);
+        run.pageRead(shard, count);
+    }
+
+    public void shardPlanned(@NonNull String shard, long estimatedDocs) {
+        run.shardPlanned(shard, estimatedDocs);
+    }
+
+    public void docsWritten(@NonNull String collection, int count) {
+        registry.counter(DOCS_WRITTEN, "collection", collection).increment(count);
+        run.docsWritten(count);
+    }
+
+    public void pageFetched(@NonNull String shard, long elapsedNanos) {
+        latencyTimer(PAGE_FETCH, "shard", shard).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        run.pageFetched(shard, elapsedNanos);
+    }
+
+    public void batchWritten(@NonNull String outcome, long elapsedNanos) {
+        latencyTimer(BATCH_WRITE, "outcome", outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        run.batchWritten(elapsedNanos);
+    }
+
+    public void retry(@NonNull String cluster, @NonNull String category) {
+        registry.counter(RETRIES, "cluster", cluster, "category", category).increment();
+    }
+
+    public void bytesSent(long bytes) {
+        Counter.builder(BYTES).baseUnit("bytes").tag("direction", "sent").register(registry).increment(bytes);
+        run.bytesWritten(bytes);
+    }
+
+    public void bytesReceived(long bytes) {
+        Counter.builder(BYTES).baseUnit("bytes").tag("direction", "received").register(registry).increment(bytes);
+        run.bytesRead(bytes);
+    }
+
+    public void bindPipeline(@NonNull LongSupplier bufferedDocs, @NonNull LongSupplier inFlightBatches) {
+        Gauge.builder(DOCS_BUFFERED, bufferedDocs, LongSupplier::getAsLong)
+            .strongReference(true)
+            .register(registry);
+        Gauge.builder(BATCHES_IN_FLIGHT, inFlightBatches, LongSupplier::getAsLong)
+            .strongReference(true)
+            .register(registry);
+    }
+
+    void progress(ProgressReporter.Progress progress) {
+        if (overallProgress.bind()) {
+            Gauge.builder(PROGRESS, overallProgress, gauge -> gauge.ratio).strongReference(true).register(registry);
+            Gauge.builder(THROUGHPUT, overallProgress, gauge -> gauge.docsPerSecond)
+                .baseUnit("documents.per.second")
+                .strongReference(true)
+                .register(registry);
+            Gauge.builder(ETA, overallProgress, gauge -> gauge.etaSeconds)
+                .baseUnit("seconds")
+                .strongReference(true)
+                .register(registry);
+            Gauge.builder(DOCS_PLANNED, overallProgress, gauge -> gauge.total)
+                .strongReference(true)
+                .register(registry);
+        }
+        overallProgress.update(progress.percent() / 100, progress.docsPerSecond(), progress.eta(), progress.total());
+
+        for (var shard : progress.shards()) {
+            var gauge = shardProgress.computeIfAbsent(shard.shard(), ignored -> new ProgressGauge());
+            if (gauge.bind()) {
+                Gauge.builder(SHARD_PROGRESS, gauge, value -> value.ratio)
+                    .tag("shard", shard.shard())
+                    .strongReference(true)
+                    .register(registry);
+                Gauge.builder(SHARD_ETA, gauge, value -> value.etaSeconds)
+                    .tag("shard", shard.shard())
+                    .baseUnit("seconds")
+                    .strongReference(true)
+                    .register(registry);
+            }
+            gauge.update(shard.percent() / 100, shard.docsPerSecond(), shard.eta(), shard.total());
+        }
+    }
+
+    private Timer latencyTimer(String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+            .tag(tagKey, tagValue)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED_LATENCY)
+            .maximumExpectedValue(MAX_EXPECTED_LATENCY)
+            .register(registry);
+    }
+
+    private static final class ProgressGauge {
+        private final AtomicBoolean bound = new AtomicBoolean();
+        private volatile double ratio;
+        private volatile double docsPerSecond;
+        private volatile double etaSeconds = Double.NaN;
+        private volatile double total;
+
+        private boolean bind() {
+            return bound.compareAndSet(false, true);
+        }
+
+        private void update(double ratio, double docsPerSecond, Duration eta, long total) {
+            this.ratio = ratio;
+            this.docsPerSecond = docsPerSecond;
+            this.etaSeconds = eta == null ? Double.NaN : eta.toMillis() / 1000.0;
+            this.total = total;
+        }
+    }
+}
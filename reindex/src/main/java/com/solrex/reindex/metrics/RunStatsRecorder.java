@@ -0,0 +1,120 @@
+package com.solrex.reindex.metrics;
+
+import com.solrex.reindex.model.PhaseTimings;
+import com.solrex.reindex.model.ReindexResult;
+import com.solrex.reindex.model.ReindexStats;
+import com.solrex.reindex.model.ShardReadStats;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+
+public final class RunStatsRecorder {
+    private final LongSupplier nanoClock;
+    private final Map<String, ShardCounters> shards = new ConcurrentHashMap<>();
+    private final LatencyHistogram pageLatency = new LatencyHistogram();
+    private final LatencyHistogram batchLatency = new LatencyHistogram();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder docsWritten = new LongAdder();
+
+    public RunStatsRecorder() {
+        this(System::nanoTime);
+    }
+
+    RunStatsRecorder(@NonNull LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    void shardPlanned(String shard, long estimatedDocs) {
+        counters(shard).planned.set(estimatedDocs);
+    }
+
+    void pageRead(String shard, int docs) {
+        var counters = counters(shard);
+        counters.docs.add(docs);
+        counters.pages.increment();
+    }
+
+    void pageFetched(String shard, long elapsedNanos) {
+        var now = nanoClock.getAsLong();
+        var counters = counters(shard);
+        counters.firstStartNanos.accumulateAndGet(now - elapsedNanos, Math::min);
+        counters.lastEndNanos.accumulateAndGet(now, Math::max);
+        pageLatency.record(elapsedNanos);
+    }
+
+    void docsWritten(long docs) {
+        docsWritten.add(docs);
+    }
+
+    void batchWritten(long elapsedNanos) {
+        batchLatency.record(elapsedNanos);
+    }
+
+    void bytesRead(long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    void bytesWritten(long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    long plannedDocs() {
+        return shards.values().stream().mapToLong(counters -> counters.planned.get()).sum();
+    }
+
+    long docsWritten() {
+        return docsWritten.sum();
+    }
+
+    List<ShardProgress> shardProgress() {
+        return shards.entrySet().stream()
+            .map(entry -> new ShardProgress(entry.getKey(), entry.getValue().docs.sum(), entry.getValue().planned.get()))
+            .sorted(Comparator.comparing(ShardProgress::shard))
+            .toList();
+    }
+
+    public ReindexResult toResult(@NonNull ReindexStats stats, @NonNull PhaseTimings phases) {
+        var shardStats = shards.entrySet().stream()
+            .map(entry -> entry.getValue().toStats(entry.getKey()))
+            .sorted(Comparator.comparing(ShardReadStats::shard))
+            .toList();
+        return new ReindexResult(
+            stats,
+            phases,
+            bytesRead.sum(),
+            bytesWritten.sum(),
+            pageLatency.summary(),
+            batchLatency.summary(),
+            shardStats
+        );
+    }
+
+    private ShardCounters counters(String shard) {
+        return shards.computeIfAbsent(shard, ignored -> new ShardCounters());
+    }
+
+    private static final class ShardCounters {
+        private final LongAdder docs = new LongAdder();
+        private final LongAdder pages = new LongAdder();
+        private final AtomicLong planned = new AtomicLong();
+        private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastEndNanos = new AtomicLong(Long.MIN_VALUE);
+
+        private ShardReadStats toStats(String shard) {
+            var start = firstStartNanos.get();
+            var end = lastEndNanos.get();
+            var elapsed = start == Long.MAX_VALUE || end < start ? Duration.ZERO : Duration.ofNanos(end - start);
+            return new ShardReadStats(shard, docs.sum(), pages.sum(), elapsed);
+        }
+    }
+
+    record ShardProgress(String shard, long docsRead, long plannedDocs) {
+    }
+}
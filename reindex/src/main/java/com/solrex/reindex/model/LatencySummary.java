@@ -0,0 +1,13 @@
+package com.solrex.reindex.model;
+
+import java.time.Duration;
+
+public record LatencySummary(
+    long count,
+    Duration p50,
+    Duration p95,
+    Duration p99,
+    Duration max
+) {
+    public static final LatencySummary EMPTY = new LatencySummary(0, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+}
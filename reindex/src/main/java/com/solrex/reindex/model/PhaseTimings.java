@@ -0,0 +1,11 @@
+package com.solrex.reindex.model;
+
+import java.time.Duration;
+
+public record PhaseTimings(
+    Duration discovery,
+    Duration streaming,
+    Duration drain
+) {
+    public static final PhaseTimings EMPTY = new PhaseTimings(Duration.ZERO, Duration.ZERO, Duration.ZERO);
+}
@@ -0,0 +1,24 @@
+package com.solrex.reindex.model;
+
+import java.time.Duration;
+import java.util.List;
+
+public record ReindexPlan(
+    String collection,
+    int shards,
+    long estimatedDocs,
+    List<String> skippedShards,
+    int sampledDocs,
+    long averageDocBytes,
+    Duration averagePageLatency,
+    Duration probeBatchLatency,
+    double readDocsPerSecond,
+    Double writeDocsPerSecond,
+    Duration estimatedDuration,
+    long estimatedHeapBytes,
+    ReindexTuning recommendedTuning
+) {
+    public ReindexPlan {
+        skippedShards = List.copyOf(skippedShards);
+    }
+}
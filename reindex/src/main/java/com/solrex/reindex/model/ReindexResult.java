@@ -1,3 +1,21 @@
 package com.solrex.reindex.model;
 
-public record ReindexResult(ReindexStats stats) {}
+import java.util.List;
+
+public record ReindexResult(
+    ReindexStats stats,
+    PhaseTimings phases,
+    long bytesRead,
+    long bytesWritten,
+    LatencySummary pageLatency,
+    LatencySummary batchLatency,
+    List<ShardReadStats> shards
+) {
+    public ReindexResult {
+        shards = List.copyOf(shards);
+    }
+
+    public ReindexResult(ReindexStats stats) {
+        this(stats, PhaseTimings.EMPTY, 0, 0, LatencySummary.EMPTY, LatencySummary.EMPTY, List.of());
+    }
+}
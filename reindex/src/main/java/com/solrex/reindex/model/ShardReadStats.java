@@ -0,0 +1,10 @@
+package com.solrex.reindex.model;
+
+import java.time.Duration;
+
+public record ShardReadStats(
+    String shard,
+    long docsRead,
+    long pages,
+    Duration elapsed
+) {}
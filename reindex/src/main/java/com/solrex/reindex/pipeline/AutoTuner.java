@@ -0,0 +1,298 @@
+package com.solrex.reindex.pipeline;
+
+import com.solrex.reindex.model.AutoTunePolicy;
+import com.solrex.reindex.model.ReindexTuning;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class AutoTuner implements AutoCloseable {
+    static final double MIN_IMPROVEMENT = 0.05;
+    static final int MIN_READ_PAGE_SIZE = 50;
+    static final int MIN_WRITE_BATCH_SIZE = 10;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ReindexTuning tuning;
+    private final AutoTunePolicy policy;
+    private final LiveTuning liveTuning;
+    private final LongSupplier docsWritten;
+    private final LongSupplier batchesWritten;
+    private final LongSupplier failedWrites;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier nanoClock;
+    private ScheduledFuture<?> stepTask;
+
+    private boolean calibrating;
+    private long phaseStartedNanos;
+    private long lastSampleNanos;
+    private long lastDocs;
+    private long lastBatches;
+    private long lastFailures;
+    private CalibratedTuning best;
+    private double bestScore;
+    private CalibratedTuning trial;
+    private Knob knob;
+    private boolean growing;
+
+    public AutoTuner(
+        @NonNull ReindexTuning tuning,
+        @NonNull LiveTuning liveTuning,
+        @NonNull LongSupplier docsWritten,
+        @NonNull LongSupplier batchesWritten,
+        @NonNull LongSupplier failedWrites
+    ) {
+        this(tuning, liveTuning, docsWritten, batchesWritten, failedWrites,
+            Infrastructure.getDefaultWorkerPool(), System::nanoTime);
+    }
+
+    AutoTuner(
+        @NonNull ReindexTuning tuning,
+        @NonNull LiveTuning liveTuning,
+        @NonNull LongSupplier docsWritten,
+        @NonNull LongSupplier batchesWritten,
+        @NonNull LongSupplier failedWrites,
+        @NonNull ScheduledExecutorService scheduler,
+        @NonNull LongSupplier nanoClock
+    ) {
+        this.tuning = tuning;
+        this.policy = tuning.autoTune();
+        this.liveTuning = liveTuning;
+        this.docsWritten = docsWritten;
+        this.batchesWritten = batchesWritten;
+        this.failedWrites = failedWrites;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized void start() {
+        if (!policy.enabled() || stepTask != null) {
+            return;
+        }
+
+        begin();
+        var intervalMillis = policy.stepInterval().toMillis();
+        stepTask = scheduler.scheduleAtFixedRate(this::stepSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stepTask != null) {
+            stepTask.cancel(false);
+            stepTask = null;
+        }
+    }
+
+    synchronized void begin() {
+        var now = nanoClock.getAsLong();
+        best = CalibratedTuning.of(tuning);
+        bestScore = -1;
+        trial = null;
+        knob = Knob.WRITE_CONCURRENCY;
+        growing = true;
+        calibrating = true;
+        phaseStartedNanos = now;
+        resetWindow(now);
+        log.info(
+            "Auto-tuning started. readPageSize={} writeBatchSize={} writeConcurrency={} calibration={}",
+            best.readPageSize(),
+            best.writeBatchSize(),
+            best.writeConcurrency(),
+            policy.calibration());
+    }
+
+    synchronized CalibratedTuning current() {
+        return trial == null ? best : trial;
+    }
+
+    synchronized boolean calibrating() {
+        return calibrating;
+    }
+
+    synchronized void step() {
+        var now = nanoClock.getAsLong();
+        if (liveTuning.paused()) {
+            resetWindow(now);
+            return;
+        }
+
+        var score = score(now);
+        if (!calibrating) {
+            if (now - phaseStartedNanos >= policy.recheckInterval().toNanos()) {
+                calibrating = true;
+                phaseStartedNanos = now;
+                bestScore = score;
+                knob = Knob.WRITE_CONCURRENCY;
+                growing = true;
+                log.info("Re-checking auto-tuned settings. docsPerSecond={}", format(score));
+                proposeNext();
+            }
+            return;
+        }
+
+        if (trial == null) {
+            bestScore = Math.max(bestScore, score);
+        } else if (score > bestScore * (1 + MIN_IMPROVEMENT)) {
+            log.info("Auto-tuning kept {}. {} -> {} docsPerSecond={} (was {})",
+                knob.property, knob.get(best), knob.get(trial), format(score), format(bestScore));
+            best = trial;
+            bestScore = score;
+            trial = null;
+        } else {
+            log.info("Auto-tuning rejected {}. {} -> {} docsPerSecond={} (best {})",
+                knob.property, knob.get(best), knob.get(trial), format(score), format(bestScore));
+            trial = null;
+            if (growing) {
+                growing = false;
+            } else {
+                knob = knob.next();
+                growing = true;
+            }
+        }
+
+        if (now - phaseStartedNanos >= policy.calibration().toNanos()) {
+            lock(now);
+            return;
+        }
+        proposeNext();
+    }
+
+    private void stepSafely() {
+        try {
+            step();
+        } catch (RuntimeException e) {
+            log.warn("Auto-tuning step failed", e);
+        }
+    }
+
+    private void proposeNext() {
+        while (knob != null) {
+            if (!knob.ownedByOperator(liveTuning)) {
+                var candidate = knob.scale(best, growing, tuning);
+                if (!candidate.equals(best)) {
+                    trial = candidate;
+                    liveTuning.calibrate(trial);
+                    return;
+                }
+            }
+            if (growing) {
+                growing = false;
+            } else {
+                knob = knob.next();
+                growing = true;
+            }
+        }
+
+        lock(nanoClock.getAsLong());
+    }
+
+    private void lock(long now) {
+        trial = null;
+        knob = null;
+        calibrating = false;
+        phaseStartedNanos = now;
+        liveTuning.calibrate(best);
+        log.info(
+            "Auto-tuning locked in. readPageSize={} writeBatchSize={} writeConcurrency={} docsPerSecond={} "
+                + "recheckIn={}",
+            best.readPageSize(),
+            best.writeBatchSize(),
+            best.writeConcurrency(),
+            format(bestScore),
+            policy.recheckInterval());
+    }
+
+    private double score(long now) {
+        var docs = docsWritten.getAsLong();
+        var batches = batchesWritten.getAsLong();
+        var failures = failedWrites.getAsLong();
+        var elapsedSeconds = (now - lastSampleNanos) / NANOS_PER_SECOND;
+        var docsPerSecond = elapsedSeconds <= 0 ? 0.0 : (docs - lastDocs) / elapsedSeconds;
+        var attempts = (batches - lastBatches) + (failures - lastFailures);
+        var errorRate = attempts == 0 ? 0.0 : (double) (failures - lastFailures) / attempts;
+
+        lastSampleNanos = now;
+        lastDocs = docs;
+        lastBatches = batches;
+        lastFailures = failures;
+        if (errorRate > policy.maxErrorRate()) {
+            log.info("Auto-tuning saw write errors. errorRate={} maxErrorRate={}",
+                format(errorRate), format(policy.maxErrorRate()));
+            return 0.0;
+        }
+        return docsPerSecond;
+    }
+
+    private void resetWindow(long now) {
+        lastSampleNanos = now;
+        lastDocs = docsWritten.getAsLong();
+        lastBatches = batchesWritten.getAsLong();
+        lastFailures = failedWrites.getAsLong();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private enum Knob {
+        WRITE_CONCURRENCY("writeConcurrency"),
+        WRITE_BATCH_SIZE("writeBatchSize"),
+        READ_PAGE_SIZE("readPageSize");
+
+        private final String property;
+
+        Knob(String property) {
+            this.property = property;
+        }
+
+        private Knob next() {
+            var knobs = values();
+            return ordinal() + 1 < knobs.length ? knobs[ordinal() + 1] : null;
+        }
+
+        private int get(CalibratedTuning tuning) {
+            return switch (this) {
+                case WRITE_CONCURRENCY -> tuning.writeConcurrency();
+                case WRITE_BATCH_SIZE -> tuning.writeBatchSize();
+                case READ_PAGE_SIZE -> tuning.readPageSize();
+            };
+        }
+
+        private boolean ownedByOperator(LiveTuning liveTuning) {
+            var override = liveTuning.override();
+            return switch (this) {
+                case WRITE_CONCURRENCY -> override.writeConcurrency() != null;
+                case WRITE_BATCH_SIZE -> override.writeBatchSize() != null;
+                case READ_PAGE_SIZE -> false;
+            };
+        }
+
+        private CalibratedTuning scale(CalibratedTuning current, boolean grow, ReindexTuning base) {
+            var value = get(current);
+            var next = grow ? value * 2 : Math.max(1, value / 2);
+            return switch (this) {
+                case WRITE_CONCURRENCY -> new CalibratedTuning(
+                    current.readPageSize(),
+                    current.writeBatchSize(),
+                    clamp(next, 1, LiveTuning.writeConcurrencyCeiling(base)));
+                case WRITE_BATCH_SIZE -> new CalibratedTuning(
+                    current.readPageSize(),
+                    clamp(next, MIN_WRITE_BATCH_SIZE, LiveTuning.writeBatchSizeCeiling(base)),
+                    current.writeConcurrency());
+                case READ_PAGE_SIZE -> new CalibratedTuning(
+                    clamp(next, MIN_READ_PAGE_SIZE, base.ceiling().readPageSize()),
+                    current.writeBatchSize(),
+                    current.writeConcurrency());
+            };
+        }
+
+        private static int clamp(int value, int min, int max) {
+            return Math.max(Math.min(min, max), Math.min(max, value));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.solrex.reindex.pipeline;
+
+import com.solrex.reindex.model.ReindexTuning;
+import lombok.NonNull;
+
+public record CalibratedTuning(int readPageSize, int writeBatchSize, int writeConcurrency) {
+    public static CalibratedTuning of(@NonNull ReindexTuning tuning) {
+        return new CalibratedTuning(tuning.readPageSize(), tuning.writeBatchSize(), tuning.writeConcurrency());
+    }
+
+    public ReindexTuning applyTo(@NonNull ReindexTuning tuning) {
+        return new ReindexTuning(
+            readPageSize,
+            writeBatchSize,
+            writeConcurrency,
+            tuning.retryPolicy(),
+            tuning.replicaSelection(),
+            tuning.readConcurrency(),
+            tuning.hedgePolicy(),
+            tuning.maxDocsPerSecond(),
+            tuning.autoTune()
+        );
+    }
+}
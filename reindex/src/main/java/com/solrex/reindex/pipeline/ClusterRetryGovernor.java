@@ -0,0 +1,217 @@
+package com.solrex.reindex.pipeline;
+
+import com.solrex.reindex.jfr.RetryEvent;
+import com.solrex.reindex.metrics.ReindexMetrics;
+import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.util.ReindexErrorClassifier;
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class ClusterRetryGovernor {
+    private static final long RETRY_TOKEN = 1_000;
+    private static final long INITIAL_RETRY_TOKENS = 10 * RETRY_TOKEN;
+    private static final long MAX_RETRY_TOKENS = 100 * RETRY_TOKEN;
+    private static final Duration HALF_OPEN_POLL_INTERVAL = Duration.ofMillis(500);
+    private static final Permit GRANTED = new Permit(null, false);
+    private static final Permit PROBE = new Permit(null, true);
+
+    private final String cluster;
+    private final ReindexMetrics metrics;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilNanos;
+    private long pausedUntilNanos;
+    private boolean probeInFlight;
+    private long retryTokens = INITIAL_RETRY_TOKENS;
+    private long breakerTrips;
+
+    public ClusterRetryGovernor(@NonNull String cluster) {
+        this(cluster, ReindexMetrics.noop());
+    }
+
+    public ClusterRetryGovernor(@NonNull String cluster, @NonNull ReindexMetrics metrics) {
+        this(cluster, metrics, System::nanoTime);
+    }
+
+    ClusterRetryGovernor(@NonNull String cluster, @NonNull LongSupplier nanoClock) {
+        this(cluster, ReindexMetrics.noop(), nanoClock);
+    }
+
+    ClusterRetryGovernor(@NonNull String cluster, @NonNull ReindexMetrics metrics, @NonNull LongSupplier nanoClock) {
+        this.cluster = cluster;
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+    }
+
+    public <T> Uni<T> call(
+        @NonNull RetryPolicy retryPolicy,
+        @NonNull Supplier<Uni<T>> attempt,
+        @NonNull Function<Throwable, Uni<?>> beforeRetry
+    ) {
+        return call(retryPolicy, attempt, beforeRetry, 0);
+    }
+
+    public synchronized void pauseFor(@NonNull Duration retryAfter) {
+        var until = nanoClock.getAsLong() + retryAfter.toNanos();
+        if (until > pausedUntilNanos) {
+            pausedUntilNanos = until;
+            log.warn("Cluster asked clients to back off; pausing requests. cluster={} retryAfter={}", cluster, retryAfter);
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized long breakerTrips() {
+        return breakerTrips;
+    }
+
+    private <T> Uni<T> call(
+        RetryPolicy retryPolicy,
+        Supplier<Uni<T>> attempt,
+        Function<Throwable, Uni<?>> beforeRetry,
+        int retriesUsed
+    ) {
+        return awaitPermit().onItem().transformToUni(probe -> Uni.createFrom().deferred(attempt)
+            .onItem().invoke(() -> onSuccess(retryPolicy, probe))
+            .onCancellation().invoke(() -> releaseProbe(probe))
+            .onFailure().recoverWithUni(failure -> {
+                if (!ReindexErrorClassifier.isRetryable(failure)) {
+                    releaseProbe(probe);
+                    return Uni.createFrom().failure(failure);
+                }
+
+                var charged = onRetryableFailure(retryPolicy, probe);
+                if (charged && retriesUsed >= retryPolicy.maxRetries()) {
+                    return Uni.createFrom().failure(failure);
+                }
+
+                var nextRetries = charged ? retriesUsed + 1 : retriesUsed;
+                var category = ReindexErrorClassifier.category(failure);
+                metrics.retry(cluster, category);
+                var event = new RetryEvent();
+                event.begin();
+                return Uni.createFrom().voidItem()
+                    .onItem().delayIt().by(retryPolicy.backoffForAttempt(Math.max(nextRetries, 1)))
+                    .invoke(() -> commitRetryEvent(event, category, nextRetries))
+                    .call(() -> beforeRetry.apply(failure))
+                    .onItem().transformToUni(ignored -> call(retryPolicy, attempt, beforeRetry, nextRetries));
+            }));
+    }
+
+    private Uni<Boolean> awaitPermit() {
+        return Uni.createFrom().deferred(() -> {
+            var permit = acquirePermit();
+            if (permit.waitFor() == null) {
+                return Uni.createFrom().item(permit.probe());
+            }
+            return Uni.createFrom().voidItem()
+                .onItem().delayIt().by(permit.waitFor())
+                .onItem().transformToUni(ignored -> awaitPermit());
+        });
+    }
+
+    synchronized Permit acquirePermit() {
+        var now = nanoClock.getAsLong();
+        if (now < pausedUntilNanos) {
+            return new Permit(Duration.ofNanos(pausedUntilNanos - now), false);
+        }
+
+        if (state == State.OPEN) {
+            if (now < openUntilNanos) {
+                return new Permit(Duration.ofNanos(openUntilNanos - now), false);
+            }
+            state = State.HALF_OPEN;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return new Permit(HALF_OPEN_POLL_INTERVAL, false);
+            }
+            probeInFlight = true;
+            log.info("Sending probe request through half-open circuit breaker. cluster={}", cluster);
+            return PROBE;
+        }
+
+        return GRANTED;
+    }
+
+    synchronized void onSuccess(RetryPolicy retryPolicy, boolean probe) {
+        consecutiveFailures = 0;
+        retryTokens = Math.min(retryTokens + Math.round(retryPolicy.retryBudgetRatio() * RETRY_TOKEN), MAX_RETRY_TOKENS);
+        if (probe) {
+            probeInFlight = false;
+            state = State.CLOSED;
+            log.info("Circuit breaker closed after successful probe. cluster={}", cluster);
+        }
+    }
+
+    synchronized boolean onRetryableFailure(RetryPolicy retryPolicy, boolean probe) {
+        if (probe) {
+            probeInFlight = false;
+            open(retryPolicy, "probe request failed");
+            return false;
+        }
+        if (state != State.CLOSED) {
+            return false;
+        }
+
+        consecutiveFailures++;
+        if (consecutiveFailures >= retryPolicy.breakerFailureThreshold()) {
+            open(retryPolicy, consecutiveFailures + " consecutive retryable failures");
+        } else if (retryTokens < RETRY_TOKEN) {
+            open(retryPolicy, "retry budget exhausted");
+        } else {
+            retryTokens -= RETRY_TOKEN;
+        }
+        return true;
+    }
+
+    private void commitRetryEvent(RetryEvent event, String category, int retry) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.cluster = cluster;
+            event.category = category;
+            event.retry = retry;
+            event.breakerState = state().name();
+            event.commit();
+        }
+    }
+
+    synchronized void releaseProbe(boolean probe) {
+        if (probe) {
+            probeInFlight = false;
+        }
+    }
+
+    private void open(RetryPolicy retryPolicy, String reason) {
+        state = State.OPEN;
+        openUntilNanos = nanoClock.getAsLong() + retryPolicy.breakerOpenDuration().toNanos();
+        breakerTrips++;
+        log.warn(
+            "Circuit breaker opened; pausing requests. cluster={} reason={} openFor={} trips={}",
+            cluster,
+            reason,
+            retryPolicy.breakerOpenDuration(),
+            breakerTrips
+        );
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    record Permit(Duration waitFor, boolean probe) {
+    }
+}
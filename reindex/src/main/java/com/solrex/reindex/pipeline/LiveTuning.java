@@ -0,0 +1,188 @@
+package com.solrex.reindex.pipeline;
+
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.model.TuningOverride;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+public final class LiveTuning {
+    public static final int MAX_WRITE_CONCURRENCY = 32;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final LongSupplier nanoClock;
+    private final List<Consumer<Boolean>> pauseListeners = new CopyOnWriteArrayList<>();
+    private final LinkedList<SlotWaiter> slotWaiters = new LinkedList<>();
+    private volatile TuningOverride override = TuningOverride.NONE;
+    private volatile CalibratedTuning calibration;
+    private CompletableFuture<Void> resumed = CompletableFuture.completedFuture(null);
+    private int writeSlotsInUse;
+    private long nextReadPermitNanos;
+
+    public LiveTuning() {
+        this(System::nanoTime);
+    }
+
+    LiveTuning(@NonNull LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.nextReadPermitNanos = nanoClock.getAsLong();
+    }
+
+    public static int writeConcurrencyCeiling(@NonNull ReindexTuning tuning) {
+        return tuning.ceiling().writeConcurrency();
+    }
+
+    public static int writeBatchSizeCeiling(@NonNull ReindexTuning tuning) {
+        return tuning.ceiling().writeBatchSize();
+    }
+
+    public TuningOverride override() {
+        return override;
+    }
+
+    public boolean paused() {
+        return override.isPaused();
+    }
+
+    public ReindexTuning effective(@NonNull ReindexTuning tuning) {
+        var calibrated = calibration;
+        return override.applyTo(calibrated == null ? tuning : calibrated.applyTo(tuning));
+    }
+
+    public void calibrate(@NonNull CalibratedTuning next) {
+        calibration = next;
+        grantWriteSlots();
+    }
+
+    public Runnable onPauseChanged(@NonNull Consumer<Boolean> listener) {
+        pauseListeners.add(listener);
+        return () -> pauseListeners.remove(listener);
+    }
+
+    public void apply(@NonNull TuningOverride next) {
+        boolean pauseChanged;
+        CompletableFuture<Void> wake = null;
+        synchronized (this) {
+            var wasPaused = override.isPaused();
+            override = next;
+            pauseChanged = wasPaused != next.isPaused();
+            if (pauseChanged && next.isPaused()) {
+                resumed = new CompletableFuture<>();
+            } else if (pauseChanged) {
+                wake = resumed;
+            }
+            nextReadPermitNanos = Math.min(nextReadPermitNanos, nanoClock.getAsLong());
+        }
+
+        if (wake != null) {
+            wake.complete(null);
+        }
+        grantWriteSlots();
+        if (pauseChanged) {
+            pauseListeners.forEach(listener -> listener.accept(next.isPaused()));
+        }
+    }
+
+    public Uni<Void> awaitReadPermit(@NonNull ReindexTuning tuning, int docs) {
+        return awaitResumed().onItem().transformToUni(ignored -> {
+            var waitNanos = reserveReadPermits(effective(tuning).maxDocsPerSecond(), docs);
+            return waitNanos <= 0
+                ? Uni.createFrom().voidItem()
+                : Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofNanos(waitNanos));
+        });
+    }
+
+    public <T> Uni<T> withWriteSlot(@NonNull ReindexTuning tuning, @NonNull Supplier<Uni<T>> write) {
+        return acquireWriteSlot(tuning)
+            .onItem().transformToUni(ignored -> Uni.createFrom().deferred(write).eventually(this::releaseWriteSlot));
+    }
+
+    synchronized int writeSlotsInUse() {
+        return writeSlotsInUse;
+    }
+
+    private Uni<Void> awaitResumed() {
+        CompletableFuture<Void> current;
+        synchronized (this) {
+            current = resumed;
+        }
+        return current.isDone()
+            ? Uni.createFrom().voidItem()
+            : Uni.createFrom().completionStage(current::copy);
+    }
+
+    synchronized long reserveReadPermits(int maxDocsPerSecond, int docs) {
+        if (maxDocsPerSecond <= 0) {
+            return 0;
+        }
+        var now = nanoClock.getAsLong();
+        var start = Math.max(nextReadPermitNanos, now);
+        nextReadPermitNanos = start + docs * NANOS_PER_SECOND / maxDocsPerSecond;
+        return start - now;
+    }
+
+    private Uni<Void> acquireWriteSlot(ReindexTuning tuning) {
+        return Uni.createFrom().emitter(emitter -> {
+            var waiter = new SlotWaiter(tuning, emitter);
+            emitter.onTermination(() -> abandon(waiter));
+            synchronized (this) {
+                slotWaiters.add(waiter);
+            }
+            grantWriteSlots();
+        });
+    }
+
+    private void releaseWriteSlot() {
+        synchronized (this) {
+            writeSlotsInUse--;
+        }
+        grantWriteSlots();
+    }
+
+    private void abandon(SlotWaiter waiter) {
+        synchronized (this) {
+            if (waiter.granted) {
+                return;
+            }
+            slotWaiters.remove(waiter);
+        }
+    }
+
+    private void grantWriteSlots() {
+        var granted = new ArrayList<SlotWaiter>();
+        synchronized (this) {
+            while (!slotWaiters.isEmpty() && !override.isPaused()) {
+                var waiter = slotWaiters.getFirst();
+                var limit = Math.min(effective(waiter.tuning).writeConcurrency(), writeConcurrencyCeiling(waiter.tuning));
+                if (writeSlotsInUse >= limit) {
+                    break;
+                }
+                slotWaiters.removeFirst();
+                waiter.granted = true;
+                writeSlotsInUse++;
+                granted.add(waiter);
+            }
+        }
+        granted.forEach(waiter -> waiter.emitter.complete(null));
+    }
+
+    private static final class SlotWaiter {
+        private final ReindexTuning tuning;
+        private final UniEmitter<? super Void> emitter;
+        private boolean granted;
+
+        private SlotWaiter(ReindexTuning tuning, UniEmitter<? super Void> emitter) {
+            this.tuning = tuning;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -1,17 +1,20 @@
 package com.solrex.reindex.pipeline;
 
+import com.solrex.reindex.metrics.ReindexMetrics;
+import com.solrex.reindex.model.PhaseTimings;
 import com.solrex.reindex.model.ReindexRequest;
 import com.solrex.reindex.model.ReindexResult;
 import com.solrex.reindex.model.ReindexStats;
-import com.solrex.reindex.model.RetryPolicy;
-import com.solrex.reindex.util.ReindexErrorClassifier;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.solr.common.SolrInputDocument;
@@ -22,6 +25,36 @@ public final class ReindexPipeline {
     private final Function<ReindexRequest, Uni<Multi<SolrInputDocument>>> sourceDocumentReader;
     @NonNull
     private final BiFunction<ReindexRequest, List<SolrInputDocument>, Uni<Void>> targetDocumentWriter;
+    @NonNull
+    private final StallWatchdog watchdog;
+    @NonNull
+    private final ClusterRetryGovernor targetGovernor;
+    @NonNull
+    private final ReindexMetrics metrics;
+    @NonNull
+    private final LiveTuning liveTuning;
+
+    public ReindexPipeline(
+        Function<ReindexRequest, Uni<Multi<SolrInputDocument>>> sourceDocumentReader,
+        BiFunction<ReindexRequest, List<SolrInputDocument>, Uni<Void>> targetDocumentWriter
+    ) {
+        this(sourceDocumentReader, targetDocumentWriter, StallWatchdog.disabled());
+    }
+
+    public ReindexPipeline(
+        Function<ReindexRequest, Uni<Multi<SolrInputDocument>>> sourceDocumentReader,
+        BiFunction<ReindexRequest, List<SolrInputDocument>, Uni<Void>> targetDocumentWriter,
+        StallWatchdog watchdog
+    ) {
+        this(
+            sourceDocumentReader,
+            targetDocumentWriter,
+            watchdog,
+            new ClusterRetryGovernor("target"),
+            ReindexMetrics.noop(),
+            new LiveTuning()
+        );
+    }
 
     public Uni<ReindexResult> execute(@NonNull ReindexRequest request) {
         var startedAt = System.nanoTime();
@@ -29,62 +62,136 @@ public final class ReindexPipeline {
         var docsIndexed = new LongAdder();
         var batchesSent = new LongAdder();
         var retries = new LongAdder();
-        var maxBufferedDocs = Math.max(request.tuning().writeBatchSize(), request.tuning().writeBatchSize() * 32);
+        var failedWrites = new LongAdder();
+        var inFlightBatches = new AtomicLong();
+        var discoveredAt = new AtomicLong();
+        var sourceDrainedAt = new AtomicLong();
+        var maxBatchSize = LiveTuning.writeBatchSizeCeiling(request.tuning());
+        var maxBufferedDocs = Math.toIntExact(request.tuning().ceiling().bufferCapacityDocs());
+        var batcher = new LiveBatcher(
+            () -> Math.min(liveTuning.effective(request.tuning()).writeBatchSize(), maxBatchSize));
+        var autoTuner = new AutoTuner(
+            request.tuning(), liveTuning, docsIndexed::sum, batchesSent::sum, failedWrites::sum);
+
+        metrics.bindPipeline(() -> docsRead.sum() - docsIndexed.sum(), inFlightBatches::get);
 
-        return sourceDocumentReader.apply(request)
+        var run = sourceDocumentReader.apply(request)
+            .onItem().invoke(() -> {
+                discoveredAt.set(System.nanoTime());
+                autoTuner.start();
+            })
             .onItem().transformToUni(documents ->
                 documents
                     .onItem().invoke(doc -> docsRead.increment())
+                    .onCompletion().invoke(() -> sourceDrainedAt.set(System.nanoTime()))
                     .onOverflow().buffer(maxBufferedDocs)
-                    .group().intoLists().of(request.tuning().writeBatchSize())
+                    .onItem().transformToIterable(batcher::add)
+                    .onCompletion().continueWith(batcher::drain)
                     .onItem().transformToUni(batch ->
-                        writeBatchWithRetry(request, batch, retries, 0)
+                        liveTuning.withWriteSlot(request.tuning(), () ->
+                                writeBatchWithRetry(request, batch, retries, failedWrites)
+                                    .onSubscription().invoke(inFlightBatches::incrementAndGet)
+                                    .onTermination().invoke(inFlightBatches::decrementAndGet))
                             .onItem().invoke(() -> {
+                                watchdog.progress(StallWatchdog.WRITER_STREAM);
                                 batchesSent.increment();
                                 docsIndexed.add(batch.size());
+                                metrics.docsWritten(request.target().collection(), batch.size());
                             })
                     )
-                    .merge(request.tuning().writeConcurrency())
+                    .merge(LiveTuning.writeConcurrencyCeiling(request.tuning()))
                     .collect().asList()
-                    .replaceWith(() -> toResult(startedAt, docsRead, docsIndexed, batchesSent, retries))
+                    .replaceWith(() -> toResult(
+                        startedAt,
+                        discoveredAt.get(),
+                        sourceDrainedAt.get(),
+                        docsRead,
+                        docsIndexed,
+                        batchesSent,
+                        retries
+                    ))
             );
+
+        return Uni.createFrom().deferred(() -> {
+                watchdog.start();
+                return Uni.combine().any().of(run, watchdog.<ReindexResult>stalls());
+            })
+            .eventually(() -> {
+                autoTuner.close();
+                watchdog.close();
+            });
     }
 
     private Uni<Void> writeBatchWithRetry(
         ReindexRequest request,
         List<SolrInputDocument> batch,
         LongAdder retries,
-        int retriesScheduled
+        LongAdder failedWrites
     ) {
-        return targetDocumentWriter.apply(request, batch)
-            .onFailure(failure -> shouldRetry(request.tuning().retryPolicy(), failure, retriesScheduled))
-            .recoverWithUni(failure -> {
-                var retryAttempt = retriesScheduled + 1;
+        return targetGovernor.call(
+            request.tuning().retryPolicy(),
+            () -> {
+                var startedAt = System.nanoTime();
+                return targetDocumentWriter.apply(request, batch)
+                    .onItem().invoke(() -> metrics.batchWritten("success", System.nanoTime() - startedAt))
+                    .onFailure().invoke(() -> {
+                        failedWrites.increment();
+                        metrics.batchWritten("failure", System.nanoTime() - startedAt);
+                    });
+            },
+            failure -> {
                 retries.increment();
-                return Uni.createFrom().voidItem()
-                    .onItem().delayIt().by(request.tuning().retryPolicy().backoffForAttempt(retryAttempt))
-                    .flatMap(ignored -> writeBatchWithRetry(request, batch, retries, retryAttempt));
-            });
-    }
-
-    private boolean shouldRetry(RetryPolicy retryPolicy, Throwable failure, int retriesScheduled) {
-        return ReindexErrorClassifier.isRetryable(failure)
-            && retriesScheduled < retryPolicy.maxRetries();
+                return Uni.createFrom().voidItem();
+            }
+        );
     }
 
     private ReindexResult toResult(
         long startedAt,
+        long discoveredAt,
+        long sourceDrainedAt,
         LongAdder docsRead,
         LongAdder docsIndexed,
         LongAdder batchesSent,
         LongAdder retries
     ) {
-        return new ReindexResult(new ReindexStats(
+        var finishedAt = System.nanoTime();
+        var stats = new ReindexStats(
             docsRead.sum(),
             docsIndexed.sum(),
             batchesSent.sum(),
             retries.sum(),
-            Duration.ofNanos(System.nanoTime() - startedAt)
-        ));
+            Duration.ofNanos(finishedAt - startedAt)
+        );
+        var phases = new PhaseTimings(
+            Duration.ofNanos(discoveredAt - startedAt),
+            Duration.ofNanos(sourceDrainedAt - discoveredAt),
+            Duration.ofNanos(finishedAt - sourceDrainedAt)
+        );
+        return metrics.run().toResult(stats, phases);
+    }
+
+    private static final class LiveBatcher {
+        private final IntSupplier batchSize;
+        private List<SolrInputDocument> batch = new ArrayList<>();
+
+        private LiveBatcher(IntSupplier batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        private List<List<SolrInputDocument>> add(SolrInputDocument doc) {
+            batch.add(doc);
+            return batch.size() < batchSize.getAsInt() ? List.of() : List.of(take());
+        }
+
+        private List<List<SolrInputDocument>> drain() {
+            return batch.isEmpty() ? List.of() : List.of(take());
+        }
+
+        private List<SolrInputDocument> take() {
+            var full = batch;
+            batch = new ArrayList<>();
+            return full;
+        }
     }
 }
@@ -0,0 +1,188 @@
+package com.solrex.reindex.pipeline;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class StallWatchdog implements AutoCloseable {
+    public static final String WRITER_STREAM = "writer";
+    private static final Duration MIN_CHECK_INTERVAL = Duration.ofMillis(100);
+    private static final Runnable NO_RESTART = () -> {
+    };
+
+    private final Settings settings;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier nanoClock;
+    private final Map<String, StreamProgress> streams = new ConcurrentHashMap<>();
+    private final AtomicLong lastProgressNanos;
+    private final CompletableFuture<Void> stalled = new CompletableFuture<>();
+    private volatile boolean suspended;
+    private ScheduledFuture<?> checkTask;
+
+    public StallWatchdog(@NonNull Settings settings) {
+        this(settings, Infrastructure.getDefaultWorkerPool(), System::nanoTime);
+    }
+
+    StallWatchdog(@NonNull Settings settings, @NonNull ScheduledExecutorService scheduler, @NonNull LongSupplier nanoClock) {
+        this.settings = settings;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+        this.lastProgressNanos = new AtomicLong(nanoClock.getAsLong());
+        streams.put(WRITER_STREAM, new StreamProgress(NO_RESTART, lastProgressNanos.get()));
+    }
+
+    public static StallWatchdog disabled() {
+        return new StallWatchdog(Settings.disabled());
+    }
+
+    public synchronized void start() {
+        if (checkTask != null || !settings.enabled()) {
+            return;
+        }
+
+        var now = nanoClock.getAsLong();
+        lastProgressNanos.set(now);
+        streams.values().forEach(stream -> stream.lastProgressNanos = now);
+
+        var intervalMillis = settings.checkInterval().toMillis();
+        checkTask = scheduler.scheduleAtFixedRate(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void register(@NonNull String stream, @NonNull Runnable onStall) {
+        streams.put(stream, new StreamProgress(onStall, nanoClock.getAsLong()));
+    }
+
+    public void progress(@NonNull String stream) {
+        var now = nanoClock.getAsLong();
+        lastProgressNanos.set(now);
+
+        var progress = streams.get(stream);
+        if (progress != null) {
+            progress.lastProgressNanos = now;
+        }
+    }
+
+    public void suspend() {
+        suspended = true;
+    }
+
+    public void resume() {
+        var now = nanoClock.getAsLong();
+        lastProgressNanos.set(now);
+        streams.values().forEach(stream -> stream.lastProgressNanos = now);
+        suspended = false;
+    }
+
+    public void complete(@NonNull String stream) {
+        streams.remove(stream);
+    }
+
+    public <T> Uni<T> stalls() {
+        return Uni.createFrom().emitter(emitter -> stalled.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                emitter.fail(failure);
+            }
+        }));
+    }
+
+    @Override
+    public synchronized void close() {
+        if (checkTask != null) {
+            checkTask.cancel(false);
+            checkTask = null;
+        }
+    }
+
+    boolean isStalled() {
+        return stalled.isCompletedExceptionally();
+    }
+
+    void check() {
+        if (stalled.isDone() || suspended) {
+            return;
+        }
+
+        var now = nanoClock.getAsLong();
+        if (settings.idleCheckEnabled() && now - lastProgressNanos.get() > settings.idleTimeout().toNanos()) {
+            log.error("Reindex made no progress on any shard stream or the writer for {}", settings.idleTimeout());
+            stalled.completeExceptionally(new IllegalStateException(
+                "Reindex made no progress for " + settings.idleTimeout() + "; failing job"));
+            close();
+            return;
+        }
+
+        if (!settings.stallCheckEnabled()) {
+            return;
+        }
+
+        for (var entry : streams.entrySet()) {
+            var progress = entry.getValue();
+            if (progress.onStall == NO_RESTART
+                || now - progress.lastProgressNanos <= settings.shardStallTimeout().toNanos()) {
+                continue;
+            }
+
+            progress.lastProgressNanos = now;
+            progress.restarts++;
+            log.warn(
+                "Shard stream stalled; restarting from its last cursor. stream={} stalledFor={} restarts={}",
+                entry.getKey(),
+                settings.shardStallTimeout(),
+                progress.restarts
+            );
+            try {
+                progress.onStall.run();
+            } catch (RuntimeException e) {
+                log.warn("Failed to restart stalled shard stream. stream={}", entry.getKey(), e);
+            }
+        }
+    }
+
+    public record Settings(@NonNull Duration idleTimeout, @NonNull Duration shardStallTimeout) {
+        public static Settings disabled() {
+            return new Settings(Duration.ZERO, Duration.ZERO);
+        }
+
+        boolean idleCheckEnabled() {
+            return idleTimeout.compareTo(Duration.ZERO) > 0;
+        }
+
+        boolean stallCheckEnabled() {
+            return shardStallTimeout.compareTo(Duration.ZERO) > 0;
+        }
+
+        boolean enabled() {
+            return idleCheckEnabled() || stallCheckEnabled();
+        }
+
+        Duration checkInterval() {
+            var shortest = !idleCheckEnabled() ? shardStallTimeout
+                : !stallCheckEnabled() ? idleTimeout
+                : idleTimeout.compareTo(shardStallTimeout) < 0 ? idleTimeout : shardStallTimeout;
+            var interval = shortest.dividedBy(4);
+            return interval.compareTo(MIN_CHECK_INTERVAL) < 0 ? MIN_CHECK_INTERVAL : interval;
+        }
+    }
+
+    private static final class StreamProgress {
+        private final Runnable onStall;
+        private volatile long lastProgressNanos;
+        private int restarts;
+
+        private StreamProgress(Runnable onStall, long lastProgressNanos) {
+            this.onStall = onStall;
+            this.lastProgressNanos = lastProgressNanos;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.solrex.reindex.solr;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.LongConsumer;
+import lombok.NonNull;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.impl.BinaryRequestWriter;
+
+final class CountingRequestWriter extends BinaryRequestWriter {
+    private final LongConsumer bytesSent;
+
+    CountingRequestWriter(@NonNull LongConsumer bytesSent) {
+        this.bytesSent = bytesSent;
+    }
+
+    @Override
+    public ContentWriter getContentWriter(SolrRequest<?> request) {
+        var delegate = super.getContentWriter(request);
+        if (delegate == null) {
+            return null;
+        }
+
+        return new ContentWriter() {
+            @Override
+            public void write(OutputStream os) throws IOException {
+                var counting = new CountingOutputStream(os);
+                try {
+                    delegate.write(counting);
+                } finally {
+                    bytesSent.accept(counting.count);
+                    if (request instanceof MeasuredUpdateRequest measured) {
+                        measured.recordBytesSent(counting.count);
+                    }
+                }
+            }
+
+            @Override
+            public String getContentType() {
+                return delegate.getContentType();
+            }
+        };
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            out.write(value);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            count += length;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.solrex.reindex.solr;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+import lombok.NonNull;
+import org.apache.solr.client.solrj.impl.BinaryResponseParser;
+import org.apache.solr.common.util.NamedList;
+
+final class CountingResponseParser extends BinaryResponseParser {
+    private final LongConsumer bytesReceived;
+    private volatile long lastBytes;
+    private volatile long lastDecodeNanos;
+
+    CountingResponseParser(@NonNull LongConsumer bytesReceived) {
+        this.bytesReceived = bytesReceived;
+    }
+
+    @Override
+    public NamedList<Object> processResponse(InputStream body, String encoding) {
+        var counting = new CountingInputStream(body);
+        var startedAt = System.nanoTime();
+        try {
+            return super.processResponse(counting, encoding);
+        } finally {
+            lastDecodeNanos = System.nanoTime() - startedAt;
+            lastBytes = counting.count;
+            bytesReceived.accept(counting.count);
+        }
+    }
+
+    long lastBytes() {
+        return lastBytes;
+    }
+
+    long lastDecodeNanos() {
+        return lastDecodeNanos;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.solrex.reindex.solr;
+
+import java.util.List;
+import org.apache.solr.common.SolrInputDocument;
+
+record CursorPage(List<SolrInputDocument> documents, String nextCursorMark, boolean done) {
+}
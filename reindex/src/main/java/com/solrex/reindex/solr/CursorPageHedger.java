@@ -0,0 +1,56 @@
+package com.solrex.reindex.solr;
+
+import com.solrex.reindex.model.HedgePolicy;
+import java.time.Duration;
+import java.util.Arrays;
+import lombok.NonNull;
+
+final class CursorPageHedger {
+    private static final int LATENCY_WINDOW = 256;
+    private static final int MIN_SAMPLES = 20;
+    private static final long HEDGE_COST = 1_000;
+    private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+    private final HedgePolicy policy;
+    private final long[] latencyNanos = new long[LATENCY_WINDOW];
+    private int samples;
+    private int nextSample;
+    private long budget;
+    private long hedges;
+
+    CursorPageHedger(@NonNull HedgePolicy policy) {
+        this.policy = policy;
+    }
+
+    synchronized void recordLatency(long elapsedNanos) {
+        latencyNanos[nextSample] = elapsedNanos;
+        nextSample = (nextSample + 1) % LATENCY_WINDOW;
+        samples = Math.min(samples + 1, LATENCY_WINDOW);
+    }
+
+    synchronized Duration nextPageHedgeDelay() {
+        budget = Math.min(budget + Math.round(policy.maxHedgeRatio() * HEDGE_COST), MAX_BUDGET);
+        if (!policy.enabled() || samples < MIN_SAMPLES) {
+            return null;
+        }
+
+        var sorted = Arrays.copyOf(latencyNanos, samples);
+        Arrays.sort(sorted);
+        var index = Math.min((int) Math.ceil(policy.delayPercentile() * samples) - 1, samples - 1);
+        var delay = Duration.ofNanos(sorted[Math.max(index, 0)]);
+        return delay.compareTo(policy.minDelay()) < 0 ? policy.minDelay() : delay;
+    }
+
+    synchronized boolean tryAcquireHedge() {
+        if (budget < HEDGE_COST) {
+            return false;
+        }
+        budget -= HEDGE_COST;
+        hedges++;
+        return true;
+    }
+
+    synchronized long hedges() {
+        return hedges;
+    }
+}
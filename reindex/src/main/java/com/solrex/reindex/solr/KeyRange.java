@@ -0,0 +1,38 @@
+package com.solrex.reindex.solr;
+
+import org.apache.solr.client.solrj.util.ClientUtils;
+
+record KeyRange(String lowerExclusive, String upperInclusive) {
+    static final KeyRange ALL = new KeyRange(null, null);
+
+    boolean isBounded() {
+        return lowerExclusive != null || upperInclusive != null;
+    }
+
+    boolean isAbove(String key) {
+        return upperInclusive != null && compareKeys(key, upperInclusive) > 0;
+    }
+
+    String toFilterQuery(String field) {
+        return field + ":{" + bound(lowerExclusive) + " TO " + bound(upperInclusive) + "]";
+    }
+
+    static int compareKeys(String left, String right) {
+        int leftIndex = 0;
+        int rightIndex = 0;
+        while (leftIndex < left.length() && rightIndex < right.length()) {
+            int leftCodePoint = left.codePointAt(leftIndex);
+            int rightCodePoint = right.codePointAt(rightIndex);
+            if (leftCodePoint != rightCodePoint) {
+                return Integer.compare(leftCodePoint, rightCodePoint);
+            }
+            leftIndex += Character.charCount(leftCodePoint);
+            rightIndex += Character.charCount(rightCodePoint);
+        }
+        return Integer.compare(left.length() - leftIndex, right.length() - rightIndex);
+    }
+
+    private static String bound(String key) {
+        return key == null ? "*" : ClientUtils.escapeQueryChars(key);
+    }
+}
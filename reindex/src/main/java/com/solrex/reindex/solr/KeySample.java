@@ -0,0 +1,46 @@
+package com.solrex.reindex.solr;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.NonNull;
+
+final class KeySample {
+    static final int TARGET_KEYS = 1_000;
+    static final int MAX_ROWS = 4 * TARGET_KEYS;
+    private static final long HASH_SPACE = 1L << 32;
+
+    private KeySample() {
+    }
+
+    static Optional<String> sliceFilter(@NonNull String field, long docs) {
+        if (docs <= TARGET_KEYS) {
+            return Optional.empty();
+        }
+        var width = Math.max(1, HASH_SPACE * TARGET_KEYS / docs);
+        var lower = (long) Integer.MIN_VALUE;
+        return Optional.of("{!hash_range f=" + field + " l=" + lower + " u=" + (lower + width - 1) + "}");
+    }
+
+    static Optional<List<String>> stringKeys(@NonNull List<?> values) {
+        var keys = new ArrayList<String>(values.size());
+        for (var value : values) {
+            if (!(value instanceof String key)) {
+                return Optional.empty();
+            }
+            keys.add(key);
+        }
+        return Optional.of(List.copyOf(keys));
+    }
+
+    static List<String> quantiles(@NonNull List<String> sortedKeys, int pieces) {
+        var bounds = new ArrayList<String>();
+        for (int piece = 1; piece < pieces && !sortedKeys.isEmpty(); piece++) {
+            var key = sortedKeys.get((int) ((long) sortedKeys.size() * piece / pieces));
+            if (bounds.isEmpty() || !bounds.getLast().equals(key)) {
+                bounds.add(key);
+            }
+        }
+        return List.copyOf(bounds);
+    }
+}
@@ -0,0 +1,19 @@
+package com.solrex.reindex.solr;
+
+import org.apache.solr.client.solrj.request.UpdateRequest;
+
+final class MeasuredUpdateRequest extends UpdateRequest {
+    private volatile long bytesSent;
+
+    MeasuredUpdateRequest(String path) {
+        super(path);
+    }
+
+    long bytesSent() {
+        return bytesSent;
+    }
+
+    void recordBytesSent(long bytes) {
+        bytesSent = bytes;
+    }
+}
@@ -0,0 +1,89 @@
+package com.solrex.reindex.solr;
+
+import com.solrex.reindex.model.ReplicaSelection;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ReplicaType;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplica;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplicas;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import lombok.NonNull;
+
+final class ReplicaSelector {
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final long FAILURE_PENALTY_NANOS = Duration.ofSeconds(5).toNanos();
+
+    private final ReplicaSelection policy;
+    private final Map<String, Double> latencyNanosByCore = new ConcurrentHashMap<>();
+
+    ReplicaSelector(@NonNull ReplicaSelection policy) {
+        this.policy = policy;
+    }
+
+    ReplicaSelection policy() {
+        return policy;
+    }
+
+    void validate(ShardReplicas shard) {
+        if (policy == ReplicaSelection.LEADER_ONLY) {
+            shard.leader();
+        }
+    }
+
+    ShardReplica select(@NonNull ShardReplicas shard, @NonNull String streamKey) {
+        var replicas = shard.activeReplicas();
+        return switch (policy) {
+            case LEADER_ONLY -> shard.leader();
+            case ANY_ACTIVE -> spread(replicas, streamKey);
+            case PREFER_PULL_TLOG -> spread(preferredPassiveReplicas(replicas), streamKey);
+            case LEAST_LOADED -> leastLoaded(replicas, streamKey);
+        };
+    }
+
+    ShardReplica selectAlternate(@NonNull ShardReplicas shard, @NonNull ShardReplica exclude, @NonNull String streamKey) {
+        var candidates = shard.activeReplicas().stream()
+                .filter(replica -> !replica.coreName().equals(exclude.coreName()))
+                .toList();
+        return candidates.isEmpty() ? null : leastLoaded(candidates, streamKey);
+    }
+
+    void recordLatency(@NonNull ShardReplica replica, long elapsedNanos) {
+        latencyNanosByCore.merge(
+                replica.coreName(),
+                (double) elapsedNanos,
+                (previous, sample) -> previous + LATENCY_SMOOTHING * (sample - previous));
+    }
+
+    void recordFailure(@NonNull ShardReplica replica) {
+        recordLatency(replica, FAILURE_PENALTY_NANOS);
+    }
+
+    private List<ShardReplica> preferredPassiveReplicas(List<ShardReplica> replicas) {
+        for (Predicate<ShardReplica> tier : List.<Predicate<ShardReplica>>of(
+                replica -> replica.type() == ReplicaType.PULL,
+                replica -> replica.type() == ReplicaType.TLOG && !replica.leader(),
+                replica -> !replica.leader())) {
+            var candidates = replicas.stream().filter(tier).toList();
+            if (!candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+        return replicas;
+    }
+
+    private ShardReplica leastLoaded(List<ShardReplica> replicas, String streamKey) {
+        var preferred = spread(replicas, streamKey);
+        return replicas.stream()
+                .min(Comparator
+                        .comparingDouble((ShardReplica replica) -> latencyNanosByCore.getOrDefault(replica.coreName(), 0.0))
+                        .thenComparing(replica -> !replica.equals(preferred)))
+                .orElseThrow();
+    }
+
+    private static ShardReplica spread(List<ShardReplica> replicas, String streamKey) {
+        return replicas.get(Math.floorMod(streamKey.hashCode(), replicas.size()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.solrex.reindex.solr;
+
+import com.solrex.reindex.pipeline.ClusterRetryGovernor;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.solr.client.solrj.impl.HttpListenerFactory;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.http.HttpHeader;
+
+@RequiredArgsConstructor
+final class RetryAfterListenerFactory implements HttpListenerFactory {
+    private static final Duration MAX_RETRY_AFTER = Duration.ofMinutes(5);
+
+    @NonNull
+    private final ClusterRetryGovernor governor;
+
+    @Override
+    public RequestResponseListener get() {
+        return new RequestResponseListener() {
+            @Override
+            public void onComplete(Result result) {
+                var response = result.getResponse();
+                if (response == null || response.getStatus() != 429 && response.getStatus() != 503) {
+                    return;
+                }
+
+                var retryAfter = parseRetryAfter(response.getHeaders().get(HttpHeader.RETRY_AFTER), Clock.systemUTC());
+                if (retryAfter != null) {
+                    governor.pauseFor(retryAfter);
+                }
+            }
+        };
+    }
+
+    static Duration parseRetryAfter(String value, Clock clock) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        Duration retryAfter;
+        try {
+            retryAfter = Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                var retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                retryAfter = Duration.between(clock.instant(), retryAt.toInstant());
+            } catch (DateTimeParseException notDate) {
+                return null;
+            }
+        }
+
+        if (retryAfter.isNegative() || retryAfter.isZero()) {
+            return null;
+        }
+        return retryAfter.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : retryAfter;
+    }
+}
@@ -0,0 +1,176 @@
+package com.solrex.reindex.solr;
+
+import com.solrex.reindex.pipeline.StallWatchdog;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
+
+@Slf4j
+final class ShardCursorStream {
+    private final String logicalShard;
+    private final String streamName;
+    private final String sortField;
+    private final BiFunction<String, KeyRange, Uni<CursorPage>> pageFetcher;
+    private final StallWatchdog watchdog;
+
+    private MultiEmitter<? super SolrInputDocument> emitter;
+    private String cursorMark = CursorMarkParams.CURSOR_MARK_START;
+    private KeyRange range;
+    private int generation;
+    private Cancellable inFlight;
+
+    private volatile String lastKey;
+    private volatile long emittedDocs;
+    private volatile long estimatedDocs;
+    private volatile long startedAtNanos;
+
+    ShardCursorStream(
+            @NonNull String logicalShard,
+            @NonNull String streamName,
+            @NonNull String sortField,
+            @NonNull KeyRange range,
+            long estimatedDocs,
+            @NonNull BiFunction<String, KeyRange, Uni<CursorPage>> pageFetcher,
+            @NonNull StallWatchdog watchdog) {
+        this.logicalShard = logicalShard;
+        this.streamName = streamName;
+        this.sortField = sortField;
+        this.range = range;
+        this.estimatedDocs = estimatedDocs;
+        this.pageFetcher = pageFetcher;
+        this.watchdog = watchdog;
+    }
+
+    Multi<SolrInputDocument> stream() {
+        return Multi.createFrom().emitter(this::start);
+    }
+
+    String logicalShard() {
+        return logicalShard;
+    }
+
+    String streamName() {
+        return streamName;
+    }
+
+    synchronized void restart() {
+        if (emitter == null || emitter.isCancelled()) {
+            return;
+        }
+
+        generation++;
+        cancelInFlight();
+        log.info("Re-issuing cursor page for shard stream. shard={} cursorMark={}", streamName, cursorMark);
+        fetchPage(generation);
+    }
+
+    synchronized String cursorMark() {
+        return cursorMark;
+    }
+
+    synchronized KeyRange remainingRange() {
+        return new KeyRange(lastKey == null ? range.lowerExclusive() : lastKey, range.upperInclusive());
+    }
+
+    synchronized KeyRange splitAt(@NonNull String key, long upperDocs) {
+        if (emitter == null || emitter.isCancelled()
+                || lastKey != null && KeyRange.compareKeys(lastKey, key) >= 0
+                || range.upperInclusive() != null && KeyRange.compareKeys(key, range.upperInclusive()) >= 0) {
+            return null;
+        }
+
+        var upperHalf = new KeyRange(key, range.upperInclusive());
+        range = new KeyRange(range.lowerExclusive(), key);
+        estimatedDocs = Math.max(estimatedDocs - upperDocs, emittedDocs);
+        return upperHalf;
+    }
+
+    long remainingDocs() {
+        return Math.max(estimatedDocs - emittedDocs, 0);
+    }
+
+    double secondsRemaining(long nowNanos) {
+        var emitted = emittedDocs;
+        var startedAt = startedAtNanos;
+        if (emitted == 0 || startedAt == 0) {
+            return Double.MAX_VALUE;
+        }
+        var docsPerSecond = emitted / Math.max((nowNanos - startedAt) / 1_000_000_000.0, 0.001);
+        return remainingDocs() / docsPerSecond;
+    }
+
+    private synchronized void start(MultiEmitter<? super SolrInputDocument> emitter) {
+        this.emitter = emitter;
+        startedAtNanos = System.nanoTime();
+        emitter.onTermination(this::stop);
+        watchdog.register(streamName, this::restart);
+        fetchPage(generation);
+    }
+
+    private synchronized void stop() {
+        generation++;
+        cancelInFlight();
+        watchdog.complete(streamName);
+    }
+
+    private void fetchPage(int pageGeneration) {
+        if (emitter.isCancelled()) {
+            return;
+        }
+
+        inFlight = pageFetcher.apply(cursorMark, range)
+                .subscribe().with(
+                        page -> onPage(pageGeneration, page),
+                        failure -> onFailure(pageGeneration, failure));
+    }
+
+    private synchronized void onPage(int pageGeneration, CursorPage page) {
+        if (pageGeneration != generation || emitter.isCancelled()) {
+            return;
+        }
+
+        watchdog.progress(streamName);
+        for (var doc : page.documents()) {
+            if (emitter.isCancelled()) {
+                return;
+            }
+            var key = Objects.toString(doc.getFieldValue(sortField), null);
+            if (key != null && range.isAbove(key)) {
+                emitter.complete();
+                return;
+            }
+            emitter.emit(doc);
+            lastKey = key;
+            emittedDocs++;
+        }
+
+        if (page.done() || emitter.isCancelled()) {
+            emitter.complete();
+            return;
+        }
+
+        cursorMark = page.nextCursorMark();
+        fetchPage(pageGeneration);
+    }
+
+    private synchronized void onFailure(int pageGeneration, Throwable failure) {
+        if (pageGeneration != generation) {
+            return;
+        }
+        emitter.fail(failure);
+    }
+
+    private void cancelInFlight() {
+        if (inFlight != null) {
+            inFlight.cancel();
+            inFlight = null;
+        }
+    }
+}
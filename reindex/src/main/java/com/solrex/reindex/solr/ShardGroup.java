@@ -0,0 +1,40 @@
+package com.solrex.reindex.solr;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+public record ShardGroup(int index, int count) {
+    public static final ShardGroup ALL = new ShardGroup(0, 1);
+
+    public ShardGroup {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalStateException("Invalid shard group " + index + " of " + count);
+        }
+    }
+
+    public static ShardGroup forCompletionIndex(int parallelism, Optional<Integer> completionIndex) {
+        if (parallelism <= 1) {
+            return ALL;
+        }
+        var index = completionIndex.orElseThrow(() -> new IllegalStateException(
+                "Request parallelism " + parallelism + " requires a Job completion index (JOB_COMPLETION_INDEX)"));
+        return new ShardGroup(index, parallelism);
+    }
+
+    public boolean isAll() {
+        return count == 1;
+    }
+
+    <T> List<T> assigned(List<T> sortedShards) {
+        return IntStream.range(0, sortedShards.size())
+                .filter(position -> position % count == index)
+                .mapToObj(sortedShards::get)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
@@ -0,0 +1,20 @@
+package com.solrex.reindex.solr;
+
+import java.util.Comparator;
+import java.util.List;
+
+public record ShardReadPlan(String collection, List<PlannedShard> shards, List<String> skippedShards) {
+    public long estimatedDocs() {
+        return shards.stream().mapToLong(PlannedShard::estimatedDocs).sum();
+    }
+
+    public List<PlannedShard> largestFirst() {
+        return shards.stream()
+                .sorted(Comparator.comparingLong(PlannedShard::estimatedDocs).reversed()
+                        .thenComparing(PlannedShard::logicalShard))
+                .toList();
+    }
+
+    public record PlannedShard(String logicalShard, String range, long estimatedDocs) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.solrex.reindex.solr;
+
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplicas;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+final class ShardReadPlanner {
+    private ShardReadPlanner() {
+    }
+
+    static List<ShardReplicas> readableShards(String collection, List<ShardReplicas> shards) {
+        var splitting = shards.stream()
+                .filter(ShardReplicas::isSplitInProgress)
+                .map(shard -> shard.logicalShard() + "(" + shard.state() + ")")
+                .toList();
+        if (!splitting.isEmpty()) {
+            throw new IllegalStateException(
+                    "Refusing to start: shard split in progress for collection '" + collection + "'. shards="
+                            + splitting);
+        }
+
+        var active = shards.stream()
+                .filter(ShardReplicas::isActive)
+                .sorted(Comparator.comparing(ShardReplicas::logicalShard))
+                .toList();
+        if (active.isEmpty()) {
+            throw new IllegalStateException("No active shards were discovered for collection '" + collection + "'");
+        }
+
+        requireDisjointRanges(collection, active);
+        return active;
+    }
+
+    static List<String> skippedShards(List<ShardReplicas> shards) {
+        return shards.stream()
+                .filter(shard -> !shard.isActive())
+                .map(shard -> shard.logicalShard() + "(" + shard.state() + ")")
+                .sorted()
+                .toList();
+    }
+
+    private static void requireDisjointRanges(String collection, List<ShardReplicas> activeShards) {
+        var ranges = new ArrayList<HashRange>();
+        for (var shard : activeShards) {
+            if (shard.range() != null) {
+                ranges.add(HashRange.parse(shard.logicalShard(), shard.range()));
+            }
+        }
+
+        ranges.sort(Comparator.comparingInt(HashRange::min));
+        for (int i = 1; i < ranges.size(); i++) {
+            var previous = ranges.get(i - 1);
+            var current = ranges.get(i);
+            if (current.min() <= previous.max()) {
+                throw new IllegalStateException(
+                        "Active shards '" + previous.shard() + "' and '" + current.shard()
+                                + "' have overlapping hash ranges in collection '" + collection + "'");
+            }
+        }
+    }
+
+    private record HashRange(String shard, int min, int max) {
+        private static HashRange parse(String shard, String range) {
+            var separator = range.indexOf('-');
+            if (separator <= 0 || separator == range.length() - 1) {
+                throw new IllegalStateException("Shard '" + shard + "' has an invalid hash range: " + range);
+            }
+            try {
+                return new HashRange(
+                        shard,
+                        Integer.parseUnsignedInt(range.substring(0, separator), 16),
+                        Integer.parseUnsignedInt(range.substring(separator + 1), 16));
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Shard '" + shard + "' has an invalid hash range: " + range, e);
+            }
+        }
+    }
+}
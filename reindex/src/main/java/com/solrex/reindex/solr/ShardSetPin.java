@@ -0,0 +1,11 @@
+package com.solrex.reindex.solr;
+
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+
+@FunctionalInterface
+public interface ShardSetPin {
+    ShardSetPin NONE = shards -> Uni.createFrom().item(shards);
+
+    Uni<List<String>> pin(List<String> shards);
+}
@@ -0,0 +1,164 @@
+package com.solrex.reindex.solr;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.solr.common.SolrInputDocument;
+
+@Slf4j
+final class ShardStreamScheduler {
+    private final List<ShardCursorStream> initialStreams;
+    private final int concurrency;
+    private final long minSplitDocs;
+    private final Function<ShardCursorStream, Uni<SplitPoint>> splitSampler;
+    private final SplitStreamFactory splitStreamFactory;
+
+    private final Set<ShardCursorStream> running = new LinkedHashSet<>();
+    private final Set<ShardCursorStream> unsplittable = new HashSet<>();
+    private MultiEmitter<? super ShardCursorStream> emitter;
+    private int queued;
+    private int splits;
+    private boolean splitInFlight;
+    private boolean closed;
+
+    ShardStreamScheduler(
+            @NonNull List<ShardCursorStream> initialStreams,
+            int concurrency,
+            long minSplitDocs,
+            @NonNull Function<ShardCursorStream, Uni<SplitPoint>> splitSampler,
+            @NonNull SplitStreamFactory splitStreamFactory) {
+        this.initialStreams = List.copyOf(initialStreams);
+        this.concurrency = concurrency;
+        this.minSplitDocs = minSplitDocs;
+        this.splitSampler = splitSampler;
+        this.splitStreamFactory = splitStreamFactory;
+    }
+
+    Multi<SolrInputDocument> stream() {
+        return Multi.createFrom().<ShardCursorStream>emitter(this::start)
+                .onItem().transformToMulti(this::track)
+                .merge(concurrency);
+    }
+
+    synchronized int splits() {
+        return splits;
+    }
+
+    private void start(MultiEmitter<? super ShardCursorStream> emitter) {
+        synchronized (this) {
+            this.emitter = emitter;
+            queued = initialStreams.size();
+        }
+        emitter.onTermination(this::stop);
+        initialStreams.forEach(emitter::emit);
+        completeIfDrained();
+    }
+
+    private synchronized void stop() {
+        closed = true;
+    }
+
+    private Multi<SolrInputDocument> track(ShardCursorStream stream) {
+        return stream.stream()
+                .onSubscription().invoke(() -> onStarted(stream))
+                .onTermination().invoke((failure, cancelled) -> onFinished(stream, failure == null && !cancelled));
+    }
+
+    private synchronized void onStarted(ShardCursorStream stream) {
+        queued--;
+        running.add(stream);
+    }
+
+    private void onFinished(ShardCursorStream stream, boolean completed) {
+        synchronized (this) {
+            running.remove(stream);
+            unsplittable.remove(stream);
+        }
+        if (completed) {
+            maybeSplit();
+            completeIfDrained();
+        }
+    }
+
+    private void maybeSplit() {
+        ShardCursorStream donor;
+        synchronized (this) {
+            if (closed || splitInFlight || queued > 0 || running.size() >= concurrency) {
+                return;
+            }
+
+            var now = System.nanoTime();
+            donor = running.stream()
+                    .filter(stream -> !unsplittable.contains(stream))
+                    .filter(stream -> stream.remainingDocs() >= minSplitDocs)
+                    .max(Comparator.comparingDouble(stream -> stream.secondsRemaining(now)))
+                    .orElse(null);
+            if (donor == null) {
+                return;
+            }
+            splitInFlight = true;
+        }
+
+        splitSampler.apply(donor)
+                .subscribe().with(
+                        splitPoint -> onSplitPoint(donor, splitPoint),
+                        failure -> {
+                            log.warn("Failed to sample split point for shard stream. stream={}", donor.streamName(), failure);
+                            onSplitPoint(donor, null);
+                        });
+    }
+
+    private void onSplitPoint(ShardCursorStream donor, SplitPoint splitPoint) {
+        var upperHalf = splitPoint == null ? null : donor.splitAt(splitPoint.key(), splitPoint.upperDocs());
+        ShardCursorStream stolen = null;
+        synchronized (this) {
+            splitInFlight = false;
+            if (upperHalf == null) {
+                unsplittable.add(donor);
+            } else if (!closed) {
+                splits++;
+                queued++;
+                stolen = splitStreamFactory.create(donor, donor.streamName() + "#" + splits, upperHalf,
+                        splitPoint.upperDocs());
+            }
+        }
+
+        if (stolen != null) {
+            log.info(
+                    "Split straggler shard stream onto an idle slot. stream={} splitAt={} newStream={} movedDocs={}",
+                    donor.streamName(),
+                    splitPoint.key(),
+                    stolen.streamName(),
+                    splitPoint.upperDocs());
+            emitter.emit(stolen);
+        }
+        maybeSplit();
+        completeIfDrained();
+    }
+
+    private void completeIfDrained() {
+        synchronized (this) {
+            if (closed || queued > 0 || !running.isEmpty() || splitInFlight) {
+                return;
+            }
+            closed = true;
+        }
+        emitter.complete();
+    }
+
+    record SplitPoint(String key, long upperDocs) {
+    }
+
+    @FunctionalInterface
+    interface SplitStreamFactory {
+        ShardCursorStream create(ShardCursorStream donor, String streamName, KeyRange range, long estimatedDocs);
+    }
+}
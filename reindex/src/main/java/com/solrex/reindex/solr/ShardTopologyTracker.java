@@ -0,0 +1,163 @@
+package com.solrex.reindex.solr;
+
+import com.solrex.reindex.model.CollectionRef;
+import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplica;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplicas;
+import com.solrex.reindex.tracing.ReindexTracing;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.solr.client.solrj.impl.Http2SolrClient;
+
+@Slf4j
+final class ShardTopologyTracker implements AutoCloseable {
+    private final Supplier<Uni<List<ShardReplicas>>> discovery;
+    private final ReplicaSelector replicaSelector;
+    private final Duration refreshInterval;
+    private final AtomicReference<Map<String, ShardReplicas>> shards = new AtomicReference<>(Map.of());
+    private Uni<Map<String, ShardReplicas>> pendingRefresh;
+    private ScheduledFuture<?> refreshTask;
+    private boolean closed;
+
+    ShardTopologyTracker(
+            @NonNull Http2SolrClient sourceClient,
+            @NonNull CollectionRef source,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull ReplicaSelector replicaSelector,
+            @NonNull Duration refreshInterval,
+            @NonNull ReindexTracing tracing) {
+        this(() -> SolrShardLeaderDiscovery.discoverShards(sourceClient, source, retryPolicy, tracing), replicaSelector,
+                refreshInterval);
+    }
+
+    ShardTopologyTracker(
+            @NonNull Supplier<Uni<List<ShardReplicas>>> discovery,
+            @NonNull ReplicaSelector replicaSelector,
+            @NonNull Duration refreshInterval) {
+        this.discovery = discovery;
+        this.replicaSelector = replicaSelector;
+        this.refreshInterval = refreshInterval;
+    }
+
+    Uni<List<ShardReplicas>> start() {
+        return discovery.get()
+                .onItem().invoke(discoveredShards -> {
+                    update(discoveredShards);
+                    schedulePeriodicRefresh();
+                });
+    }
+
+    ShardReplica replicaFor(@NonNull String logicalShard) {
+        return replicaFor(logicalShard, logicalShard);
+    }
+
+    ShardReplica replicaFor(@NonNull String logicalShard, @NonNull String streamKey) {
+        var shard = shards.get().get(logicalShard);
+        if (shard == null) {
+            throw new IllegalStateException("No known replica for shard '" + logicalShard + "'");
+        }
+        return replicaSelector.select(shard, streamKey);
+    }
+
+    ShardReplica alternateReplicaFor(
+            @NonNull String logicalShard,
+            @NonNull ShardReplica exclude,
+            @NonNull String streamKey) {
+        var shard = shards.get().get(logicalShard);
+        return shard == null ? null : replicaSelector.selectAlternate(shard, exclude, streamKey);
+    }
+
+    ReplicaSelector replicaSelector() {
+        return replicaSelector;
+    }
+
+    synchronized Uni<Map<String, ShardReplicas>> refresh() {
+        if (pendingRefresh == null) {
+            pendingRefresh = discovery.get()
+                    .onItem().transform(this::update)
+                    .onFailure().invoke(failure -> log.warn(
+                            "Failed to refresh source topology; keeping last known shard locations", failure))
+                    .onTermination().invoke(this::clearPendingRefresh)
+                    .memoize().indefinitely();
+        }
+        return pendingRefresh;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+            refreshTask = null;
+        }
+    }
+
+    Map<String, ShardReplicas> update(List<ShardReplicas> discoveredShards) {
+        var previous = shards.get();
+        var refreshed = new LinkedHashMap<String, ShardReplicas>();
+        for (var shard : discoveredShards) {
+            if (!shard.isActive()) {
+                continue;
+            }
+            replicaSelector.validate(shard);
+            refreshed.put(shard.logicalShard(), shard);
+        }
+
+        for (var entry : previous.entrySet()) {
+            if (!refreshed.containsKey(entry.getKey())) {
+                log.debug("Shard is no longer active; keeping its last known replicas. shard={}", entry.getKey());
+                refreshed.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        shards.set(Map.copyOf(refreshed));
+        for (var entry : refreshed.entrySet()) {
+            var before = previous.get(entry.getKey());
+            if (before != null && !Objects.equals(before, entry.getValue())) {
+                log.info(
+                        "Shard replicas changed; cursor stream will continue on the newly selected replica. shard={} from={} to={}",
+                        entry.getKey(),
+                        describe(before),
+                        describe(entry.getValue()));
+            }
+        }
+        return refreshed;
+    }
+
+    private static String describe(ShardReplicas shard) {
+        return shard.activeReplicas().stream()
+                .map(replica -> replica.baseUrl() + "/" + replica.coreName() + (replica.leader() ? "(leader)" : ""))
+                .toList()
+                .toString();
+    }
+
+    private synchronized void schedulePeriodicRefresh() {
+        if (closed || refreshTask != null || refreshInterval.compareTo(Duration.ZERO) <= 0) {
+            return;
+        }
+
+        var intervalMillis = refreshInterval.toMillis();
+        refreshTask = Infrastructure.getDefaultWorkerPool().scheduleAtFixedRate(
+                () -> refresh().subscribe().with(ignored -> {
+                }, ignored -> {
+                }),
+                intervalMillis,
+                intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void clearPendingRefresh() {
+        pendingRefresh = null;
+    }
+}
@@ -1,13 +1,27 @@
 package com.solrex.reindex.solr;
 
+import com.solrex.reindex.metrics.ReindexMetrics;
 import com.solrex.reindex.model.ClusterConfig;
+import com.solrex.reindex.pipeline.ClusterRetryGovernor;
 import jakarta.inject.Singleton;
 import java.util.concurrent.TimeUnit;
 import org.apache.solr.client.solrj.impl.Http2SolrClient;
 
 @Singleton
 public final class SolrClientFactory {
+    public Http2SolrClient create(ClusterConfig config, ClusterRetryGovernor governor, ReindexMetrics metrics) {
+        var client = builder(config)
+            .withRequestWriter(new CountingRequestWriter(metrics::bytesSent))
+            .build();
+        client.addListenerFactory(new RetryAfterListenerFactory(governor));
+        return client;
+    }
+
     public Http2SolrClient create(ClusterConfig config) {
+        return builder(config).build();
+    }
+
+    private Http2SolrClient.Builder builder(ClusterConfig config) {
         var builder = new Http2SolrClient.Builder(config.baseUrl())
             .withConnectionTimeout(config.requestTimeout().toMillis(), TimeUnit.MILLISECONDS)
             .withIdleTimeout(config.requestTimeout().toMillis(), TimeUnit.MILLISECONDS)
@@ -17,6 +31,6 @@ public final class SolrClientFactory {
             builder.withBasicAuthCredentials(config.basicAuthUser(), config.basicAuthPassword());
         }
 
-        return builder.build();
+        return builder;
     }
 }
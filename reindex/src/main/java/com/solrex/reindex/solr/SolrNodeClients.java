@@ -0,0 +1,39 @@
+package com.solrex.reindex.solr;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.apache.solr.client.solrj.impl.Http2SolrClient;
+
+final class SolrNodeClients implements Closeable {
+    private final Http2SolrClient sharedClient;
+    private final Map<String, Http2SolrClient> clients = new ConcurrentHashMap<>();
+
+    SolrNodeClients(@NonNull Http2SolrClient sharedClient) {
+        this.sharedClient = sharedClient;
+    }
+
+    Http2SolrClient forBaseUrl(@NonNull String baseUrl) {
+        return clients.computeIfAbsent(baseUrl, url -> {
+            var client = new Http2SolrClient.Builder(url)
+                    .withHttpClient(sharedClient)
+                    .build();
+            sharedClient.getListenerFactory().forEach(client::addListenerFactory);
+            return client;
+        });
+    }
+
+    @Override
+    public void close() {
+        for (var client : clients.values()) {
+            try {
+                client.close();
+            } catch (IOException ignored) {
+                // no-op
+            }
+        }
+        clients.clear();
+    }
+}
@@ -2,13 +2,18 @@ package com.solrex.reindex.solr;
 
 import com.solrex.reindex.model.CollectionRef;
 import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.tracing.ReindexTracing;
 import com.solrex.reindex.util.ReindexErrorClassifier;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
 import io.smallrye.mutiny.Uni;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import lombok.NonNull;
 import org.apache.solr.client.solrj.SolrRequest;
 import org.apache.solr.client.solrj.impl.Http2SolrClient;
@@ -23,8 +28,19 @@ public final class SolrShardLeaderDiscovery {
 
     public static Uni<List<ShardLeaderReplica>> discoverLeaders(Http2SolrClient sourceClient, CollectionRef source,
             RetryPolicy retryPolicy) {
-        return requestClusterStatus(sourceClient, source.collection())
-                .onItem().transform(response -> extractShardLeaders(response, source.collection()))
+        return discoverShards(sourceClient, source, retryPolicy)
+                .onItem().transform(SolrShardLeaderDiscovery::toLeaders);
+    }
+
+    public static Uni<List<ShardReplicas>> discoverShards(Http2SolrClient sourceClient, CollectionRef source,
+            RetryPolicy retryPolicy) {
+        return discoverShards(sourceClient, source, retryPolicy, ReindexTracing.noop());
+    }
+
+    public static Uni<List<ShardReplicas>> discoverShards(Http2SolrClient sourceClient, CollectionRef source,
+            RetryPolicy retryPolicy, @NonNull ReindexTracing tracing) {
+        return requestClusterStatus(sourceClient, source.collection(), tracing)
+                .onItem().transform(response -> extractShards(response, source.collection()))
                 .onFailure(ReindexErrorClassifier::isRetryable)
                 .retry()
                 .withBackOff(retryPolicy.initialBackoff(), retryPolicy.maxBackoff())
@@ -32,6 +48,10 @@ public final class SolrShardLeaderDiscovery {
     }
 
     static List<ShardLeaderReplica> extractShardLeaders(NamedList<Object> response, String collection) {
+        return toLeaders(extractShards(response, collection));
+    }
+
+    static List<ShardReplicas> extractShards(NamedList<Object> response, String collection) {
         var cluster = requireObjectMap(response.get("cluster"), "cluster");
         var collections = requireObjectMap(cluster.get("collections"), "cluster.collections");
         var collectionStatus = requireObjectMap(collections.get(collection), "cluster.collections." + collection);
@@ -39,21 +59,32 @@ public final class SolrShardLeaderDiscovery {
                 collectionStatus.get("shards"),
                 "cluster.collections." + collection + ".shards");
 
-        var discoveredLeaders = new ArrayList<ShardLeaderReplica>();
+        var discoveredShards = new ArrayList<ShardReplicas>();
         for (var shard : shards.entrySet()) {
-            discoveredLeaders.add(leaderReplicaForShard(collection, shard.getKey(), shard.getValue()));
+            discoveredShards.add(activeReplicasForShard(collection, shard.getKey(), shard.getValue()));
         }
 
-        discoveredLeaders.sort(Comparator.comparing(ShardLeaderReplica::logicalShard));
-        if (discoveredLeaders.isEmpty()) {
+        discoveredShards.sort(Comparator.comparing(ShardReplicas::logicalShard));
+        if (discoveredShards.isEmpty()) {
             throw new IllegalStateException(
                     "No active shard leaders were discovered for collection '" + collection + "'");
         }
 
-        return List.copyOf(discoveredLeaders);
+        return List.copyOf(discoveredShards);
     }
 
-    private static Uni<NamedList<Object>> requestClusterStatus(Http2SolrClient sourceClient, String collection) {
+    private static List<ShardLeaderReplica> toLeaders(List<ShardReplicas> shards) {
+        return shards.stream()
+                .filter(ShardReplicas::isActive)
+                .map(ShardReplicas::leader)
+                .map(leader -> new ShardLeaderReplica(leader.logicalShard(), leader.baseUrl(), leader.coreName()))
+                .toList();
+    }
+
+    private static Uni<NamedList<Object>> requestClusterStatus(
+            Http2SolrClient sourceClient,
+            String collection,
+            ReindexTracing tracing) {
         var params = new ModifiableSolrParams();
         params.set("action", "CLUSTERSTATUS");
         params.set("collection", collection);
@@ -61,17 +92,30 @@ public final class SolrShardLeaderDiscovery {
         var request = new GenericSolrRequest(SolrRequest.METHOD.GET, "/admin/collections", params)
                 .setRequiresCollection(false);
 
-        return Uni.createFrom().completionStage(() -> sourceClient.requestAsync(request));
+        return Uni.createFrom().deferred(() -> {
+            var span = tracing.startRoot(
+                    "solr.cluster_status",
+                    SpanKind.CLIENT,
+                    Attributes.of(ReindexTracing.COLLECTION, collection, ReindexTracing.NODE, sourceClient.getBaseURL()));
+            tracing.inject(span, request);
+            return tracing.endOnTermination(
+                    span,
+                    Uni.createFrom().completionStage(() -> sourceClient.requestAsync(request)));
+        });
     }
 
-    private static ShardLeaderReplica leaderReplicaForShard(String collection, String shardName, Object shardData) {
+    private static ShardReplicas activeReplicasForShard(String collection, String shardName, Object shardData) {
         var shardPath = "cluster.collections." + collection + ".shards." + shardName;
         var shard = requireObjectMap(shardData, shardPath);
+        var state = Objects.requireNonNullElse(optionalString(shard, "state"), ShardReplicas.STATE_ACTIVE)
+                .toLowerCase(Locale.ROOT);
+        var range = optionalString(shard, "range");
         var replicas = requireObjectMap(shard.get("replicas"), shardPath + ".replicas");
 
+        var activeReplicas = new ArrayList<ShardReplica>();
         for (var replica : replicas.values()) {
             var replicaData = requireObjectMap(replica, shardPath + ".replicas.<replica>");
-            if (!isActiveReplica(replicaData) || !isLeaderReplica(replicaData)) {
+            if (!isActiveReplica(replicaData)) {
                 continue;
             }
 
@@ -83,13 +127,35 @@ public final class SolrShardLeaderDiscovery {
 
             if (coreName == null) {
                 throw new IllegalStateException(
-                        "Active leader replica for shard '" + shardName + "' is missing core name metadata");
+                        "Active replica for shard '" + shardName + "' is missing core name metadata");
             }
 
-            return new ShardLeaderReplica(shardName, normalizeBaseUrl(baseUrl), coreName);
+            activeReplicas.add(new ShardReplica(
+                    shardName,
+                    normalizeBaseUrl(baseUrl),
+                    coreName,
+                    replicaType(replicaData),
+                    isLeaderReplica(replicaData)));
+        }
+
+        if (activeReplicas.isEmpty() && ShardReplicas.STATE_ACTIVE.equals(state)) {
+            throw new IllegalStateException("No ACTIVE replica found for shard '" + shardName + "'");
         }
 
-        throw new IllegalStateException("No ACTIVE leader replica found for shard '" + shardName + "'");
+        activeReplicas.sort(Comparator.comparing(ShardReplica::coreName));
+        return new ShardReplicas(shardName, state, range, List.copyOf(activeReplicas));
+    }
+
+    private static ReplicaType replicaType(Map<String, Object> replicaData) {
+        var type = optionalString(replicaData, "type");
+        if (type == null) {
+            return ReplicaType.NRT;
+        }
+        try {
+            return ReplicaType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ReplicaType.NRT;
+        }
     }
 
     private static boolean isActiveReplica(Map<String, Object> replicaData) {
@@ -175,4 +241,40 @@ public final class SolrShardLeaderDiscovery {
 
     public record ShardLeaderReplica(String logicalShard, String baseUrl, String coreName) {
     }
+
+    public enum ReplicaType {
+        NRT,
+        TLOG,
+        PULL
+    }
+
+    public record ShardReplica(String logicalShard, String baseUrl, String coreName, ReplicaType type, boolean leader) {
+    }
+
+    public record ShardReplicas(String logicalShard, String state, String range, List<ShardReplica> activeReplicas) {
+        public static final String STATE_ACTIVE = "active";
+        public static final String STATE_INACTIVE = "inactive";
+        public static final String STATE_CONSTRUCTION = "construction";
+        public static final String STATE_RECOVERY = "recovery";
+
+        public ShardReplicas(String logicalShard, List<ShardReplica> activeReplicas) {
+            this(logicalShard, STATE_ACTIVE, null, activeReplicas);
+        }
+
+        public boolean isActive() {
+            return STATE_ACTIVE.equals(state);
+        }
+
+        public boolean isSplitInProgress() {
+            return STATE_CONSTRUCTION.equals(state) || STATE_RECOVERY.equals(state);
+        }
+
+        public ShardReplica leader() {
+            return activeReplicas.stream()
+                    .filter(ShardReplica::leader)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(
+                            "No ACTIVE leader replica found for shard '" + logicalShard + "'"));
+        }
+    }
 }
@@ -1,92 +1,388 @@
 package com.solrex.reindex.solr;
 
+import com.solrex.reindex.coordination.WorkQueue;
+import com.solrex.reindex.coordination.WorkQueueScheduler;
+import com.solrex.reindex.coordination.WorkUnit;
+import com.solrex.reindex.jfr.CursorPageEvent;
+import com.solrex.reindex.jfr.DocumentConversionEvent;
+import com.solrex.reindex.metrics.ReindexMetrics;
 import com.solrex.reindex.model.ReindexRequest;
-import com.solrex.reindex.model.RetryPolicy;
 import com.solrex.reindex.model.ReindexFilters;
-import com.solrex.reindex.util.ReindexErrorClassifier;
+import com.solrex.reindex.pipeline.ClusterRetryGovernor;
+import com.solrex.reindex.pipeline.LiveTuning;
+import com.solrex.reindex.pipeline.StallWatchdog;
+import com.solrex.reindex.tracing.ReindexTracing;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.subscription.MultiEmitter;
+import java.io.Closeable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.solr.client.solrj.ResponseParser;
 import org.apache.solr.client.solrj.SolrRequest;
 import org.apache.solr.client.solrj.impl.Http2SolrClient;
 import org.apache.solr.client.solrj.request.QueryRequest;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.params.CommonParams;
 import org.apache.solr.common.params.CursorMarkParams;
 import org.apache.solr.common.params.ModifiableSolrParams;
+import org.apache.solr.common.params.SolrParams;
 import org.apache.solr.common.util.NamedList;
 
-public final class SolrSourceDocumentReader {
+@Slf4j
+public final class SolrSourceDocumentReader implements Closeable {
+    public static final Duration DEFAULT_TOPOLOGY_REFRESH_INTERVAL = Duration.ofSeconds(30);
     private static final String DEFAULT_SORT_FIELD = "id";
+    private static final int PLANNING_CONCURRENCY = 8;
+    private static final int MIN_SPLIT_PAGES = 4;
+    private static final int MAX_UNITS_PER_SHARD = 64;
+    private static final String WORK_QUEUE_STREAM = "work-queue";
 
     private final Http2SolrClient sourceClient;
+    private final StallWatchdog watchdog;
+    private final Duration topologyRefreshInterval;
+    private final SolrNodeClients nodeClients;
+    private final ClusterRetryGovernor governor;
+    private final ReindexMetrics metrics;
+    private final ReindexTracing tracing;
+    private final LiveTuning liveTuning;
+    private final ShardGroup shardGroup;
+    private final ShardSetPin shardSetPin;
+    private final Optional<WorkQueue> workQueue;
+    private final CountingResponseParser responseParser;
+    private final List<ShardTopologyTracker> topologyTrackers = new CopyOnWriteArrayList<>();
 
     public SolrSourceDocumentReader(@NonNull Http2SolrClient sourceClient) {
+        this(sourceClient, StallWatchdog.disabled(), DEFAULT_TOPOLOGY_REFRESH_INTERVAL);
+    }
+
+    public SolrSourceDocumentReader(
+            @NonNull Http2SolrClient sourceClient,
+            @NonNull StallWatchdog watchdog,
+            @NonNull Duration topologyRefreshInterval) {
+        this(
+                sourceClient,
+                watchdog,
+                topologyRefreshInterval,
+                new ClusterRetryGovernor("source"),
+                ReindexMetrics.noop(),
+                ReindexTracing.noop(),
+                new LiveTuning(),
+                ShardGroup.ALL,
+                ShardSetPin.NONE,
+                Optional.empty());
+    }
+
+    public SolrSourceDocumentReader(
+            @NonNull Http2SolrClient sourceClient,
+            @NonNull StallWatchdog watchdog,
+            @NonNull Duration topologyRefreshInterval,
+            @NonNull ClusterRetryGovernor governor,
+            @NonNull ReindexMetrics metrics,
+            @NonNull ReindexTracing tracing,
+            @NonNull LiveTuning liveTuning,
+            @NonNull ShardGroup shardGroup,
+            @NonNull ShardSetPin shardSetPin,
+            @NonNull Optional<WorkQueue> workQueue) {
         this.sourceClient = sourceClient;
+        this.watchdog = watchdog;
+        this.topologyRefreshInterval = topologyRefreshInterval;
+        this.nodeClients = new SolrNodeClients(sourceClient);
+        this.governor = governor;
+        this.metrics = metrics;
+        this.tracing = tracing;
+        this.liveTuning = liveTuning;
+        this.shardGroup = shardGroup;
+        this.shardSetPin = shardSetPin;
+        this.workQueue = workQueue;
+        this.responseParser = new CountingResponseParser(metrics::bytesReceived);
     }
 
     public Uni<Multi<SolrInputDocument>> streamDocuments(@NonNull ReindexRequest request) {
-        return SolrShardLeaderDiscovery
-                .discoverLeaders(sourceClient, request.source(), request.tuning().retryPolicy())
-                .onItem().transform(shardLeaders -> streamWithCursor(request, DEFAULT_SORT_FIELD, shardLeaders));
+        var topology = new ShardTopologyTracker(
+                sourceClient,
+                request.source(),
+                request.tuning().retryPolicy(),
+                new ReplicaSelector(request.tuning().replicaSelection()),
+                topologyRefreshInterval,
+                tracing);
+        topologyTrackers.add(topology);
+        var hedger = new CursorPageHedger(request.tuning().hedgePolicy());
+
+        return topology.start()
+                .onItem().transformToUni(shards -> planReads(request, shards, topology))
+                .onItem().transformToUni(plan -> workQueue
+                        .map(queue -> {
+                            var scheduler = new WorkQueueScheduler(queue, () -> watchdog.progress(WORK_QUEUE_STREAM));
+                            return scheduler
+                                    .publish(() -> planWorkUnits(request, DEFAULT_SORT_FIELD, plan, queue, topology))
+                                    .replaceWith(() -> streamFromQueue(
+                                            request, DEFAULT_SORT_FIELD, queue, scheduler, topology, hedger));
+                        })
+                        .orElseGet(() -> Uni.createFrom().item(() ->
+                                streamWithCursor(request, DEFAULT_SORT_FIELD, plan, topology, hedger))))
+                .onItem().transform(documents -> documents
+                        .onTermination().invoke(() -> {
+                            topology.close();
+                            if (hedger.hedges() > 0) {
+                                log.info("Hedged slow cursor pages. hedges={}", hedger.hedges());
+                            }
+                        }))
+                .onFailure().invoke(topology::close);
+    }
+
+    public Uni<SourceSample> sample(@NonNull ReindexRequest request, int pages) {
+        var topology = new ShardTopologyTracker(
+                sourceClient,
+                request.source(),
+                request.tuning().retryPolicy(),
+                new ReplicaSelector(request.tuning().replicaSelection()),
+                topologyRefreshInterval,
+                tracing);
+        topologyTrackers.add(topology);
+
+        return topology.start()
+                .onItem().transformToUni(shards -> planReads(request, shards, topology))
+                .onItem().transformToUni(plan -> Multi.createFrom().iterable(plan.largestFirst())
+                        .filter(shard -> shard.estimatedDocs() > 0)
+                        .select().first(Math.max(pages, 0))
+                        .onItem().transformToUniAndConcatenate(shard ->
+                                samplePage(request, DEFAULT_SORT_FIELD, shard.logicalShard(), topology))
+                        .collect().asList()
+                        .onItem().transform(sampled -> new SourceSample(plan, sampled)))
+                .onTermination().invoke(topology::close);
+    }
+
+    @Override
+    public void close() {
+        topologyTrackers.forEach(ShardTopologyTracker::close);
+        topologyTrackers.clear();
+        nodeClients.close();
+    }
+
+    private Uni<ShardReadPlan> planReads(
+            ReindexRequest request,
+            List<SolrShardLeaderDiscovery.ShardReplicas> shards,
+            ShardTopologyTracker topology) {
+        var collection = request.source().collection();
+        var readableShards = ShardReadPlanner.readableShards(collection, shards);
+        var shardNames = readableShards.stream().map(SolrShardLeaderDiscovery.ShardReplicas::logicalShard).toList();
+        var skippedShards = ShardReadPlanner.skippedShards(shards);
+
+        return shardSetPin.pin(shardNames)
+                .onItem().transformToUni(pinned -> {
+                    if (!pinned.equals(shardNames)) {
+                        throw new IllegalStateException(
+                                "Refusing to start: source shards of collection '" + collection
+                                        + "' changed since the shard set was pinned for this job. pinned=" + pinned
+                                        + " readable=" + shardNames);
+                    }
+                    return countShards(request, shardGroup.assigned(readableShards), skippedShards, topology);
+                });
+    }
+
+    private Uni<ShardReadPlan> countShards(
+            ReindexRequest request,
+            List<SolrShardLeaderDiscovery.ShardReplicas> readableShards,
+            List<String> skippedShards,
+            ShardTopologyTracker topology) {
+        var collection = request.source().collection();
+        return Multi.createFrom().iterable(readableShards)
+                .onItem().transformToUni(shard -> countDocuments(
+                        request, DEFAULT_SORT_FIELD, shard.logicalShard(), shard.logicalShard(), KeyRange.ALL, topology)
+                        .onItem().transform(count ->
+                                new ShardReadPlan.PlannedShard(shard.logicalShard(), shard.range(), count)))
+                .merge(PLANNING_CONCURRENCY)
+                .collect().asList()
+                .onItem().transform(plannedShards -> {
+                    var plan = new ShardReadPlan(
+                            collection,
+                            plannedShards.stream()
+                                    .sorted(Comparator.comparing(ShardReadPlan.PlannedShard::logicalShard))
+                                    .toList(),
+                            skippedShards);
+                    plan.shards().forEach(shard -> metrics.shardPlanned(shard.logicalShard(), shard.estimatedDocs()));
+                    logPlan(plan);
+                    return plan;
+                });
+    }
+
+    private void logPlan(ShardReadPlan plan) {
+        log.info(
+                "Planned source read. collection={} shardGroup={} shards={} estimatedDocs={} skippedShards={}",
+                plan.collection(),
+                shardGroup,
+                plan.shards().size(),
+                plan.estimatedDocs(),
+                plan.skippedShards());
+        for (var shard : plan.shards()) {
+            log.info(
+                    "Planned shard read. shard={} range={} estimatedDocs={}",
+                    shard.logicalShard(),
+                    shard.range(),
+                    shard.estimatedDocs());
+        }
     }
 
     private Multi<SolrInputDocument> streamWithCursor(
             ReindexRequest request,
             String sortField,
-            List<SolrShardLeaderDiscovery.ShardLeaderReplica> shardLeaders) {
-        var shardStreams = shardLeaders.stream()
-                .sorted(Comparator.comparing(SolrShardLeaderDiscovery.ShardLeaderReplica::logicalShard))
-                .map(shard -> Multi.createFrom()
-                        .emitter((MultiEmitter<? super SolrInputDocument> emitter) -> fetchCursorPage(request,
-                                sortField, CursorMarkParams.CURSOR_MARK_START, shard, emitter)))
+            ShardReadPlan plan,
+            ShardTopologyTracker topology,
+            CursorPageHedger hedger) {
+        var shardStreams = plan.largestFirst().stream()
+                .map(shard -> cursorStream(
+                        request,
+                        sortField,
+                        shard.logicalShard(),
+                        shard.logicalShard(),
+                        KeyRange.ALL,
+                        shard.estimatedDocs(),
+                        topology,
+                        hedger))
                 .toList();
 
         if (shardStreams.isEmpty()) {
             return Multi.createFrom().empty();
         }
 
-        return Multi.createBy().merging()
-                .withConcurrency(shardStreams.size())
-                .streams(shardStreams);
+        var readConcurrency = request.tuning().readConcurrency();
+        var minSplitDocs = (long) MIN_SPLIT_PAGES * request.tuning().readPageSize();
+        log.info(
+                "Streaming shards largest-first. collection={} shards={} readConcurrency={}",
+                plan.collection(),
+                shardStreams.size(),
+                readConcurrency);
+
+        return new ShardStreamScheduler(
+                shardStreams,
+                readConcurrency,
+                minSplitDocs,
+                donor -> sampleSplitPoint(request, sortField, donor, minSplitDocs, topology),
+                (donor, streamName, range, estimatedDocs) -> cursorStream(
+                        request,
+                        sortField,
+                        donor.logicalShard(),
+                        streamName,
+                        range,
+                        estimatedDocs,
+                        topology,
+                        hedger))
+                .stream();
     }
 
-    private void fetchCursorPage(
+    private Uni<List<WorkUnit>> planWorkUnits(
             ReindexRequest request,
             String sortField,
-            String cursorMark,
-            SolrShardLeaderDiscovery.ShardLeaderReplica shard,
-            MultiEmitter<? super SolrInputDocument> emitter) {
-        if (emitter.isCancelled()) {
-            return;
+            ShardReadPlan plan,
+            WorkQueue queue,
+            ShardTopologyTracker topology) {
+        log.info("Planning work units. worker={} shards={}", queue.workerId(), plan.shards().size());
+        return Multi.createFrom().iterable(plan.shards())
+                .onItem().transformToUni(shard -> workUnits(request, sortField, shard, queue.unitDocs(), topology))
+                .merge(PLANNING_CONCURRENCY)
+                .onItem().transformToIterable(units -> units)
+                .collect().asList();
+    }
+
+    private Uni<List<WorkUnit>> workUnits(
+            ReindexRequest request,
+            String sortField,
+            ShardReadPlan.PlannedShard shard,
+            long unitDocs,
+            ShardTopologyTracker topology) {
+        var shardName = shard.logicalShard();
+        var pieces = (int) Math.min(MAX_UNITS_PER_SHARD, Math.max(1, Math.ceilDiv(shard.estimatedDocs(), unitDocs)));
+        if (pieces == 1) {
+            return Uni.createFrom().item(List.of(new WorkUnit(shardName + "#0", shardName, null, null, shard.estimatedDocs())));
         }
 
-        queryCursorPage(request, sortField, cursorMark, shard, request.tuning().retryPolicy())
-                .subscribe().with(
-                        page -> {
-                            for (var doc : page.documents()) {
-                                if (emitter.isCancelled()) {
-                                    return;
-                                }
-                                emitter.emit(doc);
-                            }
+        return sampleKeys(request, sortField, shardName, shardName, KeyRange.ALL, shard.estimatedDocs(), topology)
+                .onFailure().recoverWithItem(failure -> {
+                    log.warn(
+                            "Could not sample split keys; planning one work unit for the shard. shard={} error={}",
+                            shardName,
+                            failure.getMessage());
+                    return List.of();
+                })
+                .onItem().transform(keys -> {
+                    var bounds = new ArrayList<String>(KeySample.quantiles(keys, pieces));
+                    bounds.add(null);
 
-                            if (page.done() || emitter.isCancelled()) {
-                                emitter.complete();
-                                return;
-                            }
+                    var units = new ArrayList<WorkUnit>(bounds.size());
+                    String lower = null;
+                    for (var upper : bounds) {
+                        units.add(new WorkUnit(
+                                shardName + "#" + units.size(),
+                                shardName,
+                                lower,
+                                upper,
+                                shard.estimatedDocs() / bounds.size()));
+                        lower = upper;
+                    }
+                    return List.copyOf(units);
+                });
+    }
+
+    private Multi<SolrInputDocument> streamFromQueue(
+            ReindexRequest request,
+            String sortField,
+            WorkQueue queue,
+            WorkQueueScheduler scheduler,
+            ShardTopologyTracker topology,
+            CursorPageHedger hedger) {
+        var readConcurrency = request.tuning().readConcurrency();
+        log.info(
+                "Streaming work units from shared queue. worker={} readConcurrency={}",
+                queue.workerId(),
+                readConcurrency);
 
-                            fetchCursorPage(request, sortField, page.nextCursorMark(), shard, emitter);
-                        },
-                        emitter::fail);
+        return scheduler.stream(readConcurrency, unit -> cursorStream(
+                        request,
+                        sortField,
+                        unit.shard(),
+                        unit.id(),
+                        new KeyRange(unit.lowerExclusive(), unit.upperInclusive()),
+                        unit.estimatedDocs(),
+                        topology,
+                        hedger)
+                .stream());
+    }
+
+    private ShardCursorStream cursorStream(
+            ReindexRequest request,
+            String sortField,
+            String logicalShard,
+            String streamName,
+            KeyRange range,
+            long estimatedDocs,
+            ShardTopologyTracker topology,
+            CursorPageHedger hedger) {
+        return new ShardCursorStream(
+                logicalShard,
+                streamName,
+                sortField,
+                range,
+                estimatedDocs,
+                (cursorMark, currentRange) -> liveTuning.awaitReadPermit(
+                                request.tuning(), liveTuning.effective(request.tuning()).readPageSize())
+                        .onItem().transformToUni(ignored -> queryCursorPage(
+                                request, sortField, cursorMark, currentRange, logicalShard, streamName, topology, hedger)),
+                watchdog);
     }
 
     @SuppressWarnings("deprecation")
@@ -94,19 +390,50 @@ public final class SolrSourceDocumentReader {
             ReindexRequest request,
             String sortField,
             String cursorMark,
-            SolrShardLeaderDiscovery.ShardLeaderReplica shard,
-            RetryPolicy retryPolicy) {
-        var params = baseReadParams(request, sortField);
+            KeyRange range,
+            String logicalShard,
+            String streamName,
+            ShardTopologyTracker topology,
+            CursorPageHedger hedger) {
+        var params = rangeReadParams(request, sortField, range);
         params.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
-        params.set(CommonParams.ROWS, request.tuning().readPageSize());
+        params.set(CommonParams.ROWS, liveTuning.effective(request.tuning()).readPageSize());
+
+        var pageParser = new CountingResponseParser(metrics::bytesReceived);
+        var queryRequest = queryRequest(params, pageParser);
 
-        var queryRequest = new QueryRequest(params, SolrRequest.METHOD.GET);
+        var pageSpan = tracing.startRoot(
+                "reindex.cursor_page",
+                SpanKind.INTERNAL,
+                Attributes.of(
+                        ReindexTracing.COLLECTION, request.source().collection(),
+                        ReindexTracing.SHARD, logicalShard,
+                        ReindexTracing.STREAM, streamName));
 
-        return requestAsync(queryRequest, shard.coreName())
+        var page = withRetry(request, topology, () -> {
+                    var startedAt = System.nanoTime();
+                    var event = new CursorPageEvent();
+                    event.begin();
+                    return hedgedRequest(queryRequest, logicalShard, streamName, topology, hedger, pageSpan)
+                            .onItem().invoke(response -> {
+                                metrics.pageFetched(logicalShard, System.nanoTime() - startedAt);
+                                event.end();
+                                if (event.shouldCommit()) {
+                                    event.shard = logicalShard;
+                                    event.stream = streamName;
+                                    event.pageSize = resultCount(response);
+                                    event.bytes = pageParser.lastBytes();
+                                    event.decodeTime = pageParser.lastDecodeNanos();
+                                    event.commit();
+                                }
+                            });
+                })
                 .onItem().transform(response -> {
                     var queryResponse = new QueryResponse(sourceClient);
                     queryResponse.setResponse(response);
 
+                    var conversion = new DocumentConversionEvent();
+                    conversion.begin();
                     var docs = new ArrayList<SolrInputDocument>();
                     var results = queryResponse.getResults();
                     if (results != null) {
@@ -114,14 +441,218 @@ public final class SolrSourceDocumentReader {
                             docs.add(toInputDocument(result));
                         }
                     }
+                    conversion.end();
+                    if (conversion.shouldCommit()) {
+                        conversion.shard = logicalShard;
+                        conversion.pageSize = docs.size();
+                        conversion.commit();
+                    }
+                    metrics.docsRead(logicalShard, docs.size());
+
+                    pageSpan.setAttribute(ReindexTracing.DOCS, (long) docs.size());
 
                     var nextCursorMark = Objects.toString(response.get(CursorMarkParams.CURSOR_MARK_NEXT), cursorMark);
                     return new CursorPage(docs, nextCursorMark, cursorMark.equals(nextCursorMark));
-                })
-                .onFailure(ReindexErrorClassifier::isRetryable)
-                .retry()
-                .withBackOff(retryPolicy.initialBackoff(), retryPolicy.maxBackoff())
-                .atMost(retryPolicy.maxRetries());
+                });
+        return tracing.endOnTermination(pageSpan, page);
+    }
+
+    private Uni<ShardStreamScheduler.SplitPoint> sampleSplitPoint(
+            ReindexRequest request,
+            String sortField,
+            ShardCursorStream donor,
+            long minSplitDocs,
+            ShardTopologyTracker topology) {
+        var remaining = donor.remainingRange();
+        return countDocuments(request, sortField, donor.logicalShard(), donor.streamName(), remaining, topology)
+                .onItem().transformToUni(count -> count < minSplitDocs
+                        ? Uni.createFrom().<ShardStreamScheduler.SplitPoint>nullItem()
+                        : sampleKeys(
+                                request,
+                                sortField,
+                                donor.logicalShard(),
+                                donor.streamName(),
+                                remaining,
+                                count,
+                                topology)
+                                .onItem().transform(keys -> KeySample.quantiles(keys, 2).stream()
+                                        .findFirst()
+                                        .map(key -> new ShardStreamScheduler.SplitPoint(key, count - count / 2 - 1))
+                                        .orElse(null)));
+    }
+
+    @SuppressWarnings("deprecation")
+    private Uni<SourceSample.SampledPage> samplePage(
+            ReindexRequest request,
+            String sortField,
+            String logicalShard,
+            ShardTopologyTracker topology) {
+        var params = rangeReadParams(request, sortField, KeyRange.ALL);
+        params.set(CursorMarkParams.CURSOR_MARK_PARAM, CursorMarkParams.CURSOR_MARK_START);
+        params.set(CommonParams.ROWS, request.tuning().readPageSize());
+
+        var pageParser = new CountingResponseParser(metrics::bytesReceived);
+        var queryRequest = queryRequest(params, pageParser);
+
+        return Uni.createFrom().item(System::nanoTime)
+                .onItem().transformToUni(startedAt -> query(request, queryRequest, logicalShard, logicalShard, topology)
+                        .onItem().transform(response -> {
+                            var latency = Duration.ofNanos(System.nanoTime() - startedAt);
+                            var queryResponse = new QueryResponse(sourceClient);
+                            queryResponse.setResponse(response);
+                            var docs = new ArrayList<SolrInputDocument>();
+                            var results = queryResponse.getResults();
+                            if (results != null) {
+                                for (SolrDocument result : results) {
+                                    docs.add(toInputDocument(result));
+                                }
+                            }
+                            log.info(
+                                    "Sampled source page. shard={} docs={} bytes={} latency={}",
+                                    logicalShard,
+                                    docs.size(),
+                                    pageParser.lastBytes(),
+                                    latency);
+                            return new SourceSample.SampledPage(logicalShard, docs, pageParser.lastBytes(), latency);
+                        }));
+    }
+
+    @SuppressWarnings("deprecation")
+    private Uni<List<String>> sampleKeys(
+            ReindexRequest request,
+            String sortField,
+            String logicalShard,
+            String streamName,
+            KeyRange range,
+            long estimatedDocs,
+            ShardTopologyTracker topology) {
+        var params = rangeReadParams(request, sortField, range);
+        params.set(CommonParams.FL, sortField);
+        params.set(CommonParams.ROWS, KeySample.MAX_ROWS);
+        KeySample.sliceFilter(sortField, estimatedDocs).ifPresent(filter -> params.add(CommonParams.FQ, filter));
+
+        return query(request, queryRequest(params, responseParser), logicalShard, streamName, topology)
+                .onItem().transform(response -> {
+                    var queryResponse = new QueryResponse(sourceClient);
+                    queryResponse.setResponse(response);
+                    var results = queryResponse.getResults();
+                    if (results == null || results.getNumFound() > results.size()) {
+                        log.warn(
+                                "Key sample was truncated; not splitting the range. shard={} stream={} matched={}",
+                                logicalShard,
+                                streamName,
+                                results == null ? null : results.getNumFound());
+                        return List.<String>of();
+                    }
+                    var values = new ArrayList<Object>(results.size());
+                    for (SolrDocument result : results) {
+                        values.add(result.getFieldValue(sortField));
+                    }
+                    return KeySample.stringKeys(values).orElseGet(() -> {
+                        log.warn(
+                                "Sort field is not a string field; key ranges compare as strings, so not splitting. "
+                                        + "shard={} stream={} field={}",
+                                logicalShard,
+                                streamName,
+                                sortField);
+                        return List.of();
+                    });
+                });
+    }
+
+    @SuppressWarnings("deprecation")
+    private Uni<Long> countDocuments(
+            ReindexRequest request,
+            String sortField,
+            String logicalShard,
+            String streamName,
+            KeyRange range,
+            ShardTopologyTracker topology) {
+        var params = rangeReadParams(request, sortField, range);
+        params.remove(CommonParams.FL);
+        params.remove(CommonParams.SORT);
+        params.set(CommonParams.ROWS, 0);
+
+        var queryRequest = queryRequest(params, responseParser);
+
+        return query(request, queryRequest, logicalShard, streamName, topology)
+                .onItem().transform(response -> {
+                    var queryResponse = new QueryResponse(sourceClient);
+                    queryResponse.setResponse(response);
+                    var results = queryResponse.getResults();
+                    return results == null ? 0L : results.getNumFound();
+                });
+    }
+
+    private Uni<NamedList<Object>> query(
+            ReindexRequest request,
+            Supplier<QueryRequest> queryRequest,
+            String logicalShard,
+            String streamName,
+            ShardTopologyTracker topology) {
+        return withRetry(request, topology, () -> requestAsync(
+                queryRequest.get(),
+                topology.replicaFor(logicalShard, streamName),
+                topology.replicaSelector(),
+                Span.getInvalid()));
+    }
+
+    private Uni<NamedList<Object>> hedgedRequest(
+            Supplier<QueryRequest> queryRequest,
+            String logicalShard,
+            String streamName,
+            ShardTopologyTracker topology,
+            CursorPageHedger hedger,
+            Span pageSpan) {
+        var primary = topology.replicaFor(logicalShard, streamName);
+        var startedAt = System.nanoTime();
+        var primaryRequest = requestAsync(queryRequest.get(), primary, topology.replicaSelector(), pageSpan)
+                .onItem().invoke(() -> hedger.recordLatency(System.nanoTime() - startedAt));
+
+        var delay = hedger.nextPageHedgeDelay();
+        if (delay == null) {
+            return primaryRequest;
+        }
+
+        var hedgeRequest = Uni.createFrom().voidItem()
+                .onItem().delayIt().by(delay)
+                .onItem().transformToUni(ignored -> {
+                    var alternate = topology.alternateReplicaFor(logicalShard, primary, streamName);
+                    if (alternate == null || !hedger.tryAcquireHedge()) {
+                        return Uni.createFrom().<NamedList<Object>>nothing();
+                    }
+                    log.debug(
+                            "Hedging slow cursor page. stream={} primary={} hedge={} delay={}",
+                            streamName,
+                            primary.coreName(),
+                            alternate.coreName(),
+                            delay);
+                    pageSpan.addEvent("hedge");
+                    return requestAsync(queryRequest.get(), alternate, topology.replicaSelector(), pageSpan)
+                            .onFailure().recoverWithUni(Uni.createFrom().nothing());
+                });
+
+        var timedPrimary = primaryRequest
+                .onCancellation().invoke(() -> hedger.recordLatency(System.nanoTime() - startedAt));
+        return Uni.combine().any().of(timedPrimary, hedgeRequest);
+    }
+
+    private Uni<NamedList<Object>> withRetry(
+            ReindexRequest request,
+            ShardTopologyTracker topology,
+            Supplier<Uni<NamedList<Object>>> attempt) {
+        return governor.call(
+                request.tuning().retryPolicy(),
+                attempt,
+                failure -> topology.refresh().onFailure().recoverWithNull());
+    }
+
+    private ModifiableSolrParams rangeReadParams(ReindexRequest request, String sortField, KeyRange range) {
+        var params = baseReadParams(request, sortField);
+        if (range.isBounded()) {
+            params.add(CommonParams.FQ, range.toFilterQuery(sortField));
+        }
+        return params;
     }
 
     ModifiableSolrParams baseReadParams(ReindexRequest request, String sortField) {
@@ -146,11 +677,43 @@ public final class SolrSourceDocumentReader {
         return String.join(",", fields);
     }
 
-    private Uni<NamedList<Object>> requestAsync(SolrRequest<?> request, String collection) {
-        return Uni.createFrom().completionStage(() -> sourceClient.requestAsync(request, collection));
+    private Uni<NamedList<Object>> requestAsync(
+            SolrRequest<?> request,
+            SolrShardLeaderDiscovery.ShardReplica replica,
+            ReplicaSelector replicaSelector,
+            Span parent) {
+        var nodeClient = nodeClients.forBaseUrl(replica.baseUrl());
+        return Uni.createFrom().deferred(() -> {
+            var span = tracing.start(
+                    "solr.query",
+                    SpanKind.CLIENT,
+                    parent,
+                    Attributes.of(
+                            ReindexTracing.SHARD, replica.logicalShard(),
+                            ReindexTracing.NODE, replica.baseUrl(),
+                            ReindexTracing.CORE, replica.coreName()));
+            var startedAt = System.nanoTime();
+            tracing.inject(span, request);
+            var response = Uni.createFrom().completionStage(() -> nodeClient.requestAsync(request, replica.coreName()))
+                    .onItem().invoke(() -> replicaSelector.recordLatency(replica, System.nanoTime() - startedAt))
+                    .onFailure().invoke(() -> replicaSelector.recordFailure(replica));
+            return tracing.endOnTermination(span, response);
+        });
+    }
+
+    private static Supplier<QueryRequest> queryRequest(SolrParams params, ResponseParser parser) {
+        return () -> {
+            var queryRequest = new QueryRequest(params, SolrRequest.METHOD.GET);
+            queryRequest.setResponseParser(parser);
+            return queryRequest;
+        };
     }
 
-    private SolrInputDocument toInputDocument(SolrDocument source) {
+    private int resultCount(NamedList<Object> response) {
+        return response.get("response") instanceof SolrDocumentList results ? results.size() : 0;
+    }
+
+    static SolrInputDocument toInputDocument(SolrDocument source) {
         var target = new SolrInputDocument();
         for (String fieldName : source.getFieldNames()) {
             target.setField(fieldName, source.getFieldValue(fieldName));
@@ -158,6 +721,4 @@ public final class SolrSourceDocumentReader {
         return target;
     }
 
-    private record CursorPage(List<SolrInputDocument> documents, String nextCursorMark, boolean done) {
-    }
 }
@@ -1,12 +1,15 @@
 package com.solrex.reindex.solr;
 
+import com.solrex.reindex.jfr.BatchWriteEvent;
 import com.solrex.reindex.model.ReindexRequest;
+import com.solrex.reindex.tracing.ReindexTracing;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
 import io.smallrye.mutiny.Uni;
 import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.solr.client.solrj.impl.Http2SolrClient;
-import org.apache.solr.client.solrj.request.UpdateRequest;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.util.NamedList;
 
@@ -14,6 +17,12 @@ import org.apache.solr.common.util.NamedList;
 public final class SolrTargetDocumentWriter {
     @NonNull
     private final Http2SolrClient targetClient;
+    @NonNull
+    private final ReindexTracing tracing;
+
+    public SolrTargetDocumentWriter(@NonNull Http2SolrClient targetClient) {
+        this(targetClient, ReindexTracing.noop());
+    }
 
     public Uni<Void> writeBatch(
         @NonNull ReindexRequest request,
@@ -23,11 +32,37 @@ public final class SolrTargetDocumentWriter {
             return Uni.createFrom().voidItem();
         }
 
-        var updateRequest = new UpdateRequest("/update");
+        var updateRequest = new MeasuredUpdateRequest("/update");
         updateRequest.add(batch);
 
-        return Uni.createFrom().completionStage(() -> targetClient.requestAsync(updateRequest, request.target().collection()))
-            .onItem().invoke(this::validateResponse)
+        return Uni.createFrom().deferred(() -> {
+                var span = tracing.startRoot(
+                    "solr.update",
+                    SpanKind.CLIENT,
+                    Attributes.of(
+                        ReindexTracing.COLLECTION, request.target().collection(),
+                        ReindexTracing.NODE, targetClient.getBaseURL(),
+                        ReindexTracing.DOCS, (long) batch.size()
+                    )
+                );
+                tracing.inject(span, updateRequest);
+                var event = new BatchWriteEvent();
+                event.begin();
+                var write = Uni.createFrom()
+                    .completionStage(() -> targetClient.requestAsync(updateRequest, request.target().collection()))
+                    .onItem().invoke(this::validateResponse)
+                    .onTermination().invoke((result, failure, cancelled) -> {
+                        event.end();
+                        if (event.shouldCommit()) {
+                            event.collection = request.target().collection();
+                            event.batchSize = batch.size();
+                            event.bytes = updateRequest.bytesSent();
+                            event.succeeded = failure == null && !cancelled;
+                            event.commit();
+                        }
+                    });
+                return tracing.endOnTermination(span, write);
+            })
             .replaceWithVoid();
     }
 
@@ -0,0 +1,33 @@
+package com.solrex.reindex.solr;
+
+import java.time.Duration;
+import java.util.List;
+import org.apache.solr.common.SolrInputDocument;
+
+public record SourceSample(ShardReadPlan plan, List<SampledPage> pages) {
+    public SourceSample {
+        pages = List.copyOf(pages);
+    }
+
+    public int sampledDocs() {
+        return pages.stream().mapToInt(page -> page.documents().size()).sum();
+    }
+
+    public long sampledBytes() {
+        return pages.stream().mapToLong(SampledPage::bytes).sum();
+    }
+
+    public Duration sampledLatency() {
+        return pages.stream().map(SampledPage::latency).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    public List<SolrInputDocument> documents() {
+        return pages.stream().flatMap(page -> page.documents().stream()).toList();
+    }
+
+    public record SampledPage(String shard, List<SolrInputDocument> documents, long bytes, Duration latency) {
+        public SampledPage {
+            documents = List.copyOf(documents);
+        }
+    }
+}
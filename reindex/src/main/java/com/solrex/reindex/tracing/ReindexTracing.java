@@ -0,0 +1,73 @@
+package com.solrex.reindex.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import org.apache.solr.client.solrj.SolrRequest;
+
+@Singleton
+public final class ReindexTracing {
+    public static final String INSTRUMENTATION_SCOPE = "com.solrex.reindex";
+    public static final AttributeKey<String> COLLECTION = AttributeKey.stringKey("solr.collection");
+    public static final AttributeKey<String> SHARD = AttributeKey.stringKey("solr.shard");
+    public static final AttributeKey<String> NODE = AttributeKey.stringKey("solr.node");
+    public static final AttributeKey<String> CORE = AttributeKey.stringKey("solr.core");
+    public static final AttributeKey<String> STREAM = AttributeKey.stringKey("reindex.stream");
+    public static final AttributeKey<Long> DOCS = AttributeKey.longKey("reindex.docs");
+    private static final TextMapSetter<SolrRequest<?>> HEADER_SETTER = (request, key, value) -> {
+        if (request != null) {
+            request.addHeader(key, value);
+        }
+    };
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+
+    public ReindexTracing(@NonNull OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    public static ReindexTracing noop() {
+        return new ReindexTracing(OpenTelemetry.noop());
+    }
+
+    public Span start(@NonNull String name, @NonNull SpanKind kind, @NonNull Span parent, @NonNull Attributes attributes) {
+        return tracer.spanBuilder(name)
+            .setParent(Context.root().with(parent))
+            .setSpanKind(kind)
+            .setAllAttributes(attributes)
+            .startSpan();
+    }
+
+    public Span startRoot(@NonNull String name, @NonNull SpanKind kind, @NonNull Attributes attributes) {
+        return start(name, kind, Span.getInvalid(), attributes);
+    }
+
+    public <T> Uni<T> endOnTermination(@NonNull Span span, @NonNull Uni<T> uni) {
+        return uni.onTermination().invoke((item, failure, cancelled) -> {
+            if (failure != null) {
+                span.recordException(failure);
+                span.setStatus(StatusCode.ERROR, failure.getClass().getSimpleName());
+            } else if (cancelled) {
+                span.setAttribute("reindex.cancelled", true);
+            }
+            span.end();
+        });
+    }
+
+    public void inject(@NonNull Span span, @NonNull SolrRequest<?> request) {
+        openTelemetry.getPropagators()
+            .getTextMapPropagator()
+            .inject(Context.root().with(span), request, HEADER_SETTER);
+    }
+}
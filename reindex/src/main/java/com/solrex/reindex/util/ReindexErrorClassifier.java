@@ -44,4 +44,37 @@ public final class ReindexErrorClassifier {
 
         return false;
     }
+
+    public static String category(Throwable failure) {
+        var current = failure;
+        while (current != null) {
+            if (current instanceof ConnectException) {
+                return "connect";
+            }
+            if (current instanceof UnknownHostException) {
+                return "dns";
+            }
+            if (current instanceof TimeoutException || current instanceof InterruptedIOException) {
+                return "timeout";
+            }
+            if (current instanceof SSLException) {
+                return "tls";
+            }
+            if (current instanceof SolrException solrException) {
+                var code = solrException.code();
+                if (code == 429) {
+                    return "throttled";
+                }
+                if (code >= 500) {
+                    return "server_error";
+                }
+                return "client_error";
+            }
+            if (current instanceof IOException) {
+                return "io";
+            }
+            current = current.getCause();
+        }
+        return "other";
+    }
 }
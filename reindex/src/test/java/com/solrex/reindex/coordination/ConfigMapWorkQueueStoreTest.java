@@ -0,0 +1,129 @@
+package com.solrex.reindex.coordination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.solrex.reindex.coordination.WorkQueueState.Entry;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+@EnableKubernetesMockClient(crud = true)
+class ConfigMapWorkQueueStoreTest {
+    private static final String NAME = "reindex-queue";
+    private static final List<WorkUnit> UNITS = List.of(
+        new WorkUnit("shard1#0", "shard1", null, "m", 100),
+        new WorkUnit("shard1#1", "shard1", "m", null, 300)
+    );
+
+    KubernetesClient client;
+
+    @Test
+    void shouldRejectWritesBasedOnStaleResourceVersion() {
+        var store = new ConfigMapWorkQueueStore(client, NAME);
+        var state = new WorkQueueState(UNITS.stream().map(Entry::pending).toList());
+        var empty = new WorkQueueState(List.of());
+
+        assertThat(store.read()).isEmpty();
+        assertThat(store.publish(List.of(state))).isTrue();
+        assertThat(store.publish(List.of(state))).isFalse();
+
+        var current = store.read().orElseThrow().getFirst();
+        assertThat(current.state()).isEqualTo(state);
+        assertThat(current.version()).isNotNull();
+        assertThat(store.write(current, empty)).isTrue();
+        assertThat(store.write(current, state)).isFalse();
+        assertThat(store.read().orElseThrow().getFirst().state()).isEqualTo(empty);
+    }
+
+    @Test
+    void shouldKeepEachShardInItsOwnConfigMap() {
+        var store = new ConfigMapWorkQueueStore(client, NAME);
+        client.configMaps().resource(new ConfigMapBuilder().withNewMetadata().withName(NAME).endMetadata().build())
+            .create();
+
+        queue(store, "pod-a").publishIfAbsent(List.of(
+            new WorkUnit("shard1#0", "shard1", null, null, 100),
+            new WorkUnit("shard2#0", "shard2", null, null, 300)
+        ));
+
+        var index = client.configMaps().withName(NAME).get().getData();
+        assertThat(index).containsEntry(ConfigMapWorkQueueStore.PARTITIONS_KEY, "2");
+        var partitions = client.configMaps()
+            .withLabel(ConfigMapWorkQueueStore.PLAN_LABEL, index.get(ConfigMapWorkQueueStore.PLAN_KEY))
+            .list()
+            .getItems();
+        assertThat(partitions).hasSize(2);
+        assertThat(partitions).allSatisfy(configMap ->
+            assertThat(configMap.getData()).containsKey(ConfigMapWorkQueueStore.QUEUE_KEY));
+        assertThat(queue(store, "pod-b").claim()).map(WorkUnit::id).contains("shard2#0");
+        assertThat(queue(store, "pod-c").claim()).map(WorkUnit::id).contains("shard1#0");
+    }
+
+    @Test
+    void shouldRefuseToPublishAShardThatCannotFitInAConfigMap() {
+        var store = new ConfigMapWorkQueueStore(client, NAME);
+        var units = IntStream.range(0, 4_000)
+            .mapToObj(unit -> new WorkUnit("shard1#" + unit, "shard1", "key-" + unit, "key-" + (unit + 1), 1))
+            .toList();
+
+        assertThatThrownBy(() -> queue(store, "pod-a").publishIfAbsent(units))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Refusing to publish work queue");
+        assertThat(store.read()).isEmpty();
+        assertThat(client.configMaps().list().getItems()).isEmpty();
+    }
+
+    @Test
+    void shouldRetryClaimsThatLostAResourceVersionRace() {
+        var rival = queue(new ConfigMapWorkQueueStore(client, NAME), "pod-b");
+        var raced = new AtomicBoolean();
+        var store = new ConfigMapWorkQueueStore(client, NAME);
+        WorkQueueStore racingStore = new WorkQueueStore() {
+            @Override
+            public Optional<List<Partition>> read() {
+                return store.read();
+            }
+
+            @Override
+            public boolean publish(List<WorkQueueState> partitions) {
+                return store.publish(partitions);
+            }
+
+            @Override
+            public boolean write(Partition partition, WorkQueueState state) {
+                if (raced.compareAndSet(false, true)) {
+                    assertThat(rival.claim()).map(WorkUnit::id).contains("shard1#1");
+                }
+                return store.write(partition, state);
+            }
+        };
+        var worker = queue(racingStore, "pod-a");
+
+        assertThat(worker.publishIfAbsent(UNITS)).isTrue();
+        assertThat(worker.claim()).map(WorkUnit::id).contains("shard1#0");
+
+        assertThat(raced).isTrue();
+        assertThat(rival.claim()).isEmpty();
+        assertThat(store.read().orElseThrow().getFirst().state().units())
+            .extracting(Entry::owner)
+            .containsExactly("pod-a", "pod-b");
+    }
+
+    private static WorkQueue queue(WorkQueueStore store, String workerId) {
+        return new WorkQueue(
+            store,
+            new WorkQueue.Settings(workerId, Duration.ofSeconds(30), Duration.ofMillis(20), 1_000, true),
+            Infrastructure.getDefaultWorkerPool(),
+            Clock.systemUTC()
+        );
+    }
+}
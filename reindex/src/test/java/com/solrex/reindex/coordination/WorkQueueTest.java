@@ -0,0 +1,284 @@
+package com.solrex.reindex.coordination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WorkQueueTest {
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final List<WorkUnit> UNITS = List.of(
+        new WorkUnit("shard1#0", "shard1", null, "m", 100),
+        new WorkUnit("shard1#1", "shard1", "m", null, 300),
+        new WorkUnit("shard2#0", "shard2", null, null, 200)
+    );
+
+    @TempDir
+    Path directory;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void shouldPublishOnlyOnceAndHandOutLargestUnitsFirst() {
+        var store = new FileWorkQueueStore(directory.resolve("queue.json"));
+        var first = queue(store, "pod-a");
+        var second = queue(store, "pod-b");
+
+        assertThat(first.publishIfAbsent(UNITS)).isTrue();
+        assertThat(second.publishIfAbsent(List.of(new WorkUnit("other#0", "other", null, null, 1)))).isFalse();
+
+        assertThat(first.claim()).map(WorkUnit::id).contains("shard1#1");
+        assertThat(second.claim()).map(WorkUnit::id).contains("shard2#0");
+        assertThat(second.claim()).map(WorkUnit::id).contains("shard1#0");
+        assertThat(first.claim()).isEmpty();
+        assertThat(first.isSettled()).isFalse();
+    }
+
+    @Test
+    void shouldStealUnitsWhoseLeaseExpired() {
+        var store = new FileWorkQueueStore(directory.resolve("queue.json"));
+        var crashed = queue(store, "pod-a");
+        var survivor = queue(store, "pod-b");
+        crashed.publishIfAbsent(List.of(UNITS.getFirst()));
+
+        assertThat(crashed.claim()).isPresent();
+        assertThat(survivor.claim()).isEmpty();
+
+        clock.advance(LEASE.plusSeconds(1));
+        assertThat(survivor.claim()).map(WorkUnit::id).contains("shard1#0");
+        assertThat(crashed.markRead("shard1#0")).isFalse();
+        assertThat(survivor.markRead("shard1#0")).isTrue();
+    }
+
+    @Test
+    void shouldKeepRenewedLeasesUntilReadUnitsAreCompleted() {
+        var store = new FileWorkQueueStore(directory.resolve("queue.json"));
+        var owner = queue(store, "pod-a");
+        var other = queue(store, "pod-b");
+        owner.publishIfAbsent(List.of(UNITS.getFirst()));
+        owner.claim();
+
+        clock.advance(Duration.ofSeconds(20));
+        assertThat(owner.renew()).isEqualTo(1);
+        clock.advance(Duration.ofSeconds(20));
+        assertThat(other.claim()).isEmpty();
+        assertThat(owner.isSettled()).isTrue();
+        assertThat(other.isSettled()).isFalse();
+
+        owner.markRead("shard1#0");
+        assertThat(other.isSettled()).isTrue();
+        assertThat(owner.completeRead()).isEqualTo(1);
+
+        clock.advance(LEASE.multipliedBy(2));
+        assertThat(other.claim()).isEmpty();
+        assertThat(other.isSettled()).isTrue();
+    }
+
+    @Test
+    void shouldRejectWritesBasedOnStaleVersion() {
+        var store = new FileWorkQueueStore(directory.resolve("queue.json"));
+        var state = new WorkQueueState(List.of());
+        var other = new WorkQueueState(List.of(WorkQueueState.Entry.pending(UNITS.getFirst())));
+
+        assertThat(store.publish(List.of(state, state))).isTrue();
+        assertThat(store.publish(List.of(other))).isFalse();
+        var current = store.read().orElseThrow();
+        assertThat(store.write(current.getFirst(), other)).isTrue();
+        assertThat(store.write(current.getFirst(), state)).isFalse();
+        assertThat(store.write(current.getLast(), other)).isTrue();
+        assertThat(store.read().orElseThrow())
+            .extracting(WorkQueueStore.Partition::state)
+            .containsExactly(other, other);
+    }
+
+    @Test
+    void shouldPartitionThePlanByShard() {
+        var store = new FileWorkQueueStore(directory.resolve("queue.json"));
+
+        queue(store, "pod-a").publishIfAbsent(UNITS);
+
+        assertThat(store.read().orElseThrow())
+            .extracting(partition -> partition.state().units().stream().map(entry -> entry.unit().id()).toList())
+            .containsExactly(List.of("shard1#0", "shard1#1"), List.of("shard2#0"));
+    }
+
+    @Test
+    void shouldStreamEveryUnitOnceAndCompleteThemAfterTheRun() {
+        var store = new FileWorkQueueStore(directory.resolve("queue.json"));
+        try (var first = queue(store, "pod-a", true); var second = queue(store, "pod-b", false)) {
+            var scheduler = new WorkQueueScheduler(first, () -> {
+            });
+            scheduler.publish(() -> Uni.createFrom().item(UNITS)).await().atMost(TIMEOUT);
+
+            var read = scheduler.stream(2, unit -> Multi.createFrom().item(unit.id()))
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+            assertThat(read).containsExactlyInAnyOrder("shard1#0", "shard1#1", "shard2#0");
+            assertThat(second.claim()).isEmpty();
+            assertThat(second.isSettled()).isTrue();
+            assertThat(first.completeRead()).isEqualTo(3);
+            assertThat(second.completeRead()).isZero();
+        }
+    }
+
+    @Test
+    void shouldWaitForExpiredLeasesAndReclaimThem() throws Exception {
+        var store = new FileWorkQueueStore(directory.resolve("queue.json"));
+        try (var crashed = queue(store, "pod-a", true); var survivor = queue(store, "pod-b", false)) {
+            crashed.publishIfAbsent(List.of(UNITS.getFirst()));
+            assertThat(crashed.claim()).isPresent();
+
+            var waiting = new CountDownLatch(1);
+            var read = new WorkQueueScheduler(survivor, waiting::countDown)
+                .stream(1, unit -> Multi.createFrom().item(unit.id()))
+                .collect().asList()
+                .subscribeAsCompletionStage();
+
+            assertThat(waiting.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(read).isNotDone();
+
+            clock.advance(LEASE.plusSeconds(1));
+
+            assertThat(read.get(5, TimeUnit.SECONDS)).containsExactly("shard1#0");
+            assertThat(crashed.markRead("shard1#0")).isFalse();
+            assertThat(survivor.completeRead()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldLeavePlanningToThePlannerPod() throws Exception {
+        var store = new FileWorkQueueStore(directory.resolve("queue.json"));
+        try (var planner = queue(store, "pod-a", true); var follower = queue(store, "pod-b", false)) {
+            var followerPlanned = new AtomicBoolean();
+            var waiting = new CountDownLatch(1);
+            var joined = new WorkQueueScheduler(follower, waiting::countDown)
+                .publish(() -> {
+                    followerPlanned.set(true);
+                    return Uni.createFrom().item(UNITS);
+                })
+                .subscribeAsCompletionStage();
+
+            assertThat(waiting.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(joined).isNotDone();
+            assertThat(follower.isPublished()).isFalse();
+
+            new WorkQueueScheduler(planner, () -> {
+            }).publish(() -> Uni.createFrom().item(UNITS)).await().atMost(TIMEOUT);
+
+            joined.get(5, TimeUnit.SECONDS);
+            assertThat(followerPlanned).isFalse();
+            assertThat(follower.claim()).map(WorkUnit::id).contains("shard1#1");
+        }
+    }
+
+    @Test
+    void shouldBackOffAndRetryConflictingWrites() {
+        var store = new ConflictingStore(new FileWorkQueueStore(directory.resolve("queue.json")), 3);
+        var worker = queue(store, "pod-a");
+
+        assertThat(worker.publishIfAbsent(UNITS)).isTrue();
+        assertThat(worker.claim()).map(WorkUnit::id).contains("shard1#1");
+        assertThat(store.rejected.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepPollingWhenClaimsKeepConflicting() throws Exception {
+        var delegate = new FileWorkQueueStore(directory.resolve("queue.json"));
+        queue(delegate, "pod-a").publishIfAbsent(UNITS);
+        var store = new ConflictingStore(delegate, Integer.MAX_VALUE);
+        var worker = queue(store, "pod-b");
+
+        assertThatThrownBy(worker::claim).isInstanceOf(WorkQueueConflictException.class);
+
+        var waiting = new CountDownLatch(1);
+        var next = new WorkQueueScheduler(worker, waiting::countDown).next().subscribeAsCompletionStage();
+
+        assertThat(waiting.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(next).isNotDone();
+        next.cancel(true);
+    }
+
+    private WorkQueue queue(WorkQueueStore store, String workerId) {
+        return queue(store, workerId, true);
+    }
+
+    private WorkQueue queue(WorkQueueStore store, String workerId, boolean planner) {
+        return new WorkQueue(
+            store,
+            new WorkQueue.Settings(workerId, LEASE, Duration.ofMillis(20), 1_000, planner),
+            Infrastructure.getDefaultWorkerPool(),
+            clock
+        );
+    }
+
+    private static final class ConflictingStore implements WorkQueueStore {
+        private final WorkQueueStore delegate;
+        private final int conflicts;
+        private final AtomicInteger rejected = new AtomicInteger();
+
+        private ConflictingStore(WorkQueueStore delegate, int conflicts) {
+            this.delegate = delegate;
+            this.conflicts = conflicts;
+        }
+
+        @Override
+        public Optional<List<Partition>> read() {
+            return delegate.read();
+        }
+
+        @Override
+        public boolean publish(List<WorkQueueState> partitions) {
+            return delegate.publish(partitions);
+        }
+
+        @Override
+        public boolean write(Partition partition, WorkQueueState state) {
+            if (rejected.get() < conflicts) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            return delegate.write(partition, state);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.solrex.reindex.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlightRecordingTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-02-18T16:25:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path dumpDirectory;
+
+    @Test
+    void shouldDumpReindexEventsOnFailure() throws Exception {
+        Path dump;
+        try (var recording = FlightRecording.start(
+            new FlightRecording.Settings(true, dumpDirectory, Duration.ofMinutes(5)),
+            CLOCK
+        )) {
+            var page = new CursorPageEvent();
+            page.begin();
+            page.shard = "shard1";
+            page.stream = "shard1";
+            page.pageSize = 500;
+            page.bytes = 65_536;
+            page.commit();
+
+            var write = new BatchWriteEvent();
+            write.begin();
+            write.collection = "target_collection";
+            write.batchSize = 500;
+            write.succeeded = false;
+            write.commit();
+
+            dump = recording.dumpOnFailure();
+        }
+
+        assertThat(dump).isEqualTo(dumpDirectory.resolve("reindex-20260218-162500.jfr"));
+        var events = RecordingFile.readAllEvents(dump);
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("com.solrex.reindex.CursorPage"))
+            .singleElement()
+            .satisfies(event -> {
+                assertThat(event.getString("shard")).isEqualTo("shard1");
+                assertThat(event.getInt("pageSize")).isEqualTo(500);
+                assertThat(event.getLong("bytes")).isEqualTo(65_536);
+            });
+        assertThat(events)
+            .extracting(RecordedEvent::getEventType)
+            .extracting(type -> type.getName())
+            .contains("com.solrex.reindex.BatchWrite");
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabled() {
+        try (var recording = FlightRecording.start(FlightRecording.Settings.disabled(), CLOCK)) {
+            assertThat(recording.enabled()).isFalse();
+            assertThat(recording.dumpOnFailure()).isNull();
+        }
+    }
+}
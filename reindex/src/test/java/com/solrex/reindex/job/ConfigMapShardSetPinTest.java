@@ -0,0 +1,71 @@
+package com.solrex.reindex.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+@EnableKubernetesMockClient(crud = true)
+class ConfigMapShardSetPinTest {
+    private static final String NAME = "reindex-job-tuning";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    KubernetesClient client;
+
+    @Test
+    void shouldPublishPodZerosShardSetAndKeepTheTuning() {
+        tuningConfigMap();
+
+        var pinned = pin(true).pin(List.of("shard1", "shard2")).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(pinned).containsExactly("shard1", "shard2");
+        var data = client.configMaps().withName(NAME).get().getData();
+        assertThat(data).containsEntry(ConfigMapShardSetPin.SHARDS_KEY, "shard1,shard2");
+        assertThat(data).containsEntry(TuningConfigMapWatcher.TUNING_KEY, "paused: false");
+    }
+
+    @Test
+    void shouldKeepAnAlreadyPinnedShardSet() {
+        tuningConfigMap();
+        pin(true).pin(List.of("shard1", "shard2")).await().atMost(Duration.ofSeconds(5));
+
+        var pinned = pin(true).pin(List.of("shard1", "shard2_0", "shard2_1")).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(pinned).containsExactly("shard1", "shard2");
+    }
+
+    @Test
+    void shouldWaitForPodZeroBeforeOtherPodsAssignShards() {
+        tuningConfigMap();
+        var waiting = pin(false).pin(List.of("shard1", "shard2_0", "shard2_1")).subscribeAsCompletionStage();
+
+        assertThat(waiting).isNotDone();
+        pin(true).pin(List.of("shard1", "shard2")).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(waiting).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(List.of("shard1", "shard2"));
+    }
+
+    @Test
+    void shouldRefuseToPinWithoutTheConfigMap() {
+        assertThatThrownBy(() -> pin(true).pin(List.of("shard1")).await().atMost(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(NAME);
+    }
+
+    private ConfigMapShardSetPin pin(boolean publisher) {
+        return new ConfigMapShardSetPin(client, NAME, publisher, POLL_INTERVAL);
+    }
+
+    private void tuningConfigMap() {
+        client.configMaps().resource(new ConfigMapBuilder()
+                .withNewMetadata().withName(NAME).endMetadata()
+                .addToData(TuningConfigMapWatcher.TUNING_KEY, "paused: false")
+                .build())
+            .create();
+    }
+}
@@ -1,5 +1,6 @@
 package com.solrex.reindex.job;
 
+import static com.solrex.reindex.test.ReindexJobConfigFixtures.jobConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -52,17 +53,7 @@ class DeploymentRequestExamplesTest {
     }
 
     private ReindexRequestConfigProducer producer(String requestYaml) {
-        var config = new ReindexJobConfig() {
-            @Override
-            public String request() {
-                return requestYaml;
-            }
-
-            @Override
-            public Duration timeout() {
-                return Duration.ofMinutes(5);
-            }
-        };
+        var config = jobConfig(requestYaml, Duration.ofMinutes(5));
         return new ReindexRequestConfigProducer(config, validator);
     }
 
@@ -0,0 +1,87 @@
+package com.solrex.reindex.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.solr.ShardReadPlan;
+import com.solrex.reindex.solr.SourceSample;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.jupiter.api.Test;
+
+class ReindexEstimatorTest {
+    private static final SourceSample SAMPLE = new SourceSample(
+        new ShardReadPlan(
+            "source_collection",
+            List.of(
+                new ShardReadPlan.PlannedShard("shard1", "80000000-ffffffff", 3_000_000),
+                new ShardReadPlan.PlannedShard("shard2", "0-7fffffff", 1_000_000)
+            ),
+            List.of()
+        ),
+        List.of(page("shard1"), page("shard2"))
+    );
+
+    @Test
+    void shouldSizeTuningFromSampledDocsAndProbeBatch() {
+        var plan = ReindexEstimator.estimate(
+            ReindexTuning.DEFAULT,
+            SAMPLE,
+            Optional.of(new ReindexEstimator.Probe(1_000, Duration.ofMillis(500)))
+        );
+
+        assertThat(plan.estimatedDocs()).isEqualTo(4_000_000);
+        assertThat(plan.sampledDocs()).isEqualTo(1_000);
+        assertThat(plan.averageDocBytes()).isEqualTo(1_024);
+        assertThat(plan.averagePageLatency()).isEqualTo(Duration.ofMillis(250));
+        assertThat(plan.recommendedTuning().readPageSize()).isEqualTo(4_096);
+        assertThat(plan.recommendedTuning().writeBatchSize()).isEqualTo(ReindexEstimator.MAX_BATCH_SIZE);
+        assertThat(plan.recommendedTuning().readConcurrency()).isEqualTo(4);
+        assertThat(plan.recommendedTuning().writeConcurrency()).isEqualTo(4);
+        assertThat(plan.readDocsPerSecond()).isEqualTo(8_000.0);
+        assertThat(plan.writeDocsPerSecond()).isEqualTo(8_000.0);
+        assertThat(plan.estimatedDuration()).isEqualTo(Duration.ofSeconds(500));
+        assertThat(plan.estimatedHeapBytes())
+            .isEqualTo(ReindexTuning.BASE_HEAP_BYTES + (4L * 4_096 + 36L * 2_000) * 1_024 * 4);
+    }
+
+    @Test
+    void shouldKeepConfiguredWriteConcurrencyAndHonourRateLimitWithoutProbe() {
+        var tuning = new ReindexTuning(500, 200, 6, RetryPolicy.defaults(), null, 0, null, 1_000);
+
+        var plan = ReindexEstimator.estimate(tuning, SAMPLE, Optional.empty());
+
+        assertThat(plan.probeBatchLatency()).isNull();
+        assertThat(plan.writeDocsPerSecond()).isNull();
+        assertThat(plan.recommendedTuning().writeConcurrency()).isEqualTo(6);
+        assertThat(plan.recommendedTuning().maxDocsPerSecond()).isEqualTo(1_000);
+        assertThat(plan.estimatedDuration()).isEqualTo(Duration.ofSeconds(4_000));
+    }
+
+    @Test
+    void shouldKeepConfiguredPageSizesWhenNothingWasSampled() {
+        var empty = new SourceSample(SAMPLE.plan(), List.of());
+
+        var plan = ReindexEstimator.estimate(ReindexTuning.DEFAULT, empty, Optional.empty());
+
+        assertThat(plan.recommendedTuning().readPageSize()).isEqualTo(ReindexTuning.DEFAULT.readPageSize());
+        assertThat(plan.recommendedTuning().writeBatchSize()).isEqualTo(ReindexTuning.DEFAULT.writeBatchSize());
+        assertThat(plan.averagePageLatency()).isNull();
+        assertThat(plan.estimatedDuration()).isNull();
+    }
+
+    private static SourceSample.SampledPage page(String shard) {
+        var documents = IntStream.range(0, 500)
+            .mapToObj(i -> {
+                var document = new SolrInputDocument();
+                document.setField("id", shard + "-" + i);
+                return document;
+            })
+            .toList();
+        return new SourceSample.SampledPage(shard, documents, 512_000, Duration.ofMillis(250));
+    }
+}
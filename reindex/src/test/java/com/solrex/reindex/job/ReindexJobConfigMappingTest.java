@@ -16,5 +16,23 @@ class ReindexJobConfigMappingTest {
     void shouldExposeDefaultJobConfigValues() {
         assertThat(config.request()).contains("source:").contains("target:").contains("fields:");
         assertThat(config.timeout()).isEqualTo(Duration.ofMinutes(15));
+        assertThat(config.idleTimeout()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(config.shardStallTimeout()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(config.topologyRefreshInterval()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(config.progressLogInterval()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(config.summaryFile()).isEmpty();
+        assertThat(config.tuningConfigMap()).isEmpty();
+        assertThat(config.completionIndex()).isEmpty();
+        assertThat(config.flightRecorder().enabled()).isFalse();
+        assertThat(config.flightRecorder().dumpDirectory()).isEqualTo("/tmp");
+        assertThat(config.flightRecorder().maxAge()).isEqualTo(Duration.ofMinutes(15));
+        assertThat(config.coordination().configMap()).isEmpty();
+        assertThat(config.coordination().file()).isEmpty();
+        assertThat(config.coordination().leaseDuration()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(config.coordination().pollInterval()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(config.coordination().unitDocs()).isEqualTo(100_000);
+        assertThat(config.dryRun().enabled()).isFalse();
+        assertThat(config.dryRun().samplePages()).isEqualTo(3);
+        assertThat(config.dryRun().probeCollection()).isEmpty();
     }
 }
@@ -1,9 +1,12 @@
 package com.solrex.reindex.job;
 
+import static com.solrex.reindex.test.ReindexJobConfigFixtures.jobConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static com.solrex.reindex.test.ReindexRequestFixtures.requestYamlUsingDefaults;
 
+import com.solrex.reindex.metrics.ReindexMetrics;
 import com.solrex.reindex.solr.SolrClientFactory;
+import com.solrex.reindex.tracing.ReindexTracing;
 import jakarta.validation.Validation;
 import java.time.Duration;
 import org.junit.jupiter.api.Test;
@@ -16,22 +19,31 @@ class ReindexJobRunnerTest {
         var request = new ReindexRequestConfigProducer(config, validator).reindexRequest();
         var service = new ReindexService(new SolrClientFactory(), validator);
 
-        var runner = new ReindexJobRunner(service, request, config);
+        var tuningWatcher = new TuningConfigMapWatcher(() -> {
+            throw new AssertionError("No tuning ConfigMap is configured");
+        }, config, request, validator);
+        var workQueueFactory = new WorkQueueFactory(() -> {
+            throw new AssertionError("No work queue ConfigMap is configured");
+        }, config);
+        var shardSetPinFactory = new ShardSetPinFactory(() -> {
+            throw new AssertionError("A single-pod run does not pin its shard set");
+        }, config);
+
+        var runner = new ReindexJobRunner(
+            service,
+            request,
+            config,
+            ReindexMetrics.noop(),
+            ReindexTracing.noop(),
+            tuningWatcher,
+            workQueueFactory,
+            shardSetPinFactory
+        );
 
         assertThat(runner.run()).isEqualTo(1);
     }
 
     private ReindexJobConfig config(String requestYaml) {
-        return new ReindexJobConfig() {
-            @Override
-            public String request() {
-                return requestYaml;
-            }
-
-            @Override
-            public Duration timeout() {
-                return Duration.ofSeconds(5);
-            }
-        };
+        return jobConfig(requestYaml, Duration.ofSeconds(5));
     }
 }
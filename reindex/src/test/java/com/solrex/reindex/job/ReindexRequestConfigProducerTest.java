@@ -1,5 +1,6 @@
 package com.solrex.reindex.job;
 
+import static com.solrex.reindex.test.ReindexJobConfigFixtures.jobConfig;
 import static com.solrex.reindex.test.ReindexRequestFixtures.requestYamlUsingDefaults;
 import static com.solrex.reindex.test.ReindexRequestFixtures.requestYamlWithUnsupportedProperty;
 import static com.solrex.reindex.test.ReindexRequestFixtures.requestYamlWithoutFields;
@@ -8,6 +9,7 @@ import static com.solrex.reindex.test.ReindexRequestFixtures.requestYamlWithoutT
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.solrex.reindex.model.ReindexTuning;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -27,6 +29,10 @@ class ReindexRequestConfigProducerTest {
         assertThat(request.tuning().readPageSize()).isEqualTo(100);
         assertThat(request.tuning().writeBatchSize()).isEqualTo(80);
         assertThat(request.tuning().writeConcurrency()).isEqualTo(3);
+        assertThat(request.tuning().readConcurrency()).isEqualTo(32);
+        assertThat(request.tuning().hedgePolicy().enabled()).isTrue();
+        assertThat(request.tuning().hedgePolicy().delayPercentile()).isEqualTo(0.99);
+        assertThat(request.tuning().hedgePolicy().maxHedgeRatio()).isEqualTo(0.05);
         assertThat(request.tuning().retryPolicy().maxRetries()).isEqualTo(4);
     }
 
@@ -36,6 +42,8 @@ class ReindexRequestConfigProducerTest {
 
         assertThat(request.fields()).containsExactly("id");
         assertThat(request.tuning().readPageSize()).isEqualTo(500);
+        assertThat(request.tuning().readConcurrency()).isEqualTo(ReindexTuning.DEFAULT_READ_CONCURRENCY);
+        assertThat(request.tuning().hedgePolicy().enabled()).isFalse();
         assertThat(request.tuning().retryPolicy().maxRetries()).isEqualTo(3);
     }
 
@@ -75,17 +83,7 @@ class ReindexRequestConfigProducerTest {
     }
 
     private ReindexRequestConfigProducer producer(String requestYaml) {
-        var config = new ReindexJobConfig() {
-            @Override
-            public String request() {
-                return requestYaml;
-            }
-
-            @Override
-            public Duration timeout() {
-                return Duration.ofSeconds(5);
-            }
-        };
+        var config = jobConfig(requestYaml, Duration.ofSeconds(5));
         return new ReindexRequestConfigProducer(config, validator);
     }
 
@@ -112,6 +110,10 @@ class ReindexRequestConfigProducerTest {
               readPageSize: 100
               writeBatchSize: 80
               writeConcurrency: 3
+              readConcurrency: 32
+              hedgePolicy:
+                enabled: true
+                delayPercentile: 0.99
               retryPolicy:
                 maxRetries: 4
                 initialBackoff: PT0.2S
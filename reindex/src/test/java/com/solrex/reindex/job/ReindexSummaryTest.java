@@ -0,0 +1,78 @@
+package com.solrex.reindex.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solrex.reindex.model.LatencySummary;
+import com.solrex.reindex.model.PhaseTimings;
+import com.solrex.reindex.model.ReindexPlan;
+import com.solrex.reindex.model.ReindexResult;
+import com.solrex.reindex.model.ReindexStats;
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.model.ShardReadStats;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReindexSummaryTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRenderResultAsSingleLineJson() throws Exception {
+        var result = new ReindexResult(
+            new ReindexStats(100, 100, 2, 1, Duration.ofSeconds(3)),
+            new PhaseTimings(Duration.ofMillis(200), Duration.ofMillis(2500), Duration.ofMillis(300)),
+            8192,
+            4096,
+            new LatencySummary(4, Duration.ofMillis(20), Duration.ofMillis(40), Duration.ofMillis(45), Duration.ofMillis(45)),
+            LatencySummary.EMPTY,
+            List.of(new ShardReadStats("shard1", 100, 4, Duration.ofMillis(2400)))
+        );
+
+        var json = ReindexSummary.toJson(result);
+        var tree = new ObjectMapper().readTree(json);
+
+        assertThat(json).doesNotContain("\n");
+        assertThat(tree.at("/stats/docsIndexed").asLong()).isEqualTo(100);
+        assertThat(tree.at("/stats/elapsed").asText()).isEqualTo("PT3S");
+        assertThat(tree.at("/phases/streaming").asText()).isEqualTo("PT2.5S");
+        assertThat(tree.at("/bytesRead").asLong()).isEqualTo(8192);
+        assertThat(tree.at("/pageLatency/p95").asText()).isEqualTo("PT0.04S");
+        assertThat(tree.at("/shards/0/shard").asText()).isEqualTo("shard1");
+        assertThat(tree.at("/shards/0/pages").asLong()).isEqualTo(4);
+
+        var file = directory.resolve("summary/reindex.json");
+        ReindexSummary.write(file, json);
+        assertThat(Files.readString(file)).isEqualToIgnoringNewLines(json);
+    }
+
+    @Test
+    void shouldRenderPlanAsSingleLineJson() throws Exception {
+        var plan = new ReindexPlan(
+            "source_collection",
+            2,
+            4_000_000,
+            List.of("shard3(inactive)"),
+            1_000,
+            1_024,
+            Duration.ofMillis(250),
+            null,
+            8_000.0,
+            null,
+            Duration.ofSeconds(500),
+            512L * 1024 * 1024,
+            ReindexTuning.DEFAULT
+        );
+
+        var tree = new ObjectMapper().readTree(ReindexSummary.toJson(plan));
+
+        assertThat(tree.at("/estimatedDuration").asText()).isEqualTo("PT8M20S");
+        assertThat(tree.at("/skippedShards/0").asText()).isEqualTo("shard3(inactive)");
+        assertThat(tree.at("/recommendedTuning/writeBatchSize").asInt()).isEqualTo(200);
+        assertThat(tree.at("/writeDocsPerSecond").isNull()).isTrue();
+    }
+}
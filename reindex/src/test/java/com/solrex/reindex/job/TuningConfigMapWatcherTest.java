@@ -0,0 +1,86 @@
+package com.solrex.reindex.job;
+
+import static com.solrex.reindex.test.ReindexJobConfigFixtures.jobConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.model.TuningOverride;
+import com.solrex.reindex.pipeline.LiveTuning;
+import com.solrex.reindex.test.ReindexRequestFixtures;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class TuningConfigMapWatcherTest {
+    private static final String CONFIG_MAP = "reindex-job-tuning";
+
+    private final TuningConfigMapWatcher watcher = new TuningConfigMapWatcher(
+        () -> {
+            throw new AssertionError("Kubernetes client must not be used");
+        },
+        jobConfig("", Duration.ofSeconds(5)),
+        ReindexRequestFixtures.requestWithRetryPolicy(RetryPolicy.defaults()),
+        Validation.buildDefaultValidatorFactory().getValidator()
+    );
+    private final LiveTuning liveTuning = new LiveTuning();
+
+    @Test
+    void shouldApplyValidTuningFromConfigMap() {
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("""
+            writeBatchSize: 2
+            writeConcurrency: 3
+            maxDocsPerSecond: 20000
+            paused: true
+            """));
+
+        assertThat(liveTuning.override()).isEqualTo(new TuningOverride(2, 3, 20_000, true));
+        assertThat(liveTuning.paused()).isTrue();
+    }
+
+    @Test
+    void shouldRejectTuningThatViolatesRequestConstraints() {
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("writeConcurrency: 2"));
+
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("writeConcurrency: 0"));
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("maxDocsPerSecond: -1"));
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("readPageSize: 10"));
+
+        assertThat(liveTuning.override()).isEqualTo(new TuningOverride(null, 2, null, null));
+    }
+
+    @Test
+    void shouldRejectTuningAboveWhatThePodWasSizedFor() {
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("writeConcurrency: 2"));
+
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("writeConcurrency: 5"));
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("writeBatchSize: 500"));
+
+        assertThat(liveTuning.override()).isEqualTo(new TuningOverride(null, 2, null, null));
+    }
+
+    @Test
+    void shouldRevertToRequestTuningWhenConfigMapIsDeleted() {
+        watcher.apply(liveTuning, CONFIG_MAP, configMap("paused: true"));
+
+        watcher.apply(liveTuning, CONFIG_MAP, null);
+
+        assertThat(liveTuning.override()).isEqualTo(TuningOverride.NONE);
+        assertThat(liveTuning.paused()).isFalse();
+    }
+
+    @Test
+    void shouldNotWatchWhenNoTuningConfigMapIsConfigured() {
+        try (var watch = watcher.watch(liveTuning)) {
+            assertThat(watch).isNotNull();
+        }
+    }
+
+    private static ConfigMap configMap(String tuningYaml) {
+        return new ConfigMapBuilder()
+            .withNewMetadata().withName(CONFIG_MAP).endMetadata()
+            .addToData(TuningConfigMapWatcher.TUNING_KEY, tuningYaml)
+            .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.solrex.reindex.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.solrex.reindex.model.LatencySummary;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    @Test
+    void shouldEstimatePercentilesWithinBucketResolution() {
+        var histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(Duration.ofMillis(millis).toNanos());
+        }
+
+        var summary = histogram.summary();
+
+        assertThat(summary.count()).isEqualTo(100);
+        assertThat(summary.p50().toNanos()).isCloseTo(Duration.ofMillis(50).toNanos(), within(2_500_000L));
+        assertThat(summary.p95().toNanos()).isCloseTo(Duration.ofMillis(95).toNanos(), within(4_750_000L));
+        assertThat(summary.p99().toNanos()).isCloseTo(Duration.ofMillis(99).toNanos(), within(4_950_000L));
+        assertThat(summary.max()).isEqualTo(Duration.ofMillis(100));
+        assertThat(summary.p99()).isLessThanOrEqualTo(summary.max());
+    }
+
+    @Test
+    void shouldReturnEmptySummaryWithoutSamples() {
+        assertThat(new LatencyHistogram().summary()).isEqualTo(LatencySummary.EMPTY);
+    }
+}
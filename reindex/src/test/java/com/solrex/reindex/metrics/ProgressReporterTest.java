@@ -0,0 +1,74 @@
+package com.solrex.reindex.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ProgressReporterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReindexMetrics metrics = new ReindexMetrics(registry);
+    private final AtomicLong now = new AtomicLong();
+    private final ProgressReporter reporter = new ProgressReporter(
+        metrics,
+        Duration.ofSeconds(30),
+        Infrastructure.getDefaultWorkerPool(),
+        now::get
+    );
+
+    @Test
+    void shouldEstimateRemainingTimeOverallAndPerShard() {
+        metrics.shardPlanned("shard1", 1_000);
+        metrics.shardPlanned("shard2", 1_000);
+        reporter.sample();
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        metrics.docsRead("shard1", 500);
+        metrics.docsRead("shard2", 100);
+        metrics.docsWritten("target_collection", 400);
+        var progress = reporter.sample();
+
+        assertThat(progress.done()).isEqualTo(400);
+        assertThat(progress.total()).isEqualTo(2_000);
+        assertThat(progress.percent()).isEqualTo(20.0);
+        assertThat(progress.docsPerSecond()).isEqualTo(40.0);
+        assertThat(progress.eta()).isEqualTo(Duration.ofSeconds(40));
+        assertThat(progress.shards())
+            .extracting(ProgressReporter.ShardEta::shard, ProgressReporter.ShardEta::eta)
+            .containsExactly(
+                tuple("shard1", Duration.ofSeconds(10)),
+                tuple("shard2", Duration.ofSeconds(90))
+            );
+
+        assertThat(registry.get(ReindexMetrics.PROGRESS).gauge().value()).isEqualTo(0.2);
+        assertThat(registry.get(ReindexMetrics.THROUGHPUT).gauge().value()).isEqualTo(40.0);
+        assertThat(registry.get(ReindexMetrics.DOCS_PLANNED).gauge().value()).isEqualTo(2_000.0);
+        assertThat(registry.get(ReindexMetrics.SHARD_ETA).tag("shard", "shard2").gauge().value()).isEqualTo(90.0);
+    }
+
+    @Test
+    void shouldSmoothThroughputAndLeaveEtaUnknownWhileStalled() {
+        metrics.shardPlanned("shard1", 1_000);
+        reporter.sample();
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        metrics.docsWritten("target_collection", 100);
+        assertThat(reporter.sample().docsPerSecond()).isEqualTo(10.0);
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        metrics.docsWritten("target_collection", 300);
+        assertThat(reporter.sample().docsPerSecond()).isCloseTo(16.0, offset(1e-9));
+
+        var stalled = new ProgressReporter(metrics, Duration.ofSeconds(30), Infrastructure.getDefaultWorkerPool(), now::get);
+        stalled.sample();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        var progress = stalled.sample();
+        assertThat(progress.docsPerSecond()).isZero();
+        assertThat(progress.eta()).isNull();
+    }
+}
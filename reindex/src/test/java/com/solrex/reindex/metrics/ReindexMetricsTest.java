@@ -0,0 +1,58 @@
+package com.solrex.reindex.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ReindexMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReindexMetrics metrics = new ReindexMetrics(registry);
+
+    @Test
+    void shouldCountDocumentsPerShardAndCollection() {
+        metrics.docsRead("shard1", 10);
+        metrics.docsRead("shard1", 5);
+        metrics.docsRead("shard2", 3);
+        metrics.docsWritten("target_collection", 18);
+
+        assertThat(registry.get(ReindexMetrics.DOCS_READ).tag("shard", "shard1").counter().count()).isEqualTo(15);
+        assertThat(registry.get(ReindexMetrics.DOCS_READ).tag("shard", "shard2").counter().count()).isEqualTo(3);
+        assertThat(registry.get(ReindexMetrics.DOCS_WRITTEN).tag("collection", "target_collection").counter().count())
+            .isEqualTo(18);
+    }
+
+    @Test
+    void shouldRecordLatenciesRetriesAndBytes() {
+        metrics.pageFetched("shard1", Duration.ofMillis(40).toNanos());
+        metrics.batchWritten("success", Duration.ofMillis(120).toNanos());
+        metrics.batchWritten("failure", Duration.ofMillis(900).toNanos());
+        metrics.retry("http://solr-b:8983/solr", "timeout");
+        metrics.retry("http://solr-b:8983/solr", "timeout");
+        metrics.bytesSent(2048);
+        metrics.bytesReceived(512);
+
+        var pageTimer = registry.get(ReindexMetrics.PAGE_FETCH).tag("shard", "shard1").timer();
+        assertThat(pageTimer.count()).isEqualTo(1);
+        assertThat(pageTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+        assertThat(registry.get(ReindexMetrics.BATCH_WRITE).tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(registry.get(ReindexMetrics.RETRIES).tag("category", "timeout").counter().count()).isEqualTo(2);
+        assertThat(registry.get(ReindexMetrics.BYTES).tag("direction", "sent").counter().count()).isEqualTo(2048);
+        assertThat(registry.get(ReindexMetrics.BYTES).tag("direction", "received").counter().count()).isEqualTo(512);
+    }
+
+    @Test
+    void shouldExposePipelineGauges() {
+        var buffered = new AtomicLong(250);
+        var inFlight = new AtomicLong(3);
+
+        metrics.bindPipeline(buffered::get, inFlight::get);
+        buffered.set(100);
+
+        assertThat(registry.get(ReindexMetrics.DOCS_BUFFERED).gauge().value()).isEqualTo(100);
+        assertThat(registry.get(ReindexMetrics.BATCHES_IN_FLIGHT).gauge().value()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,44 @@
+package com.solrex.reindex.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.PhaseTimings;
+import com.solrex.reindex.model.ReindexStats;
+import com.solrex.reindex.model.ShardReadStats;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RunStatsRecorderTest {
+    private final AtomicLong now = new AtomicLong(Duration.ofSeconds(10).toNanos());
+    private final RunStatsRecorder recorder = new RunStatsRecorder(now::get);
+
+    @Test
+    void shouldBreakDownReadsPerShardAndTotalBytes() {
+        recorder.pageFetched("shard2", Duration.ofMillis(200).toNanos());
+        recorder.pageRead("shard2", 500);
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        recorder.pageFetched("shard2", Duration.ofMillis(300).toNanos());
+        recorder.pageRead("shard2", 120);
+        recorder.pageFetched("shard1", Duration.ofMillis(100).toNanos());
+        recorder.pageRead("shard1", 80);
+        recorder.batchWritten(Duration.ofMillis(50).toNanos());
+        recorder.bytesRead(4096);
+        recorder.bytesWritten(2048);
+
+        var stats = new ReindexStats(700, 700, 1, 0, Duration.ofSeconds(2));
+        var phases = new PhaseTimings(Duration.ofMillis(100), Duration.ofMillis(1500), Duration.ofMillis(400));
+        var result = recorder.toResult(stats, phases);
+
+        assertThat(result.stats()).isEqualTo(stats);
+        assertThat(result.phases()).isEqualTo(phases);
+        assertThat(result.bytesRead()).isEqualTo(4096);
+        assertThat(result.bytesWritten()).isEqualTo(2048);
+        assertThat(result.pageLatency().count()).isEqualTo(3);
+        assertThat(result.batchLatency().count()).isEqualTo(1);
+        assertThat(result.shards()).containsExactly(
+            new ShardReadStats("shard1", 80, 1, Duration.ofMillis(100)),
+            new ShardReadStats("shard2", 620, 2, Duration.ofMillis(1200))
+        );
+    }
+}
@@ -25,6 +25,36 @@ class ModelValidationTest {
             .isInstanceOf(ConstraintViolationException.class);
     }
 
+    @Test
+    void shouldRejectNegativeReadConcurrencyAtServiceBoundary() {
+        var request = ReindexRequestFixtures.requestWithTuning(
+            new ReindexTuning(100, 100, 1, RetryPolicy.defaults(), ReplicaSelection.LEADER_ONLY, -1, HedgePolicy.disabled())
+        );
+
+        assertThatThrownBy(() -> new ReindexService().reindex(request))
+            .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void shouldRejectAutoTuneCalibrationShorterThanItsStepAtServiceBoundary() {
+        var autoTune = new AutoTunePolicy(true, Duration.ofSeconds(5), Duration.ofSeconds(15), null, 0.0);
+        var request = ReindexRequestFixtures.requestWithTuning(new ReindexTuning(
+            100, 100, 1, RetryPolicy.defaults(), ReplicaSelection.LEADER_ONLY, 0, HedgePolicy.disabled(), 0, autoTune
+        ));
+
+        assertThatThrownBy(() -> new ReindexService().reindex(request))
+            .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void shouldRejectNegativeParallelismAtServiceBoundary() {
+        var valid = ReindexRequestFixtures.requestWithRetryPolicy(RetryPolicy.defaults());
+        var request = new ReindexRequest(valid.source(), valid.target(), valid.filters(), valid.fields(), valid.tuning(), -1);
+
+        assertThatThrownBy(() -> new ReindexService().reindex(request))
+            .isInstanceOf(ConstraintViolationException.class);
+    }
+
     @Test
     void shouldRejectInconsistentBasicAuthPairAtServiceBoundary() {
         var sourceConfig = new ClusterConfig(
@@ -0,0 +1,160 @@
+package com.solrex.reindex.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.AutoTunePolicy;
+import com.solrex.reindex.model.HedgePolicy;
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.model.ReplicaSelection;
+import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.model.TuningOverride;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AutoTunerTest {
+    private static final Duration STEP = Duration.ofSeconds(15);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicLong docs = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final LiveTuning liveTuning = new LiveTuning(now::get);
+
+    @Test
+    void shouldKeepFasterSettingsAndRejectSlowerOnes() {
+        var tuning = tuning(new AutoTunePolicy(true, Duration.ofMinutes(3), STEP, Duration.ofMinutes(10), 0.01));
+        var tuner = tuner(tuning);
+        tuner.begin();
+
+        window(tuner, 100, 0);
+        assertThat(liveTuning.effective(tuning).writeConcurrency()).isEqualTo(2);
+
+        window(tuner, 200, 0);
+        assertThat(tuner.current()).isEqualTo(new CalibratedTuning(500, 200, 1));
+
+        window(tuner, 200, 0);
+        assertThat(tuner.current()).isEqualTo(new CalibratedTuning(500, 400, 2));
+        assertThat(liveTuning.effective(tuning).writeBatchSize()).isEqualTo(400);
+        assertThat(liveTuning.effective(tuning).writeConcurrency()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotGrowPastTheSizedCeiling() {
+        var tuning = tuning(new AutoTunePolicy(true, Duration.ofMinutes(3), STEP, Duration.ofMinutes(10), 0.01));
+        var tuner = tuner(tuning);
+        tuner.begin();
+
+        window(tuner, 100, 0);
+        window(tuner, 200, 0);
+        window(tuner, 100, 0);
+        assertThat(tuner.current()).isEqualTo(new CalibratedTuning(500, 400, 2));
+
+        window(tuner, 300, 0);
+        assertThat(tuner.current()).isEqualTo(new CalibratedTuning(500, 200, 2));
+
+        window(tuner, 100, 0);
+        assertThat(tuner.current()).isEqualTo(new CalibratedTuning(1_000, 400, 2));
+
+        window(tuner, 400, 0);
+        assertThat(tuner.current()).isEqualTo(new CalibratedTuning(500, 400, 2));
+    }
+
+    @Test
+    void shouldLockInTheBestSettingsAndRecheckThemLater() {
+        var tuning = tuning(new AutoTunePolicy(true, Duration.ofSeconds(30), STEP, Duration.ofMinutes(1), 0.01));
+        var tuner = tuner(tuning);
+        tuner.begin();
+
+        window(tuner, 100, 0);
+        window(tuner, 300, 0);
+
+        assertThat(tuner.calibrating()).isFalse();
+        assertThat(liveTuning.effective(tuning).writeConcurrency()).isEqualTo(2);
+
+        window(tuner, 300, 0);
+        window(tuner, 300, 0);
+        window(tuner, 300, 0);
+        assertThat(tuner.calibrating()).isFalse();
+
+        window(tuner, 300, 0);
+        assertThat(tuner.calibrating()).isTrue();
+        assertThat(liveTuning.effective(tuning).writeConcurrency()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectErroringTrialsAndLeaveOperatorSettingsAlone() {
+        var tuning = tuning(new AutoTunePolicy(true, Duration.ofMinutes(3), STEP, Duration.ofMinutes(10), 0.01));
+        var tuner = tuner(tuning);
+        liveTuning.apply(new TuningOverride(null, 2, null, null));
+        tuner.begin();
+
+        window(tuner, 100, 0);
+        assertThat(liveTuning.effective(tuning).writeBatchSize()).isEqualTo(400);
+        assertThat(liveTuning.effective(tuning).writeConcurrency()).isEqualTo(2);
+
+        window(tuner, 500, 5);
+        assertThat(tuner.current()).isEqualTo(new CalibratedTuning(500, 100, 1));
+        assertThat(liveTuning.effective(tuning).writeConcurrency()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldIgnoreWindowsSpentPaused() {
+        var tuning = tuning(new AutoTunePolicy(true, Duration.ofMinutes(3), STEP, Duration.ofMinutes(10), 0.01));
+        var tuner = tuner(tuning);
+        tuner.begin();
+
+        window(tuner, 100, 0);
+        liveTuning.apply(TuningOverride.NONE.withPaused(true));
+        window(tuner, 0, 0);
+        liveTuning.apply(TuningOverride.NONE);
+
+        window(tuner, 200, 0);
+        assertThat(tuner.current()).isEqualTo(new CalibratedTuning(500, 200, 1));
+    }
+
+    @Test
+    void shouldNotStartWhenDisabled() {
+        var tuning = tuning(AutoTunePolicy.disabled());
+        try (var tuner = tuner(tuning)) {
+            tuner.start();
+        }
+
+        assertThat(liveTuning.effective(tuning)).isEqualTo(tuning);
+    }
+
+    private AutoTuner tuner(ReindexTuning tuning) {
+        return new AutoTuner(
+            tuning,
+            liveTuning,
+            docs::get,
+            batches::get,
+            failures::get,
+            Infrastructure.getDefaultWorkerPool(),
+            now::get
+        );
+    }
+
+    private void window(AutoTuner tuner, long docsPerSecond, long failed) {
+        now.addAndGet(STEP.toNanos());
+        docs.addAndGet(docsPerSecond * STEP.toSeconds());
+        batches.addAndGet(5);
+        failures.addAndGet(failed);
+        tuner.step();
+    }
+
+    private static ReindexTuning tuning(AutoTunePolicy autoTune) {
+        return new ReindexTuning(
+            500,
+            200,
+            1,
+            RetryPolicy.defaults(),
+            ReplicaSelection.LEADER_ONLY,
+            ReindexTuning.DEFAULT_READ_CONCURRENCY,
+            HedgePolicy.disabled(),
+            0,
+            autoTune
+        );
+    }
+}
@@ -0,0 +1,152 @@
+package com.solrex.reindex.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.RetryPolicy;
+import io.smallrye.mutiny.Uni;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ClusterRetryGovernorTest {
+    private static final RetryPolicy POLICY = new RetryPolicy(
+        3,
+        Duration.ofMillis(1),
+        Duration.ofMillis(1),
+        0.0,
+        0.2,
+        3,
+        Duration.ofSeconds(30)
+    );
+
+    private final AtomicLong now = new AtomicLong();
+    private final ClusterRetryGovernor governor = new ClusterRetryGovernor("target", now::get);
+
+    @Test
+    void shouldOpenAfterSustainedFailuresAndPauseUntilOpenDurationElapses() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(governor.acquirePermit().waitFor()).isNull();
+            assertThat(governor.onRetryableFailure(POLICY, false)).isTrue();
+        }
+
+        assertThat(governor.state()).isEqualTo(ClusterRetryGovernor.State.OPEN);
+        assertThat(governor.acquirePermit().waitFor()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(governor.onRetryableFailure(POLICY, false)).isFalse();
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        var probe = governor.acquirePermit();
+        assertThat(probe.probe()).isTrue();
+        assertThat(governor.acquirePermit().waitFor()).isPositive();
+
+        governor.onSuccess(POLICY, true);
+
+        assertThat(governor.state()).isEqualTo(ClusterRetryGovernor.State.CLOSED);
+        assertThat(governor.acquirePermit()).isEqualTo(new ClusterRetryGovernor.Permit(null, false));
+        assertThat(governor.breakerTrips()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReopenWhenProbeFailsWithoutChargingTheRequest() {
+        for (int i = 0; i < 3; i++) {
+            governor.onRetryableFailure(POLICY, false);
+        }
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertThat(governor.acquirePermit().probe()).isTrue();
+        assertThat(governor.onRetryableFailure(POLICY, true)).isFalse();
+
+        assertThat(governor.state()).isEqualTo(ClusterRetryGovernor.State.OPEN);
+        assertThat(governor.breakerTrips()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldOpenWhenSharedRetryBudgetIsExhausted() {
+        var lenientBreaker = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(1), 0.0, 0.2, 1_000, null);
+
+        for (int i = 0; i < 10; i++) {
+            governor.onRetryableFailure(lenientBreaker, false);
+            governor.onSuccess(lenientBreaker, false);
+        }
+        assertThat(governor.state()).isEqualTo(ClusterRetryGovernor.State.CLOSED);
+
+        for (int i = 0; i < 3; i++) {
+            governor.onRetryableFailure(lenientBreaker, false);
+        }
+
+        assertThat(governor.state()).isEqualTo(ClusterRetryGovernor.State.OPEN);
+    }
+
+    @Test
+    void shouldLeaveBreakerHalfOpenWhenProbeFailsWithNonRetryableError() {
+        for (int i = 0; i < 3; i++) {
+            governor.onRetryableFailure(POLICY, false);
+        }
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        var failure = governor.<Object>call(
+            POLICY,
+            () -> Uni.createFrom().failure(new IllegalArgumentException("bad request")),
+            ignored -> Uni.createFrom().voidItem()
+        ).onFailure().recoverWithItem(error -> error).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(failure).isInstanceOf(IllegalArgumentException.class);
+        assertThat(governor.state()).isEqualTo(ClusterRetryGovernor.State.HALF_OPEN);
+        assertThat(governor.acquirePermit().probe()).isTrue();
+    }
+
+    @Test
+    void shouldNotRefillRetryBudgetOnNonRetryableFailures() {
+        var lenientBreaker = new RetryPolicy(0, Duration.ofMillis(1), Duration.ofMillis(1), 0.0, 0.2, 1_000, null);
+
+        for (int i = 0; i < 20; i++) {
+            governor.<Object>call(
+                lenientBreaker,
+                () -> Uni.createFrom().failure(new IllegalArgumentException("bad request")),
+                ignored -> Uni.createFrom().voidItem()
+            ).onFailure().recoverWithNull().await().atMost(Duration.ofSeconds(5));
+        }
+        for (int i = 0; i < 11; i++) {
+            governor.onRetryableFailure(lenientBreaker, false);
+        }
+
+        assertThat(governor.state()).isEqualTo(ClusterRetryGovernor.State.OPEN);
+    }
+
+    @Test
+    void shouldPauseRequestsForRetryAfter() {
+        governor.pauseFor(Duration.ofSeconds(7));
+
+        assertThat(governor.acquirePermit().waitFor()).isEqualTo(Duration.ofSeconds(7));
+
+        now.addAndGet(Duration.ofSeconds(7).toNanos());
+        assertThat(governor.acquirePermit().waitFor()).isNull();
+    }
+
+    @Test
+    void shouldRetryOnlyRetryableFailuresUpToMaxRetries() {
+        var lenientBreaker = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(1), 0.0, 0.2, 1_000, null);
+        var realClockGovernor = new ClusterRetryGovernor("target");
+        var attempts = new AtomicInteger();
+        var retries = new AtomicInteger();
+
+        var failure = realClockGovernor.<Object>call(
+            lenientBreaker,
+            () -> {
+                attempts.incrementAndGet();
+                return Uni.createFrom().failure(new IOException("down"));
+            },
+            ignored -> {
+                retries.incrementAndGet();
+                return Uni.createFrom().voidItem();
+            }
+        ).onFailure().recoverWithItem(error -> error).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(failure).isInstanceOf(IOException.class);
+        assertThat(attempts.get()).isEqualTo(4);
+        assertThat(retries.get()).isEqualTo(3);
+        assertThat(realClockGovernor.state()).isEqualTo(ClusterRetryGovernor.State.CLOSED);
+    }
+}
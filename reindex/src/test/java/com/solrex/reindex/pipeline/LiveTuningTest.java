@@ -0,0 +1,125 @@
+package com.solrex.reindex.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.ReindexTuning;
+import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.model.TuningOverride;
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LiveTuningTest {
+    private static final ReindexTuning TUNING = new ReindexTuning(500, 200, 1, RetryPolicy.defaults());
+
+    private final AtomicLong now = new AtomicLong();
+    private final LiveTuning liveTuning = new LiveTuning(now::get);
+
+    @Test
+    void shouldOverrideOnlyTheLiveSettings() {
+        liveTuning.apply(new TuningOverride(50, null, 1_000, null));
+
+        var effective = liveTuning.effective(TUNING);
+
+        assertThat(effective.writeBatchSize()).isEqualTo(50);
+        assertThat(effective.writeConcurrency()).isEqualTo(1);
+        assertThat(effective.maxDocsPerSecond()).isEqualTo(1_000);
+        assertThat(effective.readPageSize()).isEqualTo(500);
+        assertThat(liveTuning.paused()).isFalse();
+    }
+
+    @Test
+    void shouldLayerOperatorOverridesOverCalibratedSettings() {
+        liveTuning.calibrate(new CalibratedTuning(1_000, 400, 8));
+        liveTuning.apply(new TuningOverride(50, null, null, null));
+
+        var effective = liveTuning.effective(TUNING);
+
+        assertThat(effective.readPageSize()).isEqualTo(1_000);
+        assertThat(effective.writeBatchSize()).isEqualTo(50);
+        assertThat(effective.writeConcurrency()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldSpaceReadPermitsAtTheLiveRate() {
+        assertThat(liveTuning.reserveReadPermits(0, 500)).isZero();
+        assertThat(liveTuning.reserveReadPermits(1_000, 500)).isZero();
+        assertThat(liveTuning.reserveReadPermits(1_000, 500)).isEqualTo(Duration.ofMillis(500).toNanos());
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(liveTuning.reserveReadPermits(1_000, 500)).isZero();
+    }
+
+    @Test
+    void shouldGrantWaitingWritesWhenConcurrencyIsRaised() {
+        var tuning = new ReindexTuning(500, 200, 2, RetryPolicy.defaults());
+        var first = new CompletableFuture<Void>();
+        var second = new CompletableFuture<Void>();
+        var started = new ArrayList<String>();
+        liveTuning.apply(new TuningOverride(null, 1, null, null));
+
+        liveTuning.withWriteSlot(tuning, () -> {
+            started.add("first");
+            return Uni.createFrom().completionStage(first);
+        }).subscribe().with(ignored -> {
+        });
+        liveTuning.withWriteSlot(tuning, () -> {
+            started.add("second");
+            return Uni.createFrom().completionStage(second);
+        }).subscribe().with(ignored -> {
+        });
+
+        assertThat(started).containsExactly("first");
+        assertThat(liveTuning.writeSlotsInUse()).isEqualTo(1);
+
+        liveTuning.apply(new TuningOverride(null, 2, null, null));
+        assertThat(started).containsExactly("first", "second");
+
+        first.complete(null);
+        second.complete(null);
+        assertThat(liveTuning.writeSlotsInUse()).isZero();
+    }
+
+    @Test
+    void shouldNotGrantWritesBeyondTheRequestCeiling() {
+        var first = new CompletableFuture<Void>();
+        var started = new ArrayList<String>();
+        liveTuning.apply(new TuningOverride(null, 2, null, null));
+
+        liveTuning.withWriteSlot(TUNING, () -> {
+            started.add("first");
+            return Uni.createFrom().completionStage(first);
+        }).subscribe().with(ignored -> {
+        });
+        liveTuning.withWriteSlot(TUNING, () -> {
+            started.add("second");
+            return Uni.createFrom().voidItem();
+        }).subscribe().with(ignored -> {
+        });
+
+        assertThat(started).containsExactly("first");
+
+        first.complete(null);
+        assertThat(started).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldHoldWritesAndNotifyListenersWhilePaused() {
+        var pauses = new ArrayList<Boolean>();
+        liveTuning.onPauseChanged(pauses::add);
+        liveTuning.apply(new TuningOverride(null, null, null, true));
+
+        var written = new CompletableFuture<Void>();
+        liveTuning.withWriteSlot(TUNING, () -> Uni.createFrom().voidItem().invoke(() -> written.complete(null)))
+            .subscribe().with(ignored -> {
+            });
+        assertThat(written).isNotDone();
+
+        liveTuning.apply(TuningOverride.NONE);
+        assertThat(written).isDone();
+        assertThat(pauses).containsExactly(true, false);
+    }
+}
@@ -3,8 +3,10 @@ package com.solrex.reindex.pipeline;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.solrex.reindex.metrics.ReindexMetrics;
 import com.solrex.reindex.model.ReindexRequest;
 import com.solrex.reindex.model.RetryPolicy;
+import com.solrex.reindex.model.TuningOverride;
 import com.solrex.reindex.test.ReindexRequestFixtures;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -57,6 +59,11 @@ class ReindexPipelineTest {
         assertThat(result.stats().batchesSent()).isEqualTo(3);
         assertThat(indexedBatchSizes).containsExactlyInAnyOrder(4, 4, 2);
         assertThat(maxInFlight.get()).isGreaterThan(1);
+        assertThat(result.batchLatency().count()).isEqualTo(3);
+        assertThat(result.batchLatency().p50()).isGreaterThanOrEqualTo(Duration.ofMillis(14));
+        assertThat(result.phases().drain()).isPositive();
+        assertThat(result.phases().discovery().plus(result.phases().streaming()).plus(result.phases().drain()))
+            .isEqualTo(result.stats().elapsed());
     }
 
     @Test
@@ -112,6 +119,66 @@ class ReindexPipelineTest {
         assertThat(attempts.get()).isEqualTo(3);
     }
 
+    @Test
+    void shouldHoldWritesWhilePausedAndApplyLiveBatchSizeAndConcurrency() throws InterruptedException {
+        var docs = List.of(doc(1), doc(2), doc(3), doc(4), doc(5), doc(6), doc(7), doc(8), doc(9), doc(10));
+        var request = ReindexRequestFixtures.requestWithRetryPolicy(RetryPolicy.defaults());
+        var liveTuning = new LiveTuning();
+        liveTuning.apply(new TuningOverride(3, 1, null, true));
+
+        var maxInFlight = new AtomicInteger();
+        var inFlight = new AtomicInteger();
+        var indexedBatchSizes = new CopyOnWriteArrayList<Integer>();
+
+        Function<ReindexRequest, Uni<Multi<SolrInputDocument>>> reader = ignored -> Uni.createFrom().item(
+            Multi.createFrom().iterable(docs)
+        );
+
+        BiFunction<ReindexRequest, List<SolrInputDocument>, Uni<Void>> writer = (ignored, batch) -> Uni.createFrom().item(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            indexedBatchSizes.add(batch.size());
+            inFlight.decrementAndGet();
+            return null;
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool()).replaceWithVoid();
+
+        var result = new ReindexPipeline(
+            reader,
+            writer,
+            StallWatchdog.disabled(),
+            new ClusterRetryGovernor("target"),
+            ReindexMetrics.noop(),
+            liveTuning
+        ).execute(request).subscribeAsCompletionStage();
+
+        Thread.sleep(100);
+        assertThat(indexedBatchSizes).isEmpty();
+
+        liveTuning.apply(new TuningOverride(3, 1, null, false));
+
+        assertThat(result.toCompletableFuture().join().stats().docsIndexed()).isEqualTo(10);
+        assertThat(indexedBatchSizes).containsExactly(3, 3, 3, 1);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailWhenNothingProgressesForIdleTimeout() {
+        var request = ReindexRequestFixtures.requestWithRetryPolicy(RetryPolicy.defaults());
+        var watchdog = new StallWatchdog(new StallWatchdog.Settings(Duration.ofMillis(200), Duration.ZERO));
+
+        Function<ReindexRequest, Uni<Multi<SolrInputDocument>>> reader = ignored -> Uni.createFrom().item(
+            Multi.createFrom().nothing()
+        );
+
+        BiFunction<ReindexRequest, List<SolrInputDocument>, Uni<Void>> writer = (ignored, batch) -> Uni.createFrom().voidItem();
+
+        assertThatThrownBy(() -> new ReindexPipeline(reader, writer, watchdog)
+            .execute(request)
+            .await()
+            .atMost(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("made no progress");
+    }
+
     private SolrInputDocument doc(int id) {
         var document = new SolrInputDocument();
         document.setField("id", id);
@@ -0,0 +1,69 @@
+package com.solrex.reindex.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StallWatchdogTest {
+    private final AtomicLong now = new AtomicLong();
+    private final StallWatchdog watchdog = new StallWatchdog(
+        new StallWatchdog.Settings(Duration.ofMinutes(10), Duration.ofSeconds(30)),
+        Executors.newSingleThreadScheduledExecutor(),
+        now::get
+    );
+
+    @AfterEach
+    void tearDown() {
+        watchdog.close();
+    }
+
+    @Test
+    void shouldRestartOnlyTheStalledShardStream() {
+        var shard1Restarts = new AtomicInteger();
+        var shard2Restarts = new AtomicInteger();
+        watchdog.register("shard1", shard1Restarts::incrementAndGet);
+        watchdog.register("shard2", shard2Restarts::incrementAndGet);
+
+        now.set(Duration.ofSeconds(20).toNanos());
+        watchdog.progress("shard2");
+        now.set(Duration.ofSeconds(31).toNanos());
+        watchdog.check();
+
+        assertThat(shard1Restarts).hasValue(1);
+        assertThat(shard2Restarts).hasValue(0);
+        assertThat(watchdog.isStalled()).isFalse();
+    }
+
+    @Test
+    void shouldNotRestartCompletedShardStreams() {
+        var restarts = new AtomicInteger();
+        watchdog.register("shard1", restarts::incrementAndGet);
+        watchdog.complete("shard1");
+
+        now.set(Duration.ofMinutes(1).toNanos());
+        watchdog.check();
+
+        assertThat(restarts).hasValue(0);
+    }
+
+    @Test
+    void shouldFailOnlyAfterIdlePeriodWithoutProgressAnywhere() {
+        watchdog.register("shard1", () -> {
+        });
+
+        now.set(Duration.ofMinutes(9).toNanos());
+        watchdog.progress(StallWatchdog.WRITER_STREAM);
+        now.set(Duration.ofMinutes(18).toNanos());
+        watchdog.check();
+        assertThat(watchdog.isStalled()).isFalse();
+
+        now.set(Duration.ofMinutes(20).toNanos());
+        watchdog.check();
+        assertThat(watchdog.isStalled()).isTrue();
+    }
+}
@@ -0,0 +1,58 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.HedgePolicy;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CursorPageHedgerTest {
+    @Test
+    void shouldNotHedgeWhenDisabledOrBeforeEnoughSamples() {
+        var disabled = new CursorPageHedger(HedgePolicy.disabled());
+        var enabled = new CursorPageHedger(new HedgePolicy(true, 0.95, Duration.ofMillis(10), 0.5));
+        for (int i = 0; i < 100; i++) {
+            disabled.recordLatency(Duration.ofMillis(20).toNanos());
+        }
+        enabled.recordLatency(Duration.ofMillis(20).toNanos());
+
+        assertThat(disabled.nextPageHedgeDelay()).isNull();
+        assertThat(enabled.nextPageHedgeDelay()).isNull();
+    }
+
+    @Test
+    void shouldDelayHedgeUntilConfiguredLatencyPercentile() {
+        var hedger = new CursorPageHedger(new HedgePolicy(true, 0.9, Duration.ofMillis(5), 0.5));
+        for (int i = 1; i <= 100; i++) {
+            hedger.recordLatency(Duration.ofMillis(i).toNanos());
+        }
+
+        assertThat(hedger.nextPageHedgeDelay()).isEqualTo(Duration.ofMillis(90));
+    }
+
+    @Test
+    void shouldNotHedgeFasterThanMinimumDelay() {
+        var hedger = new CursorPageHedger(new HedgePolicy(true, 0.9, Duration.ofMillis(250), 0.5));
+        for (int i = 0; i < 50; i++) {
+            hedger.recordLatency(Duration.ofMillis(10).toNanos());
+        }
+
+        assertThat(hedger.nextPageHedgeDelay()).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void shouldLimitHedgesToConfiguredShareOfPageRequests() {
+        var hedger = new CursorPageHedger(new HedgePolicy(true, 0.95, Duration.ofMillis(10), 0.1));
+
+        var granted = 0;
+        for (int i = 0; i < 100; i++) {
+            hedger.nextPageHedgeDelay();
+            if (hedger.tryAcquireHedge()) {
+                granted++;
+            }
+        }
+
+        assertThat(granted).isEqualTo(10);
+        assertThat(hedger.hedges()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,26 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class KeyRangeTest {
+    @Test
+    void shouldRenderExclusiveLowerAndInclusiveUpperBounds() {
+        assertThat(new KeyRange("doc:1", "doc 9").toFilterQuery("id")).isEqualTo("id:{doc\\:1 TO doc\\ 9]");
+        assertThat(new KeyRange(null, "m").toFilterQuery("id")).isEqualTo("id:{* TO m]");
+        assertThat(new KeyRange("m", null).toFilterQuery("id")).isEqualTo("id:{m TO *]");
+        assertThat(KeyRange.ALL.isBounded()).isFalse();
+    }
+
+    @Test
+    void shouldCompareKeysInCodePointOrderLikeSolrStringSort() {
+        var highBmp = "\uFF5E";
+        var supplementary = new String(Character.toChars(0x1F600));
+
+        assertThat(KeyRange.compareKeys("a", "b")).isNegative();
+        assertThat(KeyRange.compareKeys("ab", "a")).isPositive();
+        assertThat(KeyRange.compareKeys(highBmp, supplementary)).isNegative();
+        assertThat(new KeyRange(null, highBmp).isAbove(supplementary)).isTrue();
+    }
+}
@@ -0,0 +1,44 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class KeySampleTest {
+    @Test
+    void shouldReadSmallRangesWithoutAHashSlice() {
+        assertThat(KeySample.sliceFilter("id", KeySample.TARGET_KEYS)).isEmpty();
+    }
+
+    @Test
+    void shouldSliceTheHashSpaceInProportionToTheTargetSample() {
+        assertThat(KeySample.sliceFilter("id", 4_000))
+            .contains("{!hash_range f=id l=-2147483648 u=-1073741825}");
+        assertThat(KeySample.sliceFilter("id", 4_294_967_296_000L))
+            .contains("{!hash_range f=id l=-2147483648 u=-2147483648}");
+    }
+
+    @Test
+    void shouldPickEvenlySpacedBoundsFromTheSortedSample() {
+        var keys = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+
+        assertThat(KeySample.quantiles(keys, 4)).containsExactly("c", "e", "g");
+        assertThat(KeySample.quantiles(keys, 2)).containsExactly("e");
+        assertThat(KeySample.quantiles(keys, 1)).isEmpty();
+    }
+
+    @Test
+    void shouldDropRepeatedBoundsWhenTheSampleIsSmallerThanThePlan() {
+        assertThat(KeySample.quantiles(List.of("a", "b"), 8)).containsExactly("a", "b");
+        assertThat(KeySample.quantiles(List.of(), 8)).isEmpty();
+    }
+
+    @Test
+    void shouldRefuseNonStringKeysBecauseRangesCompareAsStrings() {
+        assertThat(KeySample.stringKeys(List.of("a", "b"))).contains(List.of("a", "b"));
+        assertThat(KeySample.stringKeys(List.of(9L, 10L))).isEmpty();
+        assertThat(KeySample.stringKeys(Arrays.asList("a", null))).isEmpty();
+    }
+}
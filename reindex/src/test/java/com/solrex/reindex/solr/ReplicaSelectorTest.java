@@ -0,0 +1,83 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.ReplicaSelection;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ReplicaType;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplica;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplicas;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ReplicaSelectorTest {
+    private static final ShardReplica LEADER = replica("core_n1", ReplicaType.NRT, true);
+    private static final ShardReplica NRT_FOLLOWER = replica("core_n2", ReplicaType.NRT, false);
+    private static final ShardReplica TLOG_FOLLOWER = replica("core_t3", ReplicaType.TLOG, false);
+    private static final ShardReplica PULL = replica("core_p4", ReplicaType.PULL, false);
+
+    @Test
+    void leaderOnlyShouldAlwaysReadFromLeader() {
+        var selector = new ReplicaSelector(ReplicaSelection.LEADER_ONLY);
+        var shard = new ShardReplicas("shard1", List.of(LEADER, NRT_FOLLOWER, PULL));
+
+        assertThat(selector.select(shard, "shard1")).isEqualTo(LEADER);
+    }
+
+    @Test
+    void preferPullTlogShouldAvoidLeaderWhenPassiveReplicaExists() {
+        var selector = new ReplicaSelector(ReplicaSelection.PREFER_PULL_TLOG);
+
+        assertThat(selector.select(new ShardReplicas("shard1", List.of(LEADER, NRT_FOLLOWER, TLOG_FOLLOWER, PULL)), "shard1"))
+            .isEqualTo(PULL);
+        assertThat(selector.select(new ShardReplicas("shard1", List.of(LEADER, NRT_FOLLOWER, TLOG_FOLLOWER)), "shard1"))
+            .isEqualTo(TLOG_FOLLOWER);
+        assertThat(selector.select(new ShardReplicas("shard1", List.of(LEADER)), "shard1"))
+            .isEqualTo(LEADER);
+    }
+
+    @Test
+    void anyActiveShouldSpreadStreamsAcrossReplicas() {
+        var selector = new ReplicaSelector(ReplicaSelection.ANY_ACTIVE);
+        var shard = new ShardReplicas("shard1", List.of(LEADER, NRT_FOLLOWER, PULL));
+
+        var selected = IntStream.range(0, 32)
+            .mapToObj(range -> selector.select(shard, "shard1#" + range))
+            .distinct()
+            .toList();
+
+        assertThat(selected).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void leastLoadedShouldMoveAwayFromSlowReplica() {
+        var selector = new ReplicaSelector(ReplicaSelection.LEAST_LOADED);
+        var shard = new ShardReplicas("shard1", List.of(LEADER, NRT_FOLLOWER));
+
+        selector.recordLatency(LEADER, Duration.ofMillis(900).toNanos());
+        selector.recordLatency(NRT_FOLLOWER, Duration.ofMillis(40).toNanos());
+
+        assertThat(selector.select(shard, "shard1")).isEqualTo(NRT_FOLLOWER);
+
+        selector.recordFailure(NRT_FOLLOWER);
+
+        assertThat(selector.select(shard, "shard1")).isEqualTo(LEADER);
+    }
+
+    @Test
+    void alternateShouldPickFastestOtherReplicaOrNothing() {
+        var selector = new ReplicaSelector(ReplicaSelection.LEADER_ONLY);
+        selector.recordLatency(NRT_FOLLOWER, Duration.ofMillis(500).toNanos());
+        selector.recordLatency(PULL, Duration.ofMillis(20).toNanos());
+
+        assertThat(selector.selectAlternate(new ShardReplicas("shard1", List.of(LEADER, NRT_FOLLOWER, PULL)), LEADER, "shard1"))
+            .isEqualTo(PULL);
+        assertThat(selector.selectAlternate(new ShardReplicas("shard1", List.of(LEADER)), LEADER, "shard1"))
+            .isNull();
+    }
+
+    private static ShardReplica replica(String core, ReplicaType type, boolean leader) {
+        return new ShardReplica("shard1", "http://" + core + ":8983/solr", core, type, leader);
+    }
+}
@@ -0,0 +1,28 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class RetryAfterListenerFactoryTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void shouldParseDelaySecondsAndHttpDates() {
+        assertThat(RetryAfterListenerFactory.parseRetryAfter("12", CLOCK)).isEqualTo(Duration.ofSeconds(12));
+        assertThat(RetryAfterListenerFactory.parseRetryAfter("Wed, 01 May 2024 10:00:45 GMT", CLOCK))
+            .isEqualTo(Duration.ofSeconds(45));
+    }
+
+    @Test
+    void shouldIgnoreMissingPastOrMalformedValuesAndCapLongDelays() {
+        assertThat(RetryAfterListenerFactory.parseRetryAfter(null, CLOCK)).isNull();
+        assertThat(RetryAfterListenerFactory.parseRetryAfter("soon", CLOCK)).isNull();
+        assertThat(RetryAfterListenerFactory.parseRetryAfter("Wed, 01 May 2024 09:00:00 GMT", CLOCK)).isNull();
+        assertThat(RetryAfterListenerFactory.parseRetryAfter("86400", CLOCK)).isEqualTo(Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,89 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.pipeline.StallWatchdog;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
+import org.junit.jupiter.api.Test;
+
+class ShardCursorStreamTest {
+    @Test
+    void shouldReissueStalledPageFromLastCursorMarkWithoutRereadingDocuments() {
+        var requestedCursorMarks = new CopyOnWriteArrayList<String>();
+        var stream = stream("shard1", (cursorMark, range) -> {
+            requestedCursorMarks.add(cursorMark);
+            return switch (requestedCursorMarks.size()) {
+                case 1 -> Uni.createFrom().item(new CursorPage(List.of(doc(1), doc(2)), "mark-1", false));
+                case 2 -> Uni.createFrom().nothing();
+                default -> Uni.createFrom().item(new CursorPage(List.of(doc(3)), "mark-1", true));
+            };
+        });
+
+        var subscriber = stream.stream().subscribe().withSubscriber(AssertSubscriber.<SolrInputDocument>create(10));
+        assertThat(subscriber.getItems()).hasSize(2);
+
+        stream.restart();
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems())
+            .extracting(doc -> doc.getFieldValue("id"))
+            .containsExactly("1", "2", "3");
+        assertThat(requestedCursorMarks).containsExactly(CursorMarkParams.CURSOR_MARK_START, "mark-1", "mark-1");
+    }
+
+    @Test
+    void shouldStopAtSplitKeyAndHandOverTheUpperHalfOfTheRange() {
+        var requestedRanges = new CopyOnWriteArrayList<KeyRange>();
+        var pendingPage = new AtomicReference<UniEmitter<? super CursorPage>>();
+        var stream = stream("shard1", (cursorMark, range) -> {
+            requestedRanges.add(range);
+            return requestedRanges.size() == 1
+                ? Uni.createFrom().item(new CursorPage(List.of(doc(1), doc(2)), "mark-1", false))
+                : Uni.createFrom().emitter(pendingPage::set);
+        });
+
+        var subscriber = stream.stream().subscribe().withSubscriber(AssertSubscriber.<SolrInputDocument>create(10));
+        assertThat(stream.remainingRange()).isEqualTo(new KeyRange("2", null));
+
+        var upperHalf = stream.splitAt("5", 40);
+        pendingPage.get().complete(new CursorPage(List.of(doc(3), doc(5), doc(6), doc(7)), "mark-2", false));
+
+        assertThat(upperHalf).isEqualTo(new KeyRange("5", null));
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems())
+            .extracting(doc -> doc.getFieldValue("id"))
+            .containsExactly("1", "2", "3", "5");
+        assertThat(stream.remainingDocs()).isEqualTo(56);
+    }
+
+    @Test
+    void shouldRefuseToSplitBehindTheLastEmittedKey() {
+        var stream = stream("shard1", (cursorMark, range) -> cursorMark.equals(CursorMarkParams.CURSOR_MARK_START)
+            ? Uni.createFrom().item(new CursorPage(List.of(doc(1), doc(5)), "mark-1", false))
+            : Uni.createFrom().nothing());
+
+        stream.stream().subscribe().withSubscriber(AssertSubscriber.<SolrInputDocument>create(10));
+
+        assertThat(stream.splitAt("3", 10)).isNull();
+        assertThat(stream.splitAt("5", 10)).isNull();
+        assertThat(stream.splitAt("7", 10)).isEqualTo(new KeyRange("7", null));
+    }
+
+    private ShardCursorStream stream(String shard, BiFunction<String, KeyRange, Uni<CursorPage>> pageFetcher) {
+        return new ShardCursorStream(shard, shard, "id", KeyRange.ALL, 100, pageFetcher, StallWatchdog.disabled());
+    }
+
+    private SolrInputDocument doc(int id) {
+        var document = new SolrInputDocument();
+        document.setField("id", String.valueOf(id));
+        return document;
+    }
+}
@@ -0,0 +1,37 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ShardGroupTest {
+    private static final List<String> SHARDS = List.of("shard1", "shard2", "shard3", "shard4", "shard5");
+
+    @Test
+    void shouldAssignEveryShardToExactlyOneGroup() {
+        assertThat(new ShardGroup(0, 2).assigned(SHARDS)).containsExactly("shard1", "shard3", "shard5");
+        assertThat(new ShardGroup(1, 2).assigned(SHARDS)).containsExactly("shard2", "shard4");
+        assertThat(ShardGroup.ALL.assigned(SHARDS)).isEqualTo(SHARDS);
+    }
+
+    @Test
+    void shouldLeaveGroupsBeyondTheShardCountEmpty() {
+        assertThat(new ShardGroup(6, 8).assigned(SHARDS)).isEmpty();
+    }
+
+    @Test
+    void shouldResolveGroupFromCompletionIndex() {
+        assertThat(ShardGroup.forCompletionIndex(1, Optional.empty())).isEqualTo(ShardGroup.ALL);
+        assertThat(ShardGroup.forCompletionIndex(4, Optional.of(2))).isEqualTo(new ShardGroup(2, 4));
+
+        assertThatThrownBy(() -> ShardGroup.forCompletionIndex(4, Optional.empty()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("JOB_COMPLETION_INDEX");
+        assertThatThrownBy(() -> ShardGroup.forCompletionIndex(4, Optional.of(4)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Invalid shard group 4 of 4");
+    }
+}
@@ -0,0 +1,27 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ShardReadPlanTest {
+    @Test
+    void shouldOrderShardsLargestFirstForScheduling() {
+        var plan = new ShardReadPlan(
+            "source_collection",
+            List.of(
+                new ShardReadPlan.PlannedShard("shard1", "0-3fffffff", 10),
+                new ShardReadPlan.PlannedShard("shard2", "40000000-7fffffff", 500),
+                new ShardReadPlan.PlannedShard("shard3", "80000000-bfffffff", 10),
+                new ShardReadPlan.PlannedShard("shard4", "c0000000-ffffffff", 90)
+            ),
+            List.of()
+        );
+
+        assertThat(plan.largestFirst())
+            .extracting(ShardReadPlan.PlannedShard::logicalShard)
+            .containsExactly("shard2", "shard4", "shard1", "shard3");
+        assertThat(plan.estimatedDocs()).isEqualTo(610);
+    }
+}
@@ -0,0 +1,70 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ReplicaType;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplica;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplicas;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ShardReadPlannerTest {
+    @Test
+    void shouldReadActiveSubShardsAndSkipInactiveParent() {
+        var shards = List.of(
+            shard("shard1_1", ShardReplicas.STATE_ACTIVE, "c0000000-ffffffff"),
+            shard("shard1", ShardReplicas.STATE_INACTIVE, "80000000-ffffffff"),
+            shard("shard1_0", ShardReplicas.STATE_ACTIVE, "80000000-bfffffff"),
+            shard("shard2", ShardReplicas.STATE_ACTIVE, "0-7fffffff")
+        );
+
+        assertThat(ShardReadPlanner.readableShards("source_collection", shards))
+            .extracting(ShardReplicas::logicalShard)
+            .containsExactly("shard1_0", "shard1_1", "shard2");
+        assertThat(ShardReadPlanner.skippedShards(shards)).containsExactly("shard1(inactive)");
+    }
+
+    @Test
+    void shouldRefuseToStartWhileShardSplitIsInProgress() {
+        var shards = List.of(
+            shard("shard1", ShardReplicas.STATE_ACTIVE, "80000000-ffffffff"),
+            shard("shard1_0", ShardReplicas.STATE_CONSTRUCTION, "80000000-bfffffff"),
+            shard("shard1_1", ShardReplicas.STATE_RECOVERY, "c0000000-ffffffff")
+        );
+
+        assertThatThrownBy(() -> ShardReadPlanner.readableShards("source_collection", shards))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Refusing to start: shard split in progress")
+            .hasMessageContaining("shard1_0(construction)")
+            .hasMessageContaining("shard1_1(recovery)");
+    }
+
+    @Test
+    void shouldFailWhenActiveShardRangesOverlap() {
+        var shards = List.of(
+            shard("shard1", ShardReplicas.STATE_ACTIVE, "80000000-ffffffff"),
+            shard("shard1_0", ShardReplicas.STATE_ACTIVE, "80000000-bfffffff")
+        );
+
+        assertThatThrownBy(() -> ShardReadPlanner.readableShards("source_collection", shards))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("overlapping hash ranges");
+    }
+
+    @Test
+    void shouldFailWhenNoShardIsActive() {
+        var shards = List.of(shard("shard1", ShardReplicas.STATE_INACTIVE, "80000000-ffffffff"));
+
+        assertThatThrownBy(() -> ShardReadPlanner.readableShards("source_collection", shards))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("No active shards were discovered for collection 'source_collection'");
+    }
+
+    private ShardReplicas shard(String name, String state, String range) {
+        var replicas = ShardReplicas.STATE_ACTIVE.equals(state)
+            ? List.of(new ShardReplica(name, "http://node1:8983/solr", name + "_replica_n1", ReplicaType.NRT, true))
+            : List.<ShardReplica>of();
+        return new ShardReplicas(name, state, range, replicas);
+    }
+}
@@ -0,0 +1,110 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.pipeline.StallWatchdog;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
+import org.junit.jupiter.api.Test;
+
+class ShardStreamSchedulerTest {
+    @Test
+    void shouldSplitStragglerOntoIdleSlotWithoutDuplicatingDocuments() {
+        var pendingPage = new AtomicReference<UniEmitter<? super CursorPage>>();
+        var straggler = stream("shard1", 100, (cursorMark, range) -> cursorMark.equals(CursorMarkParams.CURSOR_MARK_START)
+            ? page(false, "1", "2")
+            : Uni.createFrom().emitter(pendingPage::set));
+        var quick = stream("shard2", 1, (cursorMark, range) -> page(true, "a"));
+        var stolenRanges = new CopyOnWriteArrayList<KeyRange>();
+
+        var scheduler = new ShardStreamScheduler(
+            List.of(straggler, quick),
+            2,
+            10,
+            donor -> Uni.createFrom().item(new ShardStreamScheduler.SplitPoint("5", 40)),
+            (donor, streamName, range, estimatedDocs) -> {
+                stolenRanges.add(range);
+                return stream(streamName, estimatedDocs, (cursorMark, currentRange) -> page(true, "6", "7"));
+            }
+        );
+
+        var subscriber = scheduler.stream().subscribe().withSubscriber(AssertSubscriber.<SolrInputDocument>create(100));
+        pendingPage.get().complete(new CursorPage(List.of(doc("3"), doc("6")), "mark-2", false));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems())
+            .extracting(doc -> doc.getFieldValue("id"))
+            .containsExactlyInAnyOrder("1", "2", "3", "a", "6", "7");
+        assertThat(stolenRanges).containsExactly(new KeyRange("5", null));
+        assertThat(scheduler.splits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotSplitStreamsBelowMinimumRemainingDocuments() {
+        var samples = new CopyOnWriteArrayList<String>();
+        var pendingPage = new AtomicReference<UniEmitter<? super CursorPage>>();
+        var small = stream("shard1", 5, (cursorMark, range) -> cursorMark.equals(CursorMarkParams.CURSOR_MARK_START)
+            ? page(false, "1")
+            : Uni.createFrom().emitter(pendingPage::set));
+        var quick = stream("shard2", 1, (cursorMark, range) -> page(true, "a"));
+
+        var scheduler = new ShardStreamScheduler(
+            List.of(small, quick),
+            2,
+            10,
+            donor -> {
+                samples.add(donor.streamName());
+                return Uni.createFrom().nullItem();
+            },
+            (donor, streamName, range, estimatedDocs) -> {
+                throw new AssertionError("unexpected split");
+            }
+        );
+
+        var subscriber = scheduler.stream().subscribe().withSubscriber(AssertSubscriber.<SolrInputDocument>create(100));
+        pendingPage.get().complete(new CursorPage(List.of(doc("2")), "mark-1", true));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(3);
+        assertThat(samples).isEmpty();
+        assertThat(scheduler.splits()).isZero();
+    }
+
+    private ShardCursorStream stream(
+        String name,
+        long estimatedDocs,
+        BiFunction<String, KeyRange, Uni<CursorPage>> pageFetcher
+    ) {
+        return new ShardCursorStream(
+            "shard1",
+            name,
+            "id",
+            KeyRange.ALL,
+            estimatedDocs,
+            pageFetcher,
+            StallWatchdog.disabled()
+        );
+    }
+
+    private Uni<CursorPage> page(boolean done, String... ids) {
+        return Uni.createFrom().item(new CursorPage(
+            Arrays.stream(ids).map(this::doc).toList(),
+            done ? CursorMarkParams.CURSOR_MARK_START : "mark-1",
+            done
+        ));
+    }
+
+    private SolrInputDocument doc(String id) {
+        var document = new SolrInputDocument();
+        document.setField("id", id);
+        return document;
+    }
+}
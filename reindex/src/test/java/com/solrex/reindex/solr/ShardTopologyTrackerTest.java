@@ -0,0 +1,59 @@
+package com.solrex.reindex.solr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.solrex.reindex.model.ReplicaSelection;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ReplicaType;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplica;
+import com.solrex.reindex.solr.SolrShardLeaderDiscovery.ShardReplicas;
+import io.smallrye.mutiny.Uni;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ShardTopologyTrackerTest {
+    @Test
+    void shouldResolveNewLeaderAfterRefresh() {
+        var discoveries = new AtomicInteger();
+        var tracker = new ShardTopologyTracker(() -> Uni.createFrom().item(() -> discoveries.getAndIncrement() == 0
+            ? List.of(shard("shard1", leader("shard1", "http://node1:8983/solr", "core_n1")),
+                shard("shard2", leader("shard2", "http://node2:8983/solr", "core_n2")))
+            : List.of(shard("shard1", leader("shard1", "http://node3:8983/solr", "core_n3")),
+                shard("shard2", leader("shard2", "http://node2:8983/solr", "core_n2")))
+        ), new ReplicaSelector(ReplicaSelection.LEADER_ONLY), Duration.ZERO);
+
+        tracker.start().await().indefinitely();
+        assertThat(tracker.replicaFor("shard1").baseUrl()).isEqualTo("http://node1:8983/solr");
+
+        tracker.refresh().await().indefinitely();
+
+        assertThat(tracker.replicaFor("shard1"))
+            .isEqualTo(leader("shard1", "http://node3:8983/solr", "core_n3"));
+        assertThat(tracker.replicaFor("shard2"))
+            .isEqualTo(leader("shard2", "http://node2:8983/solr", "core_n2"));
+    }
+
+    @Test
+    void shouldKeepLastKnownLocationsWhenRefreshFails() {
+        var discoveries = new AtomicInteger();
+        var tracker = new ShardTopologyTracker(() -> discoveries.getAndIncrement() == 0
+            ? Uni.createFrom().item(List.of(shard("shard1", leader("shard1", "http://node1:8983/solr", "core_n1"))))
+            : Uni.createFrom().failure(new IllegalStateException("No ACTIVE leader replica found for shard 'shard1'")),
+            new ReplicaSelector(ReplicaSelection.LEADER_ONLY),
+            Duration.ZERO);
+
+        tracker.start().await().indefinitely();
+        tracker.refresh().onFailure().recoverWithNull().await().indefinitely();
+
+        assertThat(tracker.replicaFor("shard1").coreName()).isEqualTo("core_n1");
+    }
+
+    private ShardReplicas shard(String shard, ShardReplica... replicas) {
+        return new ShardReplicas(shard, List.of(replicas));
+    }
+
+    private ShardReplica leader(String shard, String baseUrl, String core) {
+        return new ShardReplica(shard, baseUrl, core, ReplicaType.NRT, true);
+    }
+}
@@ -2,6 +2,7 @@ package com.solrex.reindex.solr;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,72 @@ class SolrShardLeaderDiscoveryTest {
         );
     }
 
+    @Test
+    void shouldExtractAllActiveReplicasWithTheirTypes() {
+        var response = clusterStatus(
+            Map.of(
+                "shard1", shard(Map.of(
+                    "core_node1",
+                    replica("active", true, "http://node1:8983/solr", "source_collection_shard1_replica_n1"),
+                    "core_node2",
+                    typedReplica("active", "PULL", "http://node2:8983/solr", "source_collection_shard1_replica_p2"),
+                    "core_node3",
+                    typedReplica("down", "TLOG", "http://node3:8983/solr", "source_collection_shard1_replica_t3")
+                ))
+            )
+        );
+
+        var shards = SolrShardLeaderDiscovery.extractShards(response, "source_collection");
+
+        assertThat(shards).hasSize(1);
+        assertThat(shards.getFirst().activeReplicas()).containsExactly(
+            new SolrShardLeaderDiscovery.ShardReplica(
+                "shard1",
+                "http://node1:8983/solr",
+                "source_collection_shard1_replica_n1",
+                SolrShardLeaderDiscovery.ReplicaType.NRT,
+                true
+            ),
+            new SolrShardLeaderDiscovery.ShardReplica(
+                "shard1",
+                "http://node2:8983/solr",
+                "source_collection_shard1_replica_p2",
+                SolrShardLeaderDiscovery.ReplicaType.PULL,
+                false
+            )
+        );
+    }
+
+    @Test
+    void shouldKeepInactiveParentShardWithoutReplicasAfterSplit() {
+        var response = clusterStatus(
+            Map.of(
+                "shard1", shardWithState("inactive", "80000000-ffffffff", Map.of()),
+                "shard1_0", shardWithState("active", "80000000-bfffffff", Map.of(
+                    "core_node5",
+                    replica("active", true, "http://node1:8983/solr", "source_collection_shard1_0_replica_n5")
+                ))
+            )
+        );
+
+        var shards = SolrShardLeaderDiscovery.extractShards(response, "source_collection");
+        var leaders = SolrShardLeaderDiscovery.extractShardLeaders(response, "source_collection");
+
+        assertThat(shards)
+            .extracting(
+                SolrShardLeaderDiscovery.ShardReplicas::logicalShard,
+                SolrShardLeaderDiscovery.ShardReplicas::state,
+                SolrShardLeaderDiscovery.ShardReplicas::range
+            )
+            .containsExactlyInAnyOrder(
+                tuple("shard1", "inactive", "80000000-ffffffff"),
+                tuple("shard1_0", "active", "80000000-bfffffff")
+            );
+        assertThat(leaders)
+            .extracting(SolrShardLeaderDiscovery.ShardLeaderReplica::logicalShard)
+            .containsExactly("shard1_0");
+    }
+
     @Test
     void shouldFailWhenShardHasNoActiveLeaderReplica() {
         var response = clusterStatus(
@@ -98,6 +165,19 @@ class SolrShardLeaderDiscoveryTest {
         return Map.of("replicas", replicas);
     }
 
+    private Map<String, Object> shardWithState(String state, String range, Map<String, Object> replicas) {
+        return Map.of("state", state, "range", range, "replicas", replicas);
+    }
+
+    private Map<String, Object> typedReplica(String state, String type, String baseUrl, String core) {
+        return Map.of(
+            "state", state,
+            "type", type,
+            "base_url", baseUrl,
+            "core", core
+        );
+    }
+
     private Map<String, Object> replica(String state, Object leader, String baseUrl, String core) {
         return Map.of(
             "state", state,
@@ -0,0 +1,134 @@
+package com.solrex.reindex.test;
+
+import com.solrex.reindex.job.ReindexJobConfig;
+import java.time.Duration;
+import java.util.Optional;
+
+public final class ReindexJobConfigFixtures {
+    private ReindexJobConfigFixtures() {
+    }
+
+    public static ReindexJobConfig jobConfig(String requestYaml, Duration timeout) {
+        return new ReindexJobConfig() {
+            @Override
+            public String request() {
+                return requestYaml;
+            }
+
+            @Override
+            public Duration timeout() {
+                return timeout;
+            }
+
+            @Override
+            public Duration idleTimeout() {
+                return Duration.ZERO;
+            }
+
+            @Override
+            public Duration shardStallTimeout() {
+                return Duration.ZERO;
+            }
+
+            @Override
+            public Duration topologyRefreshInterval() {
+                return Duration.ZERO;
+            }
+
+            @Override
+            public Duration progressLogInterval() {
+                return Duration.ZERO;
+            }
+
+            @Override
+            public Optional<String> summaryFile() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<String> tuningConfigMap() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<Integer> completionIndex() {
+                return Optional.empty();
+            }
+
+            @Override
+            public FlightRecorder flightRecorder() {
+                return new FlightRecorder() {
+                    @Override
+                    public boolean enabled() {
+                        return false;
+                    }
+
+                    @Override
+                    public String dumpDirectory() {
+                        return "/tmp";
+                    }
+
+                    @Override
+                    public Duration maxAge() {
+                        return Duration.ofMinutes(15);
+                    }
+                };
+            }
+
+            @Override
+            public Coordination coordination() {
+                return new Coordination() {
+                    @Override
+                    public Optional<String> configMap() {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    public Optional<String> file() {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    public Optional<String> workerId() {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    public Duration leaseDuration() {
+                        return Duration.ofSeconds(30);
+                    }
+
+                    @Override
+                    public Duration pollInterval() {
+                        return Duration.ofSeconds(2);
+                    }
+
+                    @Override
+                    public long unitDocs() {
+                        return 100_000;
+                    }
+                };
+            }
+
+            @Override
+            public DryRun dryRun() {
+                return new DryRun() {
+                    @Override
+                    public boolean enabled() {
+                        return false;
+                    }
+
+                    @Override
+                    public int samplePages() {
+                        return 3;
+                    }
+
+                    @Override
+                    public Optional<String> probeCollection() {
+                        return Optional.empty();
+                    }
+                };
+            }
+        };
+    }
+}
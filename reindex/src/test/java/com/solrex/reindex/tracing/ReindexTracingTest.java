@@ -0,0 +1,77 @@
+package com.solrex.reindex.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.smallrye.mutiny.Uni;
+import java.io.IOException;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.request.QueryRequest;
+import org.apache.solr.common.params.ModifiableSolrParams;
+import org.junit.jupiter.api.Test;
+
+class ReindexTracingTest {
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final ReindexTracing tracing = new ReindexTracing(OpenTelemetrySdk.builder()
+        .setTracerProvider(SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build())
+        .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+        .build());
+
+    @Test
+    void shouldParentSolrRequestSpanAndPropagateTraceContextInHeaders() {
+        var page = tracing.startRoot(
+            "reindex.cursor_page",
+            SpanKind.INTERNAL,
+            Attributes.of(ReindexTracing.SHARD, "shard1")
+        );
+        var query = tracing.start(
+            "solr.query",
+            SpanKind.CLIENT,
+            page,
+            Attributes.of(ReindexTracing.NODE, "http://solr-a:8983/solr", ReindexTracing.CORE, "source_shard1_replica_n1")
+        );
+        var request = new QueryRequest(new ModifiableSolrParams(), SolrRequest.METHOD.GET);
+
+        tracing.inject(query, request);
+        tracing.endOnTermination(query, Uni.createFrom().item("ok")).await().indefinitely();
+        tracing.endOnTermination(page, Uni.createFrom().item("ok")).await().indefinitely();
+
+        var spans = exporter.getFinishedSpanItems();
+        assertThat(spans).hasSize(2);
+        var querySpan = spans.getFirst();
+        var pageSpan = spans.getLast();
+        assertThat(querySpan.getName()).isEqualTo("solr.query");
+        assertThat(querySpan.getParentSpanId()).isEqualTo(pageSpan.getSpanId());
+        assertThat(querySpan.getTraceId()).isEqualTo(pageSpan.getTraceId());
+        assertThat(querySpan.getAttributes().get(ReindexTracing.CORE)).isEqualTo("source_shard1_replica_n1");
+        assertThat(request.getHeaders())
+            .containsEntry("traceparent", "00-" + querySpan.getTraceId() + "-" + querySpan.getSpanId() + "-01");
+    }
+
+    @Test
+    void shouldMarkSpanAsErrorWhenRequestFails() {
+        var span = tracing.startRoot(
+            "solr.update",
+            SpanKind.CLIENT,
+            Attributes.of(ReindexTracing.COLLECTION, "target_collection")
+        );
+
+        tracing.endOnTermination(span, Uni.createFrom().failure(new IOException("connection reset")))
+            .onFailure().recoverWithNull()
+            .await().indefinitely();
+
+        var finished = exporter.getFinishedSpanItems().getFirst();
+        assertThat(finished.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(finished.getEvents()).extracting(event -> event.getName()).containsExactly("exception");
+    }
+}
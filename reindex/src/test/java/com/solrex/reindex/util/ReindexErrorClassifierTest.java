@@ -3,6 +3,7 @@ package com.solrex.reindex.util;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.util.concurrent.CompletionException;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.common.SolrException;
@@ -29,4 +30,19 @@ class ReindexErrorClassifierTest {
 
         assertThat(ReindexErrorClassifier.isRetryable(failure)).isFalse();
     }
+
+    @Test
+    void shouldCategorizeFailuresForRetryMetrics() {
+        assertThat(ReindexErrorClassifier.category(
+            new CompletionException(new SolrServerException("request failed", new ConnectException("down")))
+        )).isEqualTo("connect");
+        assertThat(ReindexErrorClassifier.category(new SocketTimeoutException("slow"))).isEqualTo("timeout");
+        assertThat(ReindexErrorClassifier.category(
+            new SolrException(SolrException.ErrorCode.TOO_MANY_REQUESTS, "busy")
+        )).isEqualTo("throttled");
+        assertThat(ReindexErrorClassifier.category(
+            new SolrException(SolrException.ErrorCode.SERVICE_UNAVAILABLE, "down")
+        )).isEqualTo("server_error");
+        assertThat(ReindexErrorClassifier.category(new IllegalStateException("boom"))).isEqualTo("other");
+    }
 }
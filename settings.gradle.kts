@@ -6,6 +6,7 @@ pluginManagement {
 
     plugins {
         id("io.quarkus") version "3.15.2"
+        id("me.champeau.jmh") version "0.7.2"
     }
 }
 
@@ -14,3 +15,4 @@ rootProject.name = "solrex"
 include(":reindex")
 include(":reindex-common")
 include(":reindex-api")
+include(":reindex-bench")